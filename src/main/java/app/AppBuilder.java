@@ -1,5 +1,6 @@
 package app;
 
+import data_access.outfit_suggestion.PrefetchingOutfitSuggestionDataAccessObject;
 import data_access.user_storage.UserSession;
 import entity.User;
 import view.LoginPanel;
@@ -27,6 +28,9 @@ public class AppBuilder {
                 User currentUser = UserSession.getInstance().getCurrentUser();
                 System.out.println("Login successful! Current user: " + currentUser.getName());
 
+                // Start the forecast and a first suggestion now, so the first click is usually instant
+                PrefetchingOutfitSuggestionDataAccessObject.getInstance().prefetch(currentUser);
+
                 // Build and show the main application frame
                 JFrame mainAppFrame = buildMainApplicationFrame(currentUser);
                 mainAppFrame.setVisible(true);
@@ -61,6 +65,7 @@ public class AppBuilder {
         weatherPanel.setOnLogout(() -> {
             // Clear user session
             UserSession.getInstance().clearSession();
+            PrefetchingOutfitSuggestionDataAccessObject.getInstance().clear();
 
             // Close main app frame
             frame.dispose();
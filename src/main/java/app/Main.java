@@ -1,14 +1,22 @@
 package app;
 
 import javax.swing.*;
+import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Main entry point for the application.
  * Uses AppBuilder pattern to construct the application.
+ * With {@code --headless} it starts the HTTP server ({@link ServerMain}) instead of the Swing app.
  */
 public class Main {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (Arrays.asList(args).contains("--headless")) {
+            ServerMain.main(args);
+            return;
+        }
+
         AppBuilder appBuilder = new AppBuilder();
         JFrame application = appBuilder
                 .addLoginView()
@@ -0,0 +1,53 @@
+package app;
+
+import data_access.multiple_outfit_suggestion.MultipleOutfitSuggestionDataAccessObject;
+import data_access.outfit_image_generation.OutfitImageGenerationDataAccessObject;
+import data_access.outfit_suggestion.CachingOutfitSuggestionDataAccessObject;
+import data_access.purpose.PurposeAccessoryDataAccessObject;
+import data_access.user_storage.SessionRegistry;
+import data_access.user_storage.UserRepositoryProvider;
+import data_access.weather.SharedForecastProvider;
+import interface_adapter.weather.RuleBasedAdviceService;
+import server.WeatherWearServer;
+
+import java.io.IOException;
+
+/**
+ * Headless entry point: serves the use cases over HTTP instead of opening the Swing app.
+ * Start with {@code --headless} on {@link Main}, or run this class directly.
+ * Options: {@code --port=8080}, {@code --threads=64}, {@code --queue=256}.
+ */
+public class ServerMain {
+
+    public static void main(String[] args) throws IOException {
+        int port = intOption(args, "--port=", 8080);
+        int threads = intOption(args, "--threads=", 64);
+        int queue = intOption(args, "--queue=", 256);
+
+        WeatherWearServer server = WeatherWearServer.builder()
+                .port(port)
+                .workers(threads, queue)
+                .sessions(SessionRegistry.getInstance())
+                .users(UserRepositoryProvider.get())
+                .forecasts(SharedForecastProvider.getInstance(), new RuleBasedAdviceService())
+                // Shared cache, no per-session prefetch: that only pays off for the one desktop user
+                .outfits(CachingOutfitSuggestionDataAccessObject.getInstance())
+                .multipleOutfits(new MultipleOutfitSuggestionDataAccessObject())
+                .accessories(new PurposeAccessoryDataAccessObject())
+                .images(OutfitImageGenerationDataAccessObject::new)
+                .build();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(5), "http-shutdown"));
+        server.start();
+        System.out.println("WeatherWear server listening on port " + server.getPort());
+    }
+
+    static int intOption(String[] args, String prefix, int defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return Integer.parseInt(arg.substring(prefix.length()));
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,147 @@
+package data_access.http;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * CallTimingListener: OkHttp EventListener that times the phases of a single call
+ * and reports them to {@link HttpMetrics} when the call ends.
+ * Time to first byte is measured from the end of the request to the first response header,
+ * i.e. how long the server (for Gemini: the model) took to start answering.
+ * Set -Dweatherwear.http.debug=true to also print one line per call to stderr.
+ */
+public class CallTimingListener extends EventListener {
+
+    static final boolean DEBUG = Boolean.getBoolean("weatherwear.http.debug");
+
+    /** Creates one listener per call; all listeners report into the given metrics. */
+    public static EventListener.Factory factory(HttpMetrics metrics) {
+        return call -> new CallTimingListener(metrics);
+    }
+
+    /** Phase durations of one finished call; -1 means the phase did not happen. */
+    static class Timing {
+        long dnsNanos = -1;
+        long connectNanos = -1;
+        long tlsNanos = -1;
+        long timeToFirstByteNanos = -1;
+        long totalNanos = -1;
+        boolean failed;
+    }
+
+    private final HttpMetrics metrics;
+    private final Timing timing = new Timing();
+    private long callStart;
+    private long dnsStart;
+    private long connectStart;
+    private long tlsStart;
+    private long requestEnd;
+
+    CallTimingListener(HttpMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        timing.dnsNanos = System.nanoTime() - dnsStart;
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        tlsStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        timing.tlsNanos = System.nanoTime() - tlsStart;
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        timing.connectNanos = System.nanoTime() - connectStart;
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                              Protocol protocol, IOException ioe) {
+        timing.connectNanos = System.nanoTime() - connectStart;
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, okhttp3.Request request) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        if (requestEnd != 0) {
+            timing.timeToFirstByteNanos = System.nanoTime() - requestEnd;
+        }
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        // Nothing to time here; TTFB was taken when the headers started arriving
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        finish(call, false);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        finish(call, true);
+    }
+
+    @Override
+    public void canceled(Call call) {
+        timing.failed = true;
+    }
+
+    private void finish(Call call, boolean failed) {
+        timing.failed |= failed;
+        timing.totalNanos = System.nanoTime() - callStart;
+        String host = call.request().url().host();
+        metrics.record(host, timing);
+        if (DEBUG) {
+            System.err.printf("HTTP %s %s: dns %s, connect %s, tls %s, ttfb %s, total %s%s%n",
+                    call.request().method(), host,
+                    ms(timing.dnsNanos), ms(timing.connectNanos), ms(timing.tlsNanos),
+                    ms(timing.timeToFirstByteNanos), ms(timing.totalNanos), timing.failed ? " (failed)" : "");
+        }
+    }
+
+    private static String ms(long nanos) {
+        return nanos < 0 ? "-" : String.format("%.1fms", nanos / 1e6);
+    }
+}
@@ -0,0 +1,138 @@
+package data_access.http;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CancellationScope: the HTTP calls made on behalf of one background task, so they can all be
+ * cancelled when the task is. A blocked {@code Call.execute()} does not react to thread
+ * interrupts; only {@link Call#cancel()} frees it.
+ *
+ * The task's thread enters the scope with {@link #enter()}. Every call made through
+ * {@link HttpClientProvider}'s clients on that thread is then registered by {@link #interceptor()}.
+ * Work handed to other threads takes the scope along with {@link #propagate(Runnable)}.
+ * A call started after {@link #cancel()} is cancelled right away. Work shared with other
+ * callers runs under {@link #detach()} so one caller's cancellation cannot fail it for the rest.
+ */
+public final class CancellationScope {
+
+    private static final ThreadLocal<CancellationScope> CURRENT = new ThreadLocal<>();
+    private static final Interceptor INTERCEPTOR = chain -> {
+        CancellationScope scope = CURRENT.get();
+        if (scope == null) return chain.proceed(chain.request());
+        scope.register(chain.call());
+        try {
+            return chain.proceed(chain.request());
+        } finally {
+            scope.unregister(chain.call());
+        }
+    };
+
+    // guarded by this
+    private final List<Call> calls = new ArrayList<>();
+    private volatile boolean cancelled;
+
+    /** The scope of the current thread, or null outside any task. */
+    public static CancellationScope current() {
+        return CURRENT.get();
+    }
+
+    /** Registers calls made on this thread with their scope; installed on every shared client. */
+    static Interceptor interceptor() {
+        return INTERCEPTOR;
+    }
+
+    /**
+     * Wraps work for another thread so its calls belong to the current thread's scope.
+     * Outside any scope the task is returned unchanged.
+     */
+    public static Runnable propagate(Runnable task) {
+        CancellationScope scope = CURRENT.get();
+        if (scope == null) return task;
+        return () -> {
+            CancellationScope previous = CURRENT.get();
+            CURRENT.set(scope);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Makes this the current thread's scope until the returned handle is closed.
+     */
+    public Entered enter() {
+        CancellationScope previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> restore(previous);
+    }
+
+    /**
+     * Leaves the current thread's scope until the returned handle is closed, so calls made
+     * meanwhile are not cancelled with it. Used for work other callers are waiting on.
+     */
+    public static Entered detach() {
+        CancellationScope previous = CURRENT.get();
+        CURRENT.remove();
+        return () -> restore(previous);
+    }
+
+    /**
+     * True for the IOException OkHttp throws when a call was cancelled, as opposed to
+     * a network or server failure.
+     */
+    public static boolean isCancellation(Throwable e) {
+        return e instanceof IOException && "Canceled".equals(e.getMessage());
+    }
+
+    /** Cancels every call in flight and any started later in this scope. */
+    public void cancel() {
+        List<Call> inFlight;
+        synchronized (this) {
+            cancelled = true;
+            inFlight = new ArrayList<>(calls);
+            calls.clear();
+        }
+        for (Call call : inFlight) {
+            call.cancel();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void register(Call call) {
+        synchronized (this) {
+            if (!cancelled) {
+                calls.add(call);
+                return;
+            }
+        }
+        call.cancel();
+    }
+
+    private synchronized void unregister(Call call) {
+        calls.remove(call);
+    }
+
+    private static void restore(CancellationScope previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /** Leaves the scope; no checked exception, for try-with-resources. */
+    public interface Entered extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
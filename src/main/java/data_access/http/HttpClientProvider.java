@@ -0,0 +1,87 @@
+package data_access.http;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpClientProvider: the one OkHttp connection pool and dispatcher for the whole process.
+ * Each endpoint gets its own client view with its own timeouts, but all views share the pool,
+ * dispatcher threads and timing listener, so every panel reuses warm connections
+ * (HTTP/2-multiplexed where the server supports it, e.g. generativelanguage.googleapis.com).
+ */
+public class HttpClientProvider {
+
+    /** Idle connections kept per process, and how long they stay warm. */
+    private static final int MAX_IDLE_CONNECTIONS = 16;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    /** Limits for asynchronous calls; synchronous execute() calls are not queued by OkHttp. */
+    private static final int MAX_REQUESTS = 64;
+    private static final int MAX_REQUESTS_PER_HOST = 8;
+
+    private static final OkHttpClient BASE = buildBase();
+
+    private static final OkHttpClient WEATHER = BASE.newBuilder()
+            .connectTimeout(10, TimeUnit.SECONDS)
+            .readTimeout(10, TimeUnit.SECONDS)
+            .build();
+
+    private static final OkHttpClient GEMINI_TEXT = BASE.newBuilder()
+            .connectTimeout(10, TimeUnit.SECONDS)
+            .readTimeout(60, TimeUnit.SECONDS)
+            .callTimeout(90, TimeUnit.SECONDS)
+            .build();
+
+    private static final OkHttpClient GEMINI_IMAGE = BASE.newBuilder()
+            .connectTimeout(10, TimeUnit.SECONDS)
+            .readTimeout(120, TimeUnit.SECONDS)
+            .callTimeout(180, TimeUnit.SECONDS)
+            .build();
+
+    private static final OkHttpClient SUPABASE = BASE.newBuilder()
+            .connectTimeout(10, TimeUnit.SECONDS)
+            .readTimeout(15, TimeUnit.SECONDS)
+            .build();
+
+    private HttpClientProvider() {
+    }
+
+    /** OpenWeatherMap forecast calls. */
+    public static OkHttpClient weather() {
+        return WEATHER;
+    }
+
+    /** Gemini text generation (outfit, multi-outfit and accessory suggestions). */
+    public static OkHttpClient geminiText() {
+        return GEMINI_TEXT;
+    }
+
+    /** Gemini image generation, which routinely takes tens of seconds. */
+    public static OkHttpClient geminiImage() {
+        return GEMINI_IMAGE;
+    }
+
+    /** Supabase REST calls for user profiles. */
+    public static OkHttpClient supabase() {
+        return SUPABASE;
+    }
+
+    private static OkHttpClient buildBase() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .dispatcher(dispatcher)
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .eventListenerFactory(CallTimingListener.factory(HttpMetrics.getInstance()))
+                // Lets a cancelled background task cancel the calls it is blocked on
+                .addInterceptor(CancellationScope.interceptor())
+                .build();
+    }
+}
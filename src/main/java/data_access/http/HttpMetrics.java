@@ -0,0 +1,106 @@
+package data_access.http;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HttpMetrics: per-host latency breakdown of outgoing HTTP calls (DNS, connect, TLS,
+ * time to first byte, total), fed by {@link CallTimingListener}.
+ * Phases that a call skips, e.g. DNS and TLS on a reused pooled connection, are not counted.
+ */
+public class HttpMetrics {
+
+    private static final HttpMetrics INSTANCE = new HttpMetrics();
+
+    private final Map<String, HostStats> byHost = new ConcurrentHashMap<>();
+
+    public static HttpMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    void record(String host, CallTimingListener.Timing timing) {
+        byHost.computeIfAbsent(host, h -> new HostStats()).add(timing);
+    }
+
+    /** Stats for one host, or null if no call to it has finished yet. */
+    public HostStats getHostStats(String host) {
+        return byHost.get(host);
+    }
+
+    public void reset() {
+        byHost.clear();
+    }
+
+    /** One line per host, e.g. for printing on exit or from a debug menu. */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, HostStats> e : new TreeMap<>(byHost).entrySet()) {
+            sb.append(e.getKey()).append(": ").append(e.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Running totals for one phase of a call. */
+    public static class Phase {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        void add(long nanos) {
+            if (nanos < 0) return;
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        public long getCount() { return count.sum(); }
+
+        public double getAverageMillis() {
+            long n = count.sum();
+            return n == 0 ? 0.0 : totalNanos.sum() / 1e6 / n;
+        }
+    }
+
+    public static class HostStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final AtomicLong maxTotalNanos = new AtomicLong();
+        private final Phase dns = new Phase();
+        private final Phase connect = new Phase();
+        private final Phase tls = new Phase();
+        private final Phase timeToFirstByte = new Phase();
+        private final Phase total = new Phase();
+
+        void add(CallTimingListener.Timing t) {
+            calls.increment();
+            if (t.failed) failures.increment();
+            dns.add(t.dnsNanos);
+            connect.add(t.connectNanos);
+            tls.add(t.tlsNanos);
+            timeToFirstByte.add(t.timeToFirstByteNanos);
+            total.add(t.totalNanos);
+            maxTotalNanos.accumulateAndGet(t.totalNanos, Math::max);
+        }
+
+        public long getCalls() { return calls.sum(); }
+        public long getFailures() { return failures.sum(); }
+        public Phase getDns() { return dns; }
+        public Phase getConnect() { return connect; }
+        public Phase getTls() { return tls; }
+        public Phase getTimeToFirstByte() { return timeToFirstByte; }
+        public Phase getTotal() { return total; }
+        public double getMaxTotalMillis() { return maxTotalNanos.get() / 1e6; }
+
+        @Override
+        public String toString() {
+            return String.format("%d calls (%d failed), avg dns %.1fms x%d, connect %.1fms x%d, "
+                            + "tls %.1fms x%d, ttfb %.1fms, total %.1fms, max %.1fms",
+                    getCalls(), getFailures(),
+                    dns.getAverageMillis(), dns.getCount(),
+                    connect.getAverageMillis(), connect.getCount(),
+                    tls.getAverageMillis(), tls.getCount(),
+                    timeToFirstByte.getAverageMillis(), total.getAverageMillis(), getMaxTotalMillis());
+        }
+    }
+}
@@ -1,66 +1,85 @@
 package data_access.multiple_outfit_suggestion;
 
-import data_access.weather.WeatherAPIConfig;
-import data_access.outfit_suggestion.GeminiConfig;
+import data_access.weather.SharedForecastProvider;
+import data_access.outfit_suggestion.GeminiBatcher;
+import entity.ClothingItem;
 import entity.User;
 import entity.DailyForecast;
 import entity.ForecastSlot;
 import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionDataAccessInterface;
-import okhttp3.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import use_case.weather.ForecastProvider;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Data Access Object for Multiple Outfit Suggestion Use Case.
  * Handles calling the Weather API and Gemini AI for generating multiple outfit suggestions.
+ *
+ * In parallel mode (the default) a request for several outfits is sent as one single-outfit
+ * request per outfit, all at once, so the wait is about that of one outfit rather than growing
+ * with the number asked for. Each request gets its own style direction and anchor item to keep
+ * the outfits apart; near-duplicates are asked again once with the items already used to avoid.
  */
 public class MultipleOutfitSuggestionDataAccessObject implements MultipleOutfitSuggestionDataAccessInterface {
 
-    private final OkHttpClient client;
-    private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
+    private final ForecastProvider forecastProvider;
+    private final GeminiBatcher batcher;
+    private final boolean parallel;
 
-    // API URLs
-    private static final String WEATHER_API_BASE = "https://api.openweathermap.org/data/2.5/forecast";
-    private static final String GEMINI_API_BASE = "https://generativelanguage.googleapis.com/v1/models/gemini-2.5-flash-lite:generateContent";
+    /** A little over the Gemini client's call timeout, so a hung batch still fails here. */
+    private static final long ANSWER_TIMEOUT_SECONDS = 100;
+
+    /** Outfits sharing at least this fraction of their items count as the same outfit. */
+    static final double DUPLICATE_SIMILARITY = 0.75;
+
+    /** One per parallel request; past the end they repeat as numbered variations. */
+    static final String[] DIRECTIONS = {
+            "relaxed everyday",
+            "smart and polished",
+            "sporty and active",
+            "layered for changing weather",
+            "minimal and lightweight",
+            "bold, built around one statement piece",
+    };
+
+    private static final Pattern OUTFIT_LABEL =
+            Pattern.compile("^\\s*\\**\\s*Outfit\\s*\\d*\\s*\\**\\s*:\\s*\\**", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ITEM_SEPARATOR =
+            Pattern.compile("\\s*(?:,|;|\\+|/|\\band\\b|\\bwith\\b)\\s*", Pattern.CASE_INSENSITIVE);
 
     public MultipleOutfitSuggestionDataAccessObject() {
-        this.client = new OkHttpClient();
+        this(GeminiBatcher.getInstance());
+    }
+
+    public MultipleOutfitSuggestionDataAccessObject(GeminiBatcher batcher) {
+        this(batcher, true);
+    }
+
+    /**
+     * @param parallel true to send one request per outfit at once, false to ask for all outfits in one answer
+     */
+    public MultipleOutfitSuggestionDataAccessObject(GeminiBatcher batcher, boolean parallel) {
+        this.forecastProvider = SharedForecastProvider.getInstance();
+        this.batcher = batcher;
+        this.parallel = parallel;
     }
 
     @Override
     public DailyForecast getWeatherForecast(String location) {
         try {
-            // Build URL with location and API key
-            String url = WEATHER_API_BASE +
-                    "?q=" + location +
-                    "&appid=" + WeatherAPIConfig.API_KEY +
-                    "&units=metric" +
-                    "&cnt=8";
-
-            Request request = new Request.Builder()
-                    .url(url)
-                    .get()
-                    .build();
-
-            try (Response response = client.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    System.err.println("Weather API failed: " + response.code());
-                    return null;
-                }
-
-                if (response.body() == null) {
-                    System.err.println("Weather API returned empty body");
-                    return null;
-                }
-
-                String responseBody = response.body().string();
-                return parseWeatherResponse(responseBody, location);
-            }
+            // Shared decoded forecast: the weather panel and both suggestion flows use one fetch and one parse
+            return forecastProvider.getUpcomingForecast(location, 4);
 
         } catch (Exception e) {
             System.err.println("Error fetching weather: " + e.getMessage());
@@ -71,41 +90,21 @@ public class MultipleOutfitSuggestionDataAccessObject implements MultipleOutfitS
 
     @Override
     public List<String> generateMultipleOutfitSuggestions(User user, DailyForecast forecast, int numberOfSuggestions) {
+        if (parallel && numberOfSuggestions > 1) {
+            return generateInParallel(user, forecast, numberOfSuggestions, null);
+        }
         try {
-            // Create the prompt for AI with variable number of suggestions
-            String prompt = buildPrompt(user, forecast, numberOfSuggestions);
-
-            // Convert to JSON
-            String jsonBody = buildGeminiRequest(prompt);
-
-            // Call Gemini API
-            String url = GEMINI_API_BASE + "?key=" + GeminiConfig.API_KEY;
-
-            RequestBody body = RequestBody.create(jsonBody, JSON_MEDIA_TYPE);
-            Request request = new Request.Builder()
-                    .url(url)
-                    .post(body)
-                    .addHeader("Content-Type", "application/json")
-                    .build();
-
-            try (Response response = client.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    System.err.println("Gemini API failed: " + response.code());
-                    if (response.body() != null) {
-                        System.err.println("Response: " + response.body().string());
-                    }
-                    return null;
-                }
-
-                if (response.body() == null) {
-                    System.err.println("Gemini API returned empty body");
-                    return null;
-                }
+            // The instruction only depends on the number of outfits, so users asking for
+            // the same number can share one Gemini call through the batcher
+            String instruction = buildInstruction(numberOfSuggestions);
+            String context = buildContext(user, forecast);
 
-                String responseBody = response.body().string();
-                return parseGeminiResponse(responseBody);
-            }
+            String text = batcher.submit(instruction, context).get(ANSWER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return splitOutfits(text);
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         } catch (Exception e) {
             System.err.println("Error generating outfit suggestions: " + e.getMessage());
             e.printStackTrace();
@@ -113,105 +112,218 @@ public class MultipleOutfitSuggestionDataAccessObject implements MultipleOutfitS
         }
     }
 
-    /**
-     * Parse weather JSON response into DailyForecast object.
-     */
-    private DailyForecast parseWeatherResponse(String responseBody, String city) {
+    @Override
+    public List<String> generateMultipleOutfitSuggestions(User user, DailyForecast forecast,
+                                                          int numberOfSuggestions, Consumer<String> onDelta) {
+        if (parallel && numberOfSuggestions > 1) {
+            // Each outfit is reported whole as soon as its own request finishes
+            return generateInParallel(user, forecast, numberOfSuggestions, onDelta);
+        }
         try {
-            JSONObject json = new JSONObject(responseBody);
-            JSONArray list = json.getJSONArray("list");
-
-            List<ForecastSlot> slots = new ArrayList<>();
-
-            // Get first 4 time slots (next 12 hours)
-            for (int i = 0; i < Math.min(4, list.length()); i++) {
-                JSONObject item = list.getJSONObject(i);
-
-                // Get temperature data
-                JSONObject main = item.getJSONObject("main");
-                double temp = main.getDouble("temp");
-                double feelsLike = main.optDouble("feels_like", temp);
-
-                // Get weather description
-                JSONArray weather = item.getJSONArray("weather");
-                String description = weather.getJSONObject(0).getString("description");
-                String iconCode = weather.getJSONObject(0).getString("icon");
-
-                // Get wind
-                JSONObject wind = item.optJSONObject("wind");
-                double windSpeed = wind != null ? wind.optDouble("speed", 0.0) : 0.0;
-
-                // Chance of rain
-                double precipProb = item.optDouble("pop", 0.0);
-
-                // Label it like "now" or "in 3 hours"
-                String timeLabel = getTimeLabel(i);
-
-                ForecastSlot slot = new ForecastSlot(
-                        timeLabel,
-                        temp,
-                        description,
-                        iconCode,
-                        precipProb,
-                        windSpeed,
-                        feelsLike
-                );
-
-                slots.add(slot);
-            }
-
-            return new DailyForecast(city, LocalDate.now(), slots);
+            // Streamed on its own: a batched answer can't be shown until all of it is in
+            String text = batcher.stream(buildInstruction(numberOfSuggestions), buildContext(user, forecast), onDelta);
+            return splitOutfits(text);
 
         } catch (Exception e) {
-            System.err.println("Error parsing weather response: " + e.getMessage());
+            System.err.println("Error streaming outfit suggestions: " + e.getMessage());
             e.printStackTrace();
             return null;
         }
     }
 
     /**
-     * Build the prompt to send to Gemini AI for multiple outfit suggestions.
+     * Send one single-outfit request per suggestion at once and merge the answers as they arrive.
+     * @param onDelta receives each accepted outfit as soon as it is in, or null
+     * @return the accepted outfits in the order they finished, or null if none came back
+     */
+    private List<String> generateInParallel(User user, DailyForecast forecast, int numberOfSuggestions,
+                                            Consumer<String> onDelta) {
+        String context = buildContext(user, forecast);
+        List<String> owned = ownedItems(user);
+        OutfitCollector collector = new OutfitCollector(onDelta);
+
+        CompletableFuture<?>[] requests = new CompletableFuture<?>[numberOfSuggestions];
+        for (int i = 0; i < numberOfSuggestions; i++) {
+            // The direction goes in the instruction so the batcher never folds these back into
+            // one sequential answer; the anchor item is this user's own data
+            String instruction = buildSingleInstruction(i);
+            String input = owned.isEmpty()
+                    ? context
+                    : context + "\nBuild this outfit around: " + owned.get(i % owned.size()) + "\n";
+            requests[i] = batcher.submit(instruction, input)
+                    .thenCompose(text -> {
+                        if (collector.offer(text)) {
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        // Too close to one we already have: ask once more, steering away from it
+                        return batcher.submit(instruction, input + avoidHint(collector.usedItems()))
+                                .thenAccept(collector::offer);
+                    })
+                    .exceptionally(e -> {
+                        System.err.println("Error generating one outfit suggestion: " + e.getMessage());
+                        return null;
+                    });
+        }
+
+        try {
+            CompletableFuture.allOf(requests).get(ANSWER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            System.err.println("Outfit suggestions timed out; returning the ones that finished");
+        } catch (Exception e) {
+            // Each request handles its own failure, so this is not expected
+            System.err.println("Error generating outfit suggestions: " + e.getMessage());
+        }
+
+        List<String> suggestions = collector.close();
+        return suggestions.isEmpty() ? null : suggestions;
+    }
+
+    /**
+     * Instruction for one outfit in a given style direction.
      */
-    private String buildPrompt(User user, DailyForecast forecast, int numberOfSuggestions) {
+    static String buildSingleInstruction(int slot) {
         StringBuilder prompt = new StringBuilder();
 
-        prompt.append("You are a personal fashion stylist. Generate ")
-              .append(numberOfSuggestions)
-              .append(" DIFFERENT outfit suggestions based on:\n\n");
+        prompt.append("You are a personal fashion stylist. Suggest ONE outfit for the user described below, ")
+              .append("based on their profile, clothing preferences and current weather.\n\n");
 
-        // User info
-        prompt.append("User Profile:\n");
-        prompt.append("- Gender: ").append(user.getGender()).append("\n");
-        prompt.append("- Location: ").append(user.getLocation()).append("\n");
+        prompt.append("Give this outfit a ").append(DIRECTIONS[slot % DIRECTIONS.length]).append(" direction.");
+        if (slot >= DIRECTIONS.length) {
+            prompt.append(" This is variation ").append(slot / DIRECTIONS.length + 1)
+                  .append(" of that direction, so pick different pieces than the obvious choice.");
+        }
+        prompt.append("\n");
+        prompt.append("1. List specific clothing items from their preferences\n");
+        prompt.append("2. Explain why it's suitable for the weather\n");
+        prompt.append("3. Keep it practical and comfortable\n\n");
+        prompt.append("Format the outfit as:\nOutfit: [clothing items, separated by commas]\nWhy: [brief explanation]\n");
 
-        // Clothing preferences
-        prompt.append("\nClothing Preferences (items they own/like):\n");
-        Map<String, Boolean> style = user.getStyle();
-        if (style != null && !style.isEmpty()) {
-            for (Map.Entry<String, Boolean> entry : style.entrySet()) {
-                if (entry.getValue()) {
-                    prompt.append("- ").append(entry.getKey()).append("\n");
+        return prompt.toString();
+    }
+
+    private static String avoidHint(Set<String> usedItems) {
+        return "\nOther suggestions already use: " + String.join(", ", usedItems)
+                + ". Do not use these items again unless nothing else suits the weather.\n";
+    }
+
+    private static List<String> ownedItems(User user) {
+        List<String> owned = new ArrayList<>();
+        for (ClothingItem item : user.getStyleSet().items()) {
+            owned.add(item.getLabel());
+        }
+        return owned;
+    }
+
+    /**
+     * The clothing items named on an outfit's first line, lower-cased.
+     */
+    static Set<String> itemsOf(String outfit) {
+        String firstLine = outfit.trim().split("\n", 2)[0];
+        Matcher label = OUTFIT_LABEL.matcher(firstLine);
+        if (label.find()) {
+            firstLine = firstLine.substring(label.end());
+        }
+
+        Set<String> items = new HashSet<>();
+        for (String item : ITEM_SEPARATOR.split(firstLine)) {
+            String normalized = item.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N} -]", "").trim();
+            if (!normalized.isEmpty()) {
+                items.add(normalized);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Shared item fraction (Jaccard) of two outfits' item sets.
+     */
+    static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        Set<String> shared = new HashSet<>(a);
+        shared.retainAll(b);
+        return (double) shared.size() / (a.size() + b.size() - shared.size());
+    }
+
+    /**
+     * Renumber the outfit label to its place in the merged list.
+     */
+    static String relabel(String outfit, int number) {
+        String trimmed = outfit.trim();
+        Matcher label = OUTFIT_LABEL.matcher(trimmed);
+        if (label.find()) {
+            return "Outfit " + number + ": " + trimmed.substring(label.end()).trim();
+        }
+        return "Outfit " + number + ": " + trimmed;
+    }
+
+    /**
+     * Merges single-outfit answers as they finish: drops blanks and near-duplicates, numbers the
+     * rest in arrival order and reports each one. Answers arriving after {@link #close()} are ignored.
+     */
+    static class OutfitCollector {
+        private final Consumer<String> onDelta;
+        private final List<String> accepted = new ArrayList<>();
+        private final List<Set<String>> acceptedItems = new ArrayList<>();
+        private boolean closed;
+
+        OutfitCollector(Consumer<String> onDelta) {
+            this.onDelta = onDelta;
+        }
+
+        /**
+         * @return false if the answer was a near-duplicate of one already accepted
+         */
+        synchronized boolean offer(String text) {
+            if (closed || text == null || text.isBlank()) {
+                return true;
+            }
+            Set<String> items = itemsOf(text);
+            for (Set<String> other : acceptedItems) {
+                if (similarity(items, other) >= DUPLICATE_SIMILARITY) {
+                    return false;
                 }
             }
+
+            String outfit = relabel(text, accepted.size() + 1);
+            accepted.add(outfit);
+            acceptedItems.add(items);
+            if (onDelta != null) {
+                // Same separator the whole-text default uses between outfits
+                onDelta.accept(accepted.size() == 1 ? outfit : "\n\n" + outfit);
+            }
+            return true;
         }
 
-        // Current weather
-        prompt.append("\nWeather Conditions in ").append(forecast.getCity()).append(":\n");
-        if (!forecast.getSlots().isEmpty()) {
-            ForecastSlot firstSlot = forecast.getSlots().get(0);
-            prompt.append("- Temperature: ").append(String.format("%.1f", firstSlot.getTemperature())).append("°C\n");
-            prompt.append("- Feels like: ").append(String.format("%.1f", firstSlot.getFeelsLike())).append("°C\n");
-            prompt.append("- Conditions: ").append(firstSlot.getDescription()).append("\n");
-            prompt.append("- Wind: ").append(String.format("%.1f", firstSlot.getWindSpeed())).append(" m/s\n");
-            if (firstSlot.getPrecipProbability() != null && firstSlot.getPrecipProbability() > 0) {
-                prompt.append("- Precipitation chance: ")
-                      .append(String.format("%.0f", firstSlot.getPrecipProbability() * 100))
-                      .append("%\n");
+        synchronized Set<String> usedItems() {
+            Set<String> used = new TreeSet<>();
+            for (Set<String> items : acceptedItems) {
+                used.addAll(items);
             }
+            return used;
         }
 
-        // Instructions for AI
-        prompt.append("\nProvide ").append(numberOfSuggestions)
+        synchronized List<String> close() {
+            closed = true;
+            return new ArrayList<>(accepted);
+        }
+    }
+
+    /**
+     * Build the shared instruction for multiple outfit suggestions.
+     */
+    private String buildInstruction(int numberOfSuggestions) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("You are a personal fashion stylist. Generate ")
+              .append(numberOfSuggestions)
+              .append(" DIFFERENT outfit suggestions for the user described below, based on their ")
+              .append("profile, clothing preferences and current weather.\n\n");
+
+        prompt.append("Provide ").append(numberOfSuggestions)
               .append(" DIFFERENT outfit suggestions. Each outfit should be DISTINCT and offer variety ");
         prompt.append("in style, formality, or occasion. For each outfit:\n");
         prompt.append("1. List specific clothing items from their preferences\n");
@@ -224,85 +336,68 @@ public class MultipleOutfitSuggestionDataAccessObject implements MultipleOutfitS
     }
 
     /**
-     * Format prompt into Gemini's expected JSON structure.
+     * Describe this user and their weather for Gemini.
      */
-    private String buildGeminiRequest(String prompt) {
-        JSONObject request = new JSONObject();
-
-        JSONArray contents = new JSONArray();
-        JSONObject content = new JSONObject();
+    private String buildContext(User user, DailyForecast forecast) {
+        StringBuilder prompt = new StringBuilder();
 
-        JSONArray parts = new JSONArray();
-        JSONObject part = new JSONObject();
-        part.put("text", prompt);
-        parts.put(part);
+        // User info
+        prompt.append("User Profile:\n");
+        prompt.append("- Gender: ").append(user.getGender()).append("\n");
+        prompt.append("- Location: ").append(user.getLocation()).append("\n");
 
-        content.put("parts", parts);
-        contents.put(content);
+        // Clothing preferences
+        prompt.append("\nClothing Preferences (items they own/like):\n");
+        for (ClothingItem item : user.getStyleSet().items()) {
+            prompt.append("- ").append(item.getLabel()).append("\n");
+        }
 
-        request.put("contents", contents);
+        // Current weather
+        prompt.append("\nWeather Conditions in ").append(forecast.getCity()).append(":\n");
+        if (!forecast.getSlots().isEmpty()) {
+            ForecastSlot firstSlot = forecast.getSlots().get(0);
+            prompt.append("- Temperature: ").append(String.format("%.1f", firstSlot.getTemperature())).append("°C\n");
+            if (firstSlot.hasFeelsLike()) {
+                prompt.append("- Feels like: ").append(String.format("%.1f", firstSlot.getFeelsLike())).append("°C\n");
+            }
+            prompt.append("- Conditions: ").append(firstSlot.getDescription()).append("\n");
+            if (firstSlot.hasWindSpeed()) {
+                prompt.append("- Wind: ").append(String.format("%.1f", firstSlot.getWindSpeed())).append(" m/s\n");
+            }
+            if (firstSlot.getPrecipProbability() > 0) {
+                prompt.append("- Precipitation chance: ")
+                      .append(String.format("%.0f", firstSlot.getPrecipProbability() * 100))
+                      .append("%\n");
+            }
+        }
 
-        return request.toString();
+        return prompt.toString();
     }
 
     /**
-     * Parse outfit suggestions from Gemini's response.
+     * Split Gemini's answer into separate outfits.
      */
-    private List<String> parseGeminiResponse(String responseBody) {
-        try {
-            JSONObject json = new JSONObject(responseBody);
-
-            JSONArray candidates = json.getJSONArray("candidates");
-            if (candidates.length() == 0) {
-                return null;
-            }
-
-            JSONObject firstCandidate = candidates.getJSONObject(0);
-            JSONObject content = firstCandidate.getJSONObject("content");
-            JSONArray parts = content.getJSONArray("parts");
-
-            if (parts.length() == 0) {
-                return null;
-            }
-
-            String text = parts.getJSONObject(0).getString("text");
-
-            // Split into separate outfits
-            List<String> suggestions = new ArrayList<>();
-            String[] lines = text.split("\n\n");
+    static List<String> splitOutfits(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
 
-            StringBuilder currentOutfit = new StringBuilder();
-            for (String line : lines) {
-                if (line.trim().startsWith("Outfit ") && currentOutfit.length() > 0) {
-                    suggestions.add(currentOutfit.toString().trim());
-                    currentOutfit = new StringBuilder();
-                }
-                currentOutfit.append(line).append("\n");
-            }
+        List<String> suggestions = new ArrayList<>();
+        String[] lines = text.split("\n\n");
 
-            if (currentOutfit.length() > 0) {
+        StringBuilder currentOutfit = new StringBuilder();
+        for (String line : lines) {
+            if (line.trim().startsWith("Outfit ") && currentOutfit.length() > 0) {
                 suggestions.add(currentOutfit.toString().trim());
+                currentOutfit = new StringBuilder();
             }
-
-            return suggestions.isEmpty() ? List.of(text) : suggestions;
-
-        } catch (Exception e) {
-            System.err.println("Error parsing Gemini response: " + e.getMessage());
-            e.printStackTrace();
-            return null;
+            currentOutfit.append(line).append("\n");
         }
-    }
 
-    /**
-     * Generate time labels for forecast slots.
-     */
-    private String getTimeLabel(int slotIndex) {
-        switch (slotIndex) {
-            case 0: return "Now";
-            case 1: return "In 3 hours";
-            case 2: return "In 6 hours";
-            case 3: return "In 9 hours";
-            default: return "Later";
+        if (currentOutfit.length() > 0) {
+            suggestions.add(currentOutfit.toString().trim());
         }
+
+        return suggestions.isEmpty() ? List.of(text) : suggestions;
     }
 }
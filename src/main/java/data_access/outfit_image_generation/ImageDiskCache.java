@@ -0,0 +1,227 @@
+package data_access.outfit_image_generation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ImageDiskCache: persistent, content-addressed store for generated images.
+ *
+ * Images are keyed by the SHA-256 of the normalized prompt and stored as decoded PNG bytes
+ * under {@code root/<first two hex chars>/<key>.png}. An index file records the entries in
+ * least-recently-used order with their sizes; once the total passes {@code maxBytes} the
+ * oldest entries are deleted. Hits are read through a memory-mapped channel. Recency from hits
+ * is written back every {@link #FLUSH_EVERY_HITS} hits and, for the shared instance, at JVM
+ * shutdown, so a restart evicts by use rather than by insertion order.
+ *
+ * The cache is best effort: any I/O problem is treated as a miss and never reaches the caller.
+ */
+public class ImageDiskCache {
+
+    /** Default location; override with -Dweatherwear.image.cache.dir=... */
+    static final String DIR_PROPERTY = "weatherwear.image.cache.dir";
+    static final long DEFAULT_MAX_BYTES = 200L * 1024 * 1024;
+    /** Hits after which the index is rewritten to record their recency. */
+    static final int FLUSH_EVERY_HITS = 16;
+    private static final String INDEX_FILE = "index";
+
+    private static ImageDiskCache instance;
+
+    private final Path root;
+    private final long maxBytes;
+    // key -> size in bytes, eldest first; guarded by this
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    private boolean indexDirty;
+    private int unsavedHits;
+
+    public ImageDiskCache(Path root, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.root = root;
+        this.maxBytes = maxBytes;
+        loadIndex();
+    }
+
+    /** Shared cache in the user's home directory, or wherever -Dweatherwear.image.cache.dir points. */
+    public static synchronized ImageDiskCache getInstance() {
+        if (instance == null) {
+            String dir = System.getProperty(DIR_PROPERTY);
+            Path root = dir != null
+                    ? Paths.get(dir)
+                    : Paths.get(System.getProperty("user.home"), ".weatherwear", "image-cache");
+            ImageDiskCache cache = new ImageDiskCache(root, DEFAULT_MAX_BYTES);
+            Runtime.getRuntime().addShutdownHook(new Thread(cache::flush, "image-cache-flush"));
+            instance = cache;
+        }
+        return instance;
+    }
+
+    /**
+     * Cache key for a prompt: the hex SHA-256 of the prompt with whitespace collapsed and
+     * case folded, so cosmetic differences in the outfit text still hit.
+     */
+    public static String keyFor(String prompt) {
+        String normalized = prompt.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(normalized.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return a read-only view of the cached image bytes, or null on a miss
+     */
+    public ByteBuffer get(String key) {
+        synchronized (this) {
+            if (index.get(key) == null) return null;
+            indexDirty = true;
+            if (++unsavedHits >= FLUSH_EVERY_HITS) writeIndex();
+        }
+        try (FileChannel channel = FileChannel.open(pathFor(key), StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            // Deleted behind our back; forget it
+            remove(key);
+            return null;
+        }
+    }
+
+    public void put(String key, byte[] imageBytes) {
+        put(key, ByteBuffer.wrap(imageBytes));
+    }
+
+    /** Stores the remaining image bytes under key, evicting least recently used entries past the size cap. */
+    public void put(String key, ByteBuffer imageBytes) {
+        long length = imageBytes.remaining();
+        if (length > maxBytes) return;
+        Path target = pathFor(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), key, ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                while (imageBytes.hasRemaining()) {
+                    channel.write(imageBytes);
+                }
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        synchronized (this) {
+            Long previous = index.put(key, length);
+            totalBytes += length - (previous == null ? 0 : previous);
+            evictOverflow();
+            writeIndex();
+        }
+    }
+
+    /** Persists the current recency order, e.g. before shutdown. */
+    public synchronized void flush() {
+        if (indexDirty) writeIndex();
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized void remove(String key) {
+        Long size = index.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+            indexDirty = true;
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            try {
+                Files.deleteIfExists(pathFor(eldest.getKey()));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            totalBytes -= eldest.getValue();
+            it.remove();
+        }
+    }
+
+    private Path pathFor(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key + ".png");
+    }
+
+    /** Index format: one "key size" line per entry, least recently used first. */
+    private void loadIndex() {
+        Path file = root.resolve(INDEX_FILE);
+        if (!Files.isRegularFile(file)) return;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ");
+                if (parts.length != 2 || parts[0].length() < 2) continue;
+                String key = parts[0];
+                if (!Files.isRegularFile(pathFor(key))) continue;
+                long size = Long.parseLong(parts[1]);
+                index.put(key, size);
+                totalBytes += size;
+            }
+        } catch (IOException | NumberFormatException e) {
+            // A corrupt index only costs us the cached images it pointed to
+            index.clear();
+            totalBytes = 0;
+        }
+        evictOverflow();
+    }
+
+    private void writeIndex() {
+        try {
+            Files.createDirectories(root);
+            Path tmp = root.resolve(INDEX_FILE + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Long> e : index.entrySet()) {
+                    writer.write(e.getKey());
+                    writer.write(' ');
+                    writer.write(Long.toString(e.getValue()));
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, root.resolve(INDEX_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            indexDirty = false;
+            unsavedHits = 0;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
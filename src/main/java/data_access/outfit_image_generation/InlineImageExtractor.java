@@ -0,0 +1,133 @@
+package data_access.outfit_image_generation;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * InlineImageExtractor: pulls the first inline image out of a Gemini generateContent response
+ * while the body is still streaming. It scans the JSON bytes for the first member named "data"
+ * with a string value (the inlineData payload) and pipes that string through a base64
+ * decoder into a byte buffer, so the multi-megabyte base64 text is never held as a String.
+ *
+ * Text parts and every other member are skipped byte by byte; only short member names are
+ * buffered to recognise the key.
+ */
+class InlineImageExtractor {
+
+    private static final byte[] DATA_KEY = {'d', 'a', 't', 'a'};
+
+    private InlineImageExtractor() {
+    }
+
+    /**
+     * @return the decoded image bytes, or null if the response has no inline image
+     * @throws IOException if the body cannot be read or the image is not valid base64
+     */
+    static ByteBuffer extract(InputStream body) throws IOException {
+        InputStream in = body instanceof BufferedInputStream ? body : new BufferedInputStream(body, 16 * 1024);
+        byte[] name = new byte[DATA_KEY.length + 1];
+
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c != '"') continue;
+
+            // Read a string, keeping only its first few bytes
+            int len = 0;
+            while ((c = in.read()) != -1 && c != '"') {
+                if (c == '\\') {
+                    in.read();
+                    len = name.length; // escaped names are never "data"
+                } else if (len < name.length) {
+                    name[len++] = (byte) c;
+                }
+            }
+            if (c == -1) return null;
+
+            c = skipWhitespace(in);
+            if (c != ':') {
+                // It was a value, not a member name; the byte we consumed is a separator
+                continue;
+            }
+            if (!isDataKey(name, len)) continue;
+
+            c = skipWhitespace(in);
+            if (c == '"') {
+                return decodeString(in);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDataKey(byte[] name, int len) {
+        if (len != DATA_KEY.length) return false;
+        for (int i = 0; i < len; i++) {
+            if (name[i] != DATA_KEY[i]) return false;
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(InputStream in) throws IOException {
+        int c;
+        do {
+            c = in.read();
+        } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+        return c;
+    }
+
+    private static ByteBuffer decodeString(InputStream in) throws IOException {
+        ExposedBuffer out = new ExposedBuffer();
+        try (InputStream decoder = Base64.getDecoder().wrap(new JsonStringStream(in))) {
+            decoder.transferTo(out);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Inline image is not valid base64", e);
+        }
+        return out.toByteBuffer();
+    }
+
+    /** Bytes of one JSON string value, ending at its closing quote; handles the \/ escape. */
+    private static class JsonStringStream extends InputStream {
+        private final InputStream in;
+        private boolean done;
+
+        JsonStringStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (done) return -1;
+            int c = in.read();
+            if (c == '\\') c = in.read();
+            else if (c == '"') c = -1;
+            if (c == -1) done = true;
+            return c;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return 0;
+            int n = 0;
+            while (n < len) {
+                int c = read();
+                if (c == -1) break;
+                b[off + n++] = (byte) c;
+            }
+            return n == 0 ? -1 : n;
+        }
+    }
+
+    /** Lets the decoded bytes be handed on without the copy toByteArray() makes. */
+    private static class ExposedBuffer extends ByteArrayOutputStream {
+        ExposedBuffer() {
+            super(64 * 1024);
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
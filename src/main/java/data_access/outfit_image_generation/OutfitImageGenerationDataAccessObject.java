@@ -1,17 +1,25 @@
 package data_access.outfit_image_generation;
 
+import data_access.http.CancellationScope;
+import data_access.http.HttpClientProvider;
 import data_access.outfit_suggestion.GeminiConfig;
 import entity.User;
 import okhttp3.*;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import use_case.outfit_image_generation.ImagePayload;
 import use_case.outfit_image_generation.OutfitImageGenerationDataAccessInterface;
+import use_case.outfit_image_generation.OutfitImageListener;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class OutfitImageGenerationDataAccessObject implements OutfitImageGenerationDataAccessInterface {
 
@@ -23,46 +31,154 @@ public class OutfitImageGenerationDataAccessObject implements OutfitImageGenerat
 
     private static final String API_KEY = GeminiConfig.API_KEY;
 
-    private final OkHttpClient client = new OkHttpClient();
+    /** Image calls running at once for one gallery. */
+    static final int DEFAULT_MAX_IN_FLIGHT = 3;
+    /** Image generation quota is per API key, so the default budget is shared process-wide. */
+    static final int DEFAULT_REQUESTS_PER_MINUTE = 10;
+    private static final RequestPacer SHARED_PACER = new RequestPacer(DEFAULT_REQUESTS_PER_MINUTE);
+
+    private final OkHttpClient client = HttpClientProvider.geminiImage();
     private final User user;
+    private final int maxInFlight;
+    private final RequestPacer pacer;
+    private final ImageDiskCache cache;
 
     public OutfitImageGenerationDataAccessObject(User user) {
+        this(user, DEFAULT_MAX_IN_FLIGHT, SHARED_PACER, ImageDiskCache.getInstance());
+    }
+
+    /**
+     * @param maxInFlight how many image requests may run at the same time
+     * @param requestsPerMinute how many image requests may start per minute
+     */
+    public OutfitImageGenerationDataAccessObject(User user, int maxInFlight, int requestsPerMinute) {
+        this(user, maxInFlight, requestsPerMinute, ImageDiskCache.getInstance());
+    }
+
+    /**
+     * @param cache where generated images are kept across runs
+     */
+    public OutfitImageGenerationDataAccessObject(User user, int maxInFlight, int requestsPerMinute,
+                                                 ImageDiskCache cache) {
+        this(user, maxInFlight, new RequestPacer(requestsPerMinute), cache);
+    }
+
+    private OutfitImageGenerationDataAccessObject(User user, int maxInFlight, RequestPacer pacer,
+                                                  ImageDiskCache cache) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
         this.user = user;
+        this.maxInFlight = maxInFlight;
+        this.pacer = pacer;
+        this.cache = cache;
+    }
+
+    @Override
+    public List<ImagePayload> generateImages(List<String> outfitsRawText) {
+        return generateImages(outfitsRawText, (index, image) -> { });
     }
 
+    /**
+     * Generates the images in parallel (at most maxInFlight at once, paced by the rate budget)
+     * and reports each one as it completes. The returned list keeps the outfit order.
+     */
     @Override
-    public List<String> generateImages(List<String> outfitsRawText) {
+    public List<ImagePayload> generateImages(List<String> outfitsRawText, OutfitImageListener listener) {
 
 //        List<String> cleanedOutfits = extractClothingItems(outfitsRawText);
         List<String> cleanedOutfits = outfitsRawText;
-        List<String> images = new ArrayList<>();
+        ImagePayload[] results = new ImagePayload[cleanedOutfits.size()];
+
+        ExecutorService pool = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(maxInFlight, cleanedOutfits.size())), r -> {
+                    Thread t = new Thread(r, "outfit-image-generation");
+                    t.setDaemon(true);
+                    return t;
+                });
+        try {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < cleanedOutfits.size(); i++) {
+                String outfit = cleanedOutfits.get(i);
+                if (outfit == null || outfit.isBlank()) continue;
+
+                int index = i;
+                String prompt = buildPrompt(outfit);
+                // The pool's calls belong to the caller's task, so cancelling it cancels them too
+                tasks.add(CompletableFuture.runAsync(CancellationScope.propagate(() -> {
+                    ImagePayload image = generateOne(prompt);
+                    if (image != null) {
+                        results[index] = image;
+                        notifyListener(listener, index, image);
+                    }
+                }), pool));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            pool.shutdownNow();
+        }
 
-        for (String outfit : cleanedOutfits) {
-            if (outfit == null || outfit.isBlank()) continue;
+        List<ImagePayload> images = new ArrayList<>();
+        for (ImagePayload image : results) {
+            if (image != null) images.add(image);
+        }
+        return images;
+    }
 
-            String genderPrompt = user.getGender().equalsIgnoreCase("female")
-                    ? "a woman"
-                    : "a man";
+    private String buildPrompt(String outfit) {
+        String genderPrompt = user.getGender().equalsIgnoreCase("female")
+                ? "a woman"
+                : "a man";
 
-            String prompt =
-                    "Generate a highly realistic full-body 4K street photo of "
-                            + genderPrompt + " wearing the following outfit prompt: "
-                            + outfit + ". Be sure to only use clothing items mentioned in the prompt."
-                            + "Style the photo as urban Toronto street photography, natural lighting, high detail, neutral ethnicity.";
+        return "Generate a highly realistic full-body 4K street photo of "
+                + genderPrompt + " wearing the following outfit prompt: "
+                + outfit + ". Be sure to only use clothing items mentioned in the prompt."
+                + "Style the photo as urban Toronto street photography, natural lighting, high detail, neutral ethnicity.";
+    }
+
+    /**
+     * One image: served from the disk cache when the same prompt was generated before,
+     * otherwise requested from Gemini with a single retry when it answers without an image.
+     */
+    private ImagePayload generateOne(String prompt) {
+        // The model is part of the key so switching models does not serve stale images
+        String key = ImageDiskCache.keyFor(API_URL + " " + prompt);
+        ByteBuffer cached = cache.get(key);
+        if (cached != null) {
+            return ImagePayload.ofBytes(cached);
+        }
 
-            String base64 = callGemini(prompt);
+        try {
+            pacer.acquire();
+            ByteBuffer image = callGemini(prompt);
 
-            if (base64 == null || base64.isBlank()) {
+            CancellationScope scope = CancellationScope.current();
+            if (scope != null && scope.isCancelled()) {
+                return null;
+            }
+            if (image == null || !image.hasRemaining()) {
                 System.out.println("⚠ No image returned. Retrying...");
-                base64 = callGemini(prompt);
+                pacer.acquire();
+                image = callGemini(prompt);
             }
-
-            if (base64 != null && !base64.isBlank()) {
-                images.add(base64);
+            if (image == null || !image.hasRemaining()) {
+                return null;
             }
+            cache.put(key, image.duplicate());
+            return ImagePayload.ofBytes(image);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         }
+    }
 
-        return images;
+    private static void notifyListener(OutfitImageListener listener, int index, ImagePayload image) {
+        try {
+            listener.onImageReady(index, image);
+        } catch (RuntimeException e) {
+            // A failing listener must not cost us the remaining images
+            e.printStackTrace();
+        }
     }
 
     private List<String> extractClothingItems(List<String> blocks) {
@@ -87,7 +203,10 @@ public class OutfitImageGenerationDataAccessObject implements OutfitImageGenerat
         return results;
     }
 
-    private String callGemini(String prompt) {
+    /**
+     * @return the decoded bytes of the first inline image in the response, or null if there is none
+     */
+    ByteBuffer callGemini(String prompt) {
         try {
             JSONObject requestJson = new JSONObject()
                     .put("contents", new JSONArray()
@@ -105,71 +224,26 @@ public class OutfitImageGenerationDataAccessObject implements OutfitImageGenerat
                     .post(body)
                     .build();
 
-            Response response = client.newCall(request).execute();
+            // Close the response so its pooled connection is released
+            try (Response response = client.newCall(request).execute()) {
 
-            System.out.println("Gemini API Response Code: " + response.code());
-
-            if (!response.isSuccessful() || response.body() == null) {
-                System.err.println("Gemini API Error: " + response.code());
-                return null;
-            }
+                System.out.println("Gemini API Response Code: " + response.code());
 
-            String resp = response.body().string();
-            return extractImageFromResponse(resp);
+                if (!response.isSuccessful() || response.body() == null) {
+                    System.err.println("Gemini API Error: " + response.code());
+                    return null;
+                }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
-    }
+                // Decode the base64 image straight off the body instead of buffering the JSON
+                return InlineImageExtractor.extract(response.body().byteStream());
+            }
 
-    private String extractImageFromResponse(String jsonStr) {
-        try {
-            JSONObject root = new JSONObject(jsonStr);
-            return findBase64(root);
         } catch (Exception e) {
             e.printStackTrace();
             return null;
         }
     }
 
-    private String findBase64(Object node) {
-        try {
-            if (node instanceof JSONObject) {
-                JSONObject json = (JSONObject) node;
-                for (String key : json.keySet()) {
-                    Object val = json.get(key);
-
-                    if (key.equals("inlineData") && val instanceof JSONObject) {
-                        JSONObject d = (JSONObject) val;
-                        if (d.has("data")) return d.getString("data");
-                    }
-                    if (key.equals("media") && val instanceof JSONObject) {
-                        JSONObject d = (JSONObject) val;
-                        if (d.has("data")) return d.getString("data");
-                    }
-                    if (key.equals("fileData") && val instanceof JSONObject) {
-                        JSONObject d = (JSONObject) val;
-                        if (d.has("data")) return d.getString("data");
-                    }
-
-                    String found = findBase64(val);
-                    if (found != null) return found;
-                }
-            }
-
-            if (node instanceof JSONArray) {
-                JSONArray arr = (JSONArray) node;
-                for (int i = 0; i < arr.length(); i++) {
-                    String found = findBase64(arr.get(i));
-                    if (found != null) return found;
-                }
-            }
-
-        } catch (Exception ignore) {}
-        return null;
-    }
-
     public static void saveBase64ToPNG(String base64, String filename) {
         try {
             byte[] decoded = Base64.getDecoder().decode(base64);
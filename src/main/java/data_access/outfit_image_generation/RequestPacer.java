@@ -0,0 +1,35 @@
+package data_access.outfit_image_generation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RequestPacer: spaces request starts evenly to stay within a requests-per-minute budget.
+ * Callers block in {@link #acquire()} until their slot comes up; slots are handed out in
+ * arrival order, so a burst of N requests takes about N / budget minutes to start.
+ */
+class RequestPacer {
+
+    private final long intervalNanos;
+    private long nextSlotNanos;
+
+    RequestPacer(int requestsPerMinute) {
+        if (requestsPerMinute <= 0) {
+            throw new IllegalArgumentException("requestsPerMinute must be positive");
+        }
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+        this.nextSlotNanos = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlotNanos);
+            nextSlotNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
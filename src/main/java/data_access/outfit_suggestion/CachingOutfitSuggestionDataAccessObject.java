@@ -0,0 +1,144 @@
+package data_access.outfit_suggestion;
+
+import entity.DailyForecast;
+import entity.User;
+import use_case.outfit_suggestion.OutfitSuggestionDataAccessInterface;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * CachingOutfitSuggestionDataAccessObject: shared suggestion cache in front of another DAO.
+ * Suggestions are keyed by {@link SuggestionFingerprint}, so users with the same gender and
+ * wardrobe asking in similar weather get the stored answer without a Gemini call.
+ * Entries live for {@link #TTL} and the least recently used ones are dropped past
+ * {@link #MAX_ENTRIES}. Weather lookups pass straight through.
+ */
+public class CachingOutfitSuggestionDataAccessObject implements OutfitSuggestionDataAccessInterface {
+
+    static final Duration TTL = Duration.ofHours(1);
+    static final int MAX_ENTRIES = 512;
+
+    private static CachingOutfitSuggestionDataAccessObject instance;
+
+    private final OutfitSuggestionDataAccessInterface delegate;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+    // fingerprint -> entry, least recently used first; guarded by itself
+    private final LinkedHashMap<String, Entry> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private long hits;
+    private long misses;
+
+    public CachingOutfitSuggestionDataAccessObject(OutfitSuggestionDataAccessInterface delegate) {
+        this(delegate, Clock.systemUTC(), TTL, MAX_ENTRIES);
+    }
+
+    public CachingOutfitSuggestionDataAccessObject(OutfitSuggestionDataAccessInterface delegate,
+                                                   Clock clock, Duration ttl, int maxEntries) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    /** Process-wide cache in front of the Gemini-backed DAO, shared by every user of this app. */
+    public static synchronized CachingOutfitSuggestionDataAccessObject getInstance() {
+        if (instance == null) {
+            instance = new CachingOutfitSuggestionDataAccessObject(new OutfitSuggestionDataAccessObject());
+        }
+        return instance;
+    }
+
+    @Override
+    public DailyForecast getWeatherForecast(String location) {
+        return delegate.getWeatherForecast(location);
+    }
+
+    @Override
+    public List<String> generateOutfitSuggestions(User user, DailyForecast forecast) {
+        return generate(user, forecast, null);
+    }
+
+    /** A hit is reported as a single delta holding the whole text; a miss streams from the delegate. */
+    @Override
+    public List<String> generateOutfitSuggestions(User user, DailyForecast forecast, Consumer<String> onDelta) {
+        return generate(user, forecast, onDelta);
+    }
+
+    private List<String> generate(User user, DailyForecast forecast, Consumer<String> onDelta) {
+        String key = SuggestionFingerprint.of(user, forecast);
+        if (key == null) {
+            return callDelegate(user, forecast, onDelta);
+        }
+
+        long now = clock.millis();
+        List<String> hit = null;
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry != null && now < entry.expiresAtMillis) {
+                hits++;
+                hit = entry.suggestions;
+            } else {
+                if (entry != null) cache.remove(key);
+                misses++;
+            }
+        }
+        if (hit != null) {
+            if (onDelta != null) onDelta.accept(String.join("\n\n", hit));
+            return hit;
+        }
+
+        List<String> suggestions = callDelegate(user, forecast, onDelta);
+        // Failures are not cached, so the next request tries again
+        if (suggestions == null || suggestions.isEmpty()) {
+            return suggestions;
+        }
+
+        List<String> stored = List.copyOf(suggestions);
+        synchronized (cache) {
+            cache.put(key, new Entry(stored, now + ttlMillis));
+            while (cache.size() > maxEntries) {
+                cache.remove(cache.keySet().iterator().next());
+            }
+        }
+        return stored;
+    }
+
+    private List<String> callDelegate(User user, DailyForecast forecast, Consumer<String> onDelta) {
+        return onDelta == null
+                ? delegate.generateOutfitSuggestions(user, forecast)
+                : delegate.generateOutfitSuggestions(user, forecast, onDelta);
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public long getHits() {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    public long getMisses() {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    private static class Entry {
+        final List<String> suggestions;
+        final long expiresAtMillis;
+
+        Entry(List<String> suggestions, long expiresAtMillis) {
+            this.suggestions = suggestions;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
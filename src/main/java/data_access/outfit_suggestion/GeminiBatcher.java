@@ -0,0 +1,228 @@
+package data_access.outfit_suggestion;
+
+import data_access.http.HttpClientProvider;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * GeminiBatcher: folds concurrent Gemini text requests into one generateContent call.
+ *
+ * Each request is a shared instruction plus a per-user input. Requests with the same
+ * instruction that arrive within {@code windowMillis} of the first one (or until
+ * {@code maxBatch} are waiting) are sent as a single prompt: the instruction once, then every
+ * input under a numeric id, with a JSON response schema asking for one answer per id.
+ * Answers are routed back to each caller's future. A batch of one is sent as a plain prompt,
+ * and any request the model leaves out or answers malformed is retried on its own. If the
+ * batched call itself fails (HTTP error, rejected schema, timeout), every request in it is
+ * retried on its own, so one bad batch does not fail unrelated users.
+ */
+public class GeminiBatcher {
+
+    /** Sends one prompt and returns the model's text. */
+    public interface Transport {
+        /**
+         * @param responseSchema Gemini response schema for structured JSON output, or null for free text
+         */
+        String generate(String prompt, JSONObject responseSchema) throws Exception;
+
+        /**
+         * Sends one prompt and reports the answer text piece by piece as it is generated.
+         * The default has no real streaming and reports the whole answer at once.
+         * @return the full answer, the concatenation of every delta
+         */
+        default String stream(String prompt, Consumer<String> onDelta) throws Exception {
+            String text = generate(prompt, null);
+            onDelta.accept(text);
+            return text;
+        }
+    }
+
+    static final long DEFAULT_WINDOW_MILLIS = 20;
+    static final int DEFAULT_MAX_BATCH = 8;
+
+    private static final String GEMINI_API_BASE =
+            "https://generativelanguage.googleapis.com/v1/models/gemini-2.5-flash-lite:generateContent";
+
+    private static GeminiBatcher instance;
+
+    private final Transport transport;
+    private final long windowMillis;
+    private final int maxBatch;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService senders;
+    // instruction -> requests waiting for the window to close; guarded by itself
+    private final Map<String, List<Pending>> open = new HashMap<>();
+
+    public GeminiBatcher(Transport transport, long windowMillis, int maxBatch) {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("maxBatch must be positive");
+        }
+        this.transport = transport;
+        this.windowMillis = windowMillis;
+        this.maxBatch = maxBatch;
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "gemini-batch-timer"));
+        this.senders = Executors.newCachedThreadPool(r -> daemon(r, "gemini-batch-send"));
+    }
+
+    /** Process-wide batcher on the shared Gemini text client, used by both suggestion DAOs. */
+    public static synchronized GeminiBatcher getInstance() {
+        if (instance == null) {
+            instance = new GeminiBatcher(
+                    new GeminiTextTransport(HttpClientProvider.geminiText(), GEMINI_API_BASE),
+                    DEFAULT_WINDOW_MILLIS, DEFAULT_MAX_BATCH);
+        }
+        return instance;
+    }
+
+    /**
+     * Queues one request.
+     * @param instruction what the model should do; requests are only batched with identical instructions
+     * @param input the caller's own data (profile, weather, ...)
+     * @return the model's answer for this input, as if it had been sent alone
+     */
+    public CompletableFuture<String> submit(String instruction, String input) {
+        Pending pending = new Pending(input);
+        List<Pending> ready = null;
+        synchronized (open) {
+            List<Pending> batch = open.computeIfAbsent(instruction, k -> new ArrayList<>());
+            batch.add(pending);
+            if (batch.size() >= maxBatch) {
+                ready = open.remove(instruction);
+            } else if (batch.size() == 1) {
+                timer.schedule(() -> flush(instruction, batch), windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (ready != null) {
+            List<Pending> full = ready;
+            senders.execute(() -> send(instruction, full));
+        }
+        return pending.future;
+    }
+
+    /**
+     * Sends one request on its own, streaming the answer. Streamed requests are never batched,
+     * since one shared answer cannot be split per user until it is complete.
+     * Runs on the calling thread.
+     */
+    public String stream(String instruction, String input, Consumer<String> onDelta) throws Exception {
+        return transport.stream(instruction + "\n\n" + input, onDelta);
+    }
+
+    private void flush(String instruction, List<Pending> batch) {
+        synchronized (open) {
+            // Already sent because it filled up
+            if (open.get(instruction) != batch) return;
+            open.remove(instruction);
+        }
+        senders.execute(() -> send(instruction, batch));
+    }
+
+    private void send(String instruction, List<Pending> batch) {
+        if (batch.size() == 1) {
+            sendAlone(instruction, batch.get(0));
+            return;
+        }
+
+        String text;
+        try {
+            text = transport.generate(batchPrompt(instruction, batch), answerSchema());
+        } catch (Exception e) {
+            System.err.println("Batched Gemini call failed, sending " + batch.size()
+                    + " requests alone: " + e.getMessage());
+            for (Pending p : batch) senders.execute(() -> sendAlone(instruction, p));
+            return;
+        }
+
+        String[] answers = parseAnswers(text, batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (answers[i] != null) {
+                batch.get(i).future.complete(answers[i]);
+            } else {
+                // The model skipped or mangled this one; ask again on its own
+                Pending missed = batch.get(i);
+                senders.execute(() -> sendAlone(instruction, missed));
+            }
+        }
+    }
+
+    private void sendAlone(String instruction, Pending pending) {
+        try {
+            pending.future.complete(transport.generate(instruction + "\n\n" + pending.input, null));
+        } catch (Exception e) {
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    static String batchPrompt(String instruction, List<Pending> batch) {
+        StringBuilder prompt = new StringBuilder(instruction.length() + batch.size() * 512);
+        prompt.append(instruction).append("\n\n");
+        prompt.append("You are answering ").append(batch.size())
+                .append(" independent requests at once. Treat each request separately and never mix ")
+                .append("details between them. Reply with a JSON array holding one object per request: ")
+                .append("\"id\" is the request number and \"answer\" is the complete answer text for that ")
+                .append("request, written exactly as the instructions above ask.\n");
+        for (int i = 0; i < batch.size(); i++) {
+            prompt.append("\n=== Request ").append(i).append(" ===\n").append(batch.get(i).input).append('\n');
+        }
+        return prompt.toString();
+    }
+
+    /** One entry per id; null where the model gave no usable answer. */
+    static String[] parseAnswers(String text, int expected) {
+        String[] answers = new String[expected];
+        try {
+            JSONArray array = new JSONArray(text.trim());
+            for (int i = 0; i < array.length(); i++) {
+                JSONObject item = array.optJSONObject(i);
+                if (item == null) continue;
+                int id = item.optInt("id", -1);
+                String answer = item.optString("answer", "");
+                if (id >= 0 && id < expected && !answer.isBlank() && answers[id] == null) {
+                    answers[id] = answer;
+                }
+            }
+        } catch (JSONException e) {
+            System.err.println("Batched Gemini answer was not valid JSON: " + e.getMessage());
+        }
+        return answers;
+    }
+
+    private static JSONObject answerSchema() {
+        JSONObject properties = new JSONObject()
+                .put("id", new JSONObject().put("type", "INTEGER"))
+                .put("answer", new JSONObject().put("type", "STRING"));
+        return new JSONObject()
+                .put("type", "ARRAY")
+                .put("items", new JSONObject()
+                        .put("type", "OBJECT")
+                        .put("properties", properties)
+                        .put("required", new JSONArray().put("id").put("answer")));
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    static class Pending {
+        final String input;
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        Pending(String input) {
+            this.input = input;
+        }
+    }
+}
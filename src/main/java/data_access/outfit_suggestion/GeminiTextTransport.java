@@ -0,0 +1,140 @@
+package data_access.outfit_suggestion;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSource;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * GeminiTextTransport: one generateContent call over OkHttp, returning the first candidate's text.
+ * When a response schema is given, the request asks for JSON output matching it.
+ * {@link #stream} uses streamGenerateContent with server-sent events instead, and hands each
+ * text chunk on as soon as its event has arrived.
+ */
+public class GeminiTextTransport implements GeminiBatcher.Transport {
+
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
+
+    private final OkHttpClient client;
+    private final String url;
+
+    /**
+     * @param url the model's generateContent endpoint, without the key
+     */
+    public GeminiTextTransport(OkHttpClient client, String url) {
+        this.client = client;
+        this.url = url;
+    }
+
+    @Override
+    public String generate(String prompt, JSONObject responseSchema) throws Exception {
+        JSONObject body = requestBody(prompt);
+        if (responseSchema != null) {
+            body.put("generationConfig", new JSONObject()
+                    .put("responseMimeType", "application/json")
+                    .put("responseSchema", responseSchema));
+        }
+
+        Request request = new Request.Builder()
+                .url(url + "?key=" + GeminiConfig.API_KEY)
+                .post(RequestBody.create(body.toString(), JSON_MEDIA_TYPE))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new IOException("Gemini API failed: " + response.code());
+            }
+            return extractText(response.body().string());
+        }
+    }
+
+    @Override
+    public String stream(String prompt, Consumer<String> onDelta) throws Exception {
+        String streamUrl = url.replace(":generateContent", ":streamGenerateContent");
+        Request request = new Request.Builder()
+                .url(streamUrl + "?alt=sse&key=" + GeminiConfig.API_KEY)
+                .post(RequestBody.create(requestBody(prompt).toString(), JSON_MEDIA_TYPE))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new IOException("Gemini API failed: " + response.code());
+            }
+            return readEvents(response.body().source(), onDelta);
+        }
+    }
+
+    /**
+     * Reads "data:" events until the stream ends. Every event is one complete
+     * GenerateContentResponse JSON holding the next piece of text; events without
+     * text (such as the final usage report) are skipped.
+     */
+    static String readEvents(BufferedSource source, Consumer<String> onDelta) throws IOException {
+        StringBuilder full = new StringBuilder();
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = source.readUtf8Line()) != null) {
+            if (line.startsWith("data:")) {
+                if (data.length() > 0) data.append('\n');
+                data.append(line, line.startsWith("data: ") ? 6 : 5, line.length());
+            } else if (line.isEmpty() && data.length() > 0) {
+                dispatch(data.toString(), full, onDelta);
+                data.setLength(0);
+            }
+        }
+        if (data.length() > 0) {
+            dispatch(data.toString(), full, onDelta);
+        }
+        return full.toString();
+    }
+
+    private static void dispatch(String event, StringBuilder full, Consumer<String> onDelta) throws IOException {
+        JSONObject chunk;
+        try {
+            chunk = new JSONObject(event);
+        } catch (JSONException e) {
+            throw new IOException("Malformed Gemini stream event: " + e.getMessage(), e);
+        }
+        JSONArray candidates = chunk.optJSONArray("candidates");
+        if (candidates == null || candidates.length() == 0) return;
+        JSONObject content = candidates.getJSONObject(0).optJSONObject("content");
+        JSONArray parts = content == null ? null : content.optJSONArray("parts");
+        if (parts == null) return;
+        for (int i = 0; i < parts.length(); i++) {
+            String delta = parts.getJSONObject(i).optString("text", "");
+            if (!delta.isEmpty()) {
+                full.append(delta);
+                onDelta.accept(delta);
+            }
+        }
+    }
+
+    private static JSONObject requestBody(String prompt) {
+        return new JSONObject()
+                .put("contents", new JSONArray()
+                        .put(new JSONObject()
+                                .put("parts", new JSONArray()
+                                        .put(new JSONObject().put("text", prompt)))));
+    }
+
+    static String extractText(String responseBody) throws IOException {
+        JSONObject json = new JSONObject(responseBody);
+        JSONArray candidates = json.optJSONArray("candidates");
+        if (candidates == null || candidates.length() == 0) {
+            throw new IOException("Gemini returned no candidates");
+        }
+        JSONArray parts = candidates.getJSONObject(0).getJSONObject("content").getJSONArray("parts");
+        if (parts.length() == 0) {
+            throw new IOException("Gemini returned an empty candidate");
+        }
+        return parts.getJSONObject(0).getString("text");
+    }
+}
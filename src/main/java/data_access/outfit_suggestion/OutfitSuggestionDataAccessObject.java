@@ -1,63 +1,55 @@
 package data_access.outfit_suggestion;
 
-import data_access.weather.WeatherAPIConfig;
+import data_access.weather.SharedForecastProvider;
 import entity.User;
 import entity.DailyForecast;
-import entity.ForecastSlot;
 import use_case.outfit_suggestion.OutfitSuggestionDataAccessInterface;
-import okhttp3.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import use_case.weather.ForecastProvider;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 // handles calling the weather api and gemini ai for outfit suggestions
 public class OutfitSuggestionDataAccessObject implements OutfitSuggestionDataAccessInterface {
 
-    private final OkHttpClient client;
-    private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
-
-    // api urls
-    private static final String WEATHER_API_BASE = "https://api.openweathermap.org/data/2.5/forecast";
-    private static final String GEMINI_API_BASE = "https://generativelanguage.googleapis.com/v1/models/gemini-2.5-flash-lite:generateContent";
-//    private static final String GEMINI_API_BASE = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash:generateContent";
+    private final ForecastProvider forecastProvider;
+    private final GeminiBatcher batcher;
+
+    /** A little over the Gemini client's call timeout, so a hung batch still fails here. */
+    private static final long ANSWER_TIMEOUT_SECONDS = 100;
+
+    // what we ask gemini to do; identical for every user so requests can share one call
+    static final String INSTRUCTION =
+            "You are a personal fashion stylist. Generate 1 outfit suggestion for the user described "
+            + "below, based on their profile, clothing preferences and current weather.\n\n"
+            + "For the outfit:\n"
+            + "1. List specific clothing items from their preferences\n"
+            + "2. Explain why it's suitable for the weather\n"
+            + "3. Keep it practical and comfortable\n\n"
+            + "Format each outfit as:\nOutfit [number]: [clothing items]\nWhy: [brief explanation]\n"
+            + "Print each clothing item on a new line in the format '- [clothing item]'\n"
+            + "Factor in colour and what combinations of clothing + colour go well together. If nessecary "
+            + "mention what colour the clothing piece(s) should be for a better outfit.\n"
+            + "For example:\n"
+            + "Outfit:\n- Blue jeans\n- White t-shirt\n- Light jacket\nWhy: The light jacket is "
+            + "perfect for the mild temperature and potential wind.";
 
     public OutfitSuggestionDataAccessObject() {
-        this.client = new OkHttpClient();
+        this(GeminiBatcher.getInstance());
+    }
+
+    public OutfitSuggestionDataAccessObject(GeminiBatcher batcher) {
+        this.forecastProvider = SharedForecastProvider.getInstance();
+        this.batcher = batcher;
     }
 
     @Override
     public DailyForecast getWeatherForecast(String location) {
         try {
-            // build url with location and api key
-            String url = WEATHER_API_BASE +
-                    "?q=" + location +
-                    "&appid=" + WeatherAPIConfig.API_KEY +
-                    "&units=metric" +
-                    "&cnt=8";
-
-            Request request = new Request.Builder()
-                    .url(url)
-                    .get()
-                    .build();
-
-            try (Response response = client.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    System.err.println("Weather API failed: " + response.code());
-                    return null;
-                }
-
-                if (response.body() == null) {
-                    System.err.println("Weather API returned empty body");
-                    return null;
-                }
-
-                String responseBody = response.body().string();
-                return parseWeatherResponse(responseBody, location);
-            }
+            // shared decoded forecast: the weather panel and both suggestion flows use one fetch and one parse
+            return forecastProvider.getUpcomingForecast(location, 4);
 
         } catch (Exception e) {
             System.err.println("Error fetching weather: " + e.getMessage());
@@ -69,40 +61,16 @@ public class OutfitSuggestionDataAccessObject implements OutfitSuggestionDataAcc
     @Override
     public List<String> generateOutfitSuggestions(User user, DailyForecast forecast) {
         try {
-            // create the prompt for ai
-            String prompt = buildPrompt(user, forecast);
+            // the user's own details; the instruction is shared so the batcher can
+            // answer several users with one gemini call
+            String context = buildContext(user, forecast);
 
-            // make it into json
-            String jsonBody = buildGeminiRequest(prompt);
-
-            // call gemini api
-            String url = GEMINI_API_BASE + "?key=" + GeminiConfig.API_KEY;
-
-            RequestBody body = RequestBody.create(jsonBody, JSON_MEDIA_TYPE);
-            Request request = new Request.Builder()
-                    .url(url)
-                    .post(body)
-                    .addHeader("Content-Type", "application/json")
-                    .build();
-
-            try (Response response = client.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    System.err.println("Gemini API failed: " + response.code());
-                    if (response.body() != null) {
-                        System.err.println("Response: " + response.body().string());
-                    }
-                    return null;
-                }
-
-                if (response.body() == null) {
-                    System.err.println("Gemini API returned empty body");
-                    return null;
-                }
-
-                String responseBody = response.body().string();
-                return parseGeminiResponse(responseBody);
-            }
+            String text = batcher.submit(INSTRUCTION, context).get(ANSWER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return splitOutfits(text);
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
         } catch (Exception e) {
             System.err.println("Error generating outfit suggestions: " + e.getMessage());
             e.printStackTrace();
@@ -110,185 +78,48 @@ public class OutfitSuggestionDataAccessObject implements OutfitSuggestionDataAcc
         }
     }
 
-    // turn weather json into our DailyForecast object
-    private DailyForecast parseWeatherResponse(String responseBody, String city) {
+    @Override
+    public List<String> generateOutfitSuggestions(User user, DailyForecast forecast, Consumer<String> onDelta) {
         try {
-            JSONObject json = new JSONObject(responseBody);
-            JSONArray list = json.getJSONArray("list");
-
-            List<ForecastSlot> slots = new ArrayList<>();
-
-            // grab first 4 time slots (next 12 hours)
-            for (int i = 0; i < Math.min(4, list.length()); i++) {
-                JSONObject item = list.getJSONObject(i);
-
-                // get temperature stuff
-                JSONObject main = item.getJSONObject("main");
-                double temp = main.getDouble("temp");
-                double feelsLike = main.optDouble("feels_like", temp);
-
-                // get weather description
-                JSONArray weather = item.getJSONArray("weather");
-                String description = weather.getJSONObject(0).getString("description");
-                String iconCode = weather.getJSONObject(0).getString("icon");
-
-                // get wind
-                JSONObject wind = item.optJSONObject("wind");
-                double windSpeed = wind != null ? wind.optDouble("speed", 0.0) : 0.0;
-
-                // chance of rain
-                double precipProb = item.optDouble("pop", 0.0);
-
-                // label it like "now" or "in 3 hours"
-                String timeLabel = getTimeLabel(i);
-
-                ForecastSlot slot = new ForecastSlot(
-                        timeLabel,
-                        temp,
-                        description,
-                        iconCode,
-                        precipProb,
-                        windSpeed,
-                        feelsLike
-                );
-
-                slots.add(slot);
-            }
-
-            return new DailyForecast(city, LocalDate.now(), slots);
+            // streamed on its own: a batched answer can't be shown until all of it is in
+            String text = batcher.stream(INSTRUCTION, buildContext(user, forecast), onDelta);
+            return splitOutfits(text);
 
         } catch (Exception e) {
-            System.err.println("Error parsing weather response: " + e.getMessage());
+            System.err.println("Error streaming outfit suggestions: " + e.getMessage());
             e.printStackTrace();
             return null;
         }
     }
 
-    // build the prompt we'll send to gemini
-    private String buildPrompt(User user, DailyForecast forecast) {
-        StringBuilder prompt = new StringBuilder();
-
-        prompt.append("You are a personal fashion stylist. Generate 1 outfit suggestion based on:\n\n");
-
-        // user info
-        prompt.append("User Profile:\n");
-        prompt.append("- Gender: ").append(user.getGender()).append("\n");
-        prompt.append("- Location: ").append(user.getLocation()).append("\n");
-
-        // what clothes they like
-        prompt.append("\nClothing Preferences (items they own/like):\n");
-        Map<String, Boolean> style = user.getStyle();
-        if (style != null && !style.isEmpty()) {
-            for (Map.Entry<String, Boolean> entry : style.entrySet()) {
-                if (entry.getValue()) {
-                    prompt.append("- ").append(entry.getKey()).append("\n");
-                }
-            }
-        }
-
-        // current weather
-        prompt.append("\nWeather Conditions in ").append(forecast.getCity()).append(":\n");
-        if (!forecast.getSlots().isEmpty()) {
-            ForecastSlot firstSlot = forecast.getSlots().get(0);
-            prompt.append("- Temperature: ").append(String.format("%.1f", firstSlot.getTemperature())).append("°C\n");
-            prompt.append("- Feels like: ").append(String.format("%.1f", firstSlot.getFeelsLike())).append("°C\n");
-            prompt.append("- Conditions: ").append(firstSlot.getDescription()).append("\n");
-            prompt.append("- Wind: ").append(String.format("%.1f", firstSlot.getWindSpeed())).append(" m/s\n");
-            if (firstSlot.getPrecipProbability() != null && firstSlot.getPrecipProbability() > 0) {
-                prompt.append("- Precipitation chance: ").append(String.format("%.0f", firstSlot.getPrecipProbability() * 100)).append("%\n");
-            }
-        }
-
-        // tell ai what to do
-        prompt.append("\nProvide 1 outfit suggestion. For the outfit:\n");
-        prompt.append("1. List specific clothing items from their preferences\n");
-        prompt.append("2. Explain why it's suitable for the weather\n");
-        prompt.append("3. Keep it practical and comfortable\n\n");
-        prompt.append("Format each outfit as:\nOutfit [number]: [clothing items]\nWhy: [brief explanation]\n");
-        prompt.append("Print each clothing item on a new line in the format '- [clothing item]'\n");
-        prompt.append("Factor in colour and what combinations of clothing + colour go well together. If nessecary " +
-                "mention what colour the clothing piece(s) should be for a better outfit.\n");
-        prompt.append("For example:\n");
-        prompt.append("Outfit:\n- Blue jeans\n- White t-shirt\n- Light jacket\nWhy: The light jacket is " +
-                "perfect for the mild temperature and potential wind.\n\n");
-
-        return prompt.toString();
-    }
-
-    // format prompt into gemini's expected json structure
-    private String buildGeminiRequest(String prompt) {
-        JSONObject request = new JSONObject();
-
-        JSONArray contents = new JSONArray();
-        JSONObject content = new JSONObject();
-
-        JSONArray parts = new JSONArray();
-        JSONObject part = new JSONObject();
-        part.put("text", prompt);
-        parts.put(part);
-
-        content.put("parts", parts);
-        contents.put(content);
-
-        request.put("contents", contents);
-
-        return request.toString();
+    // describe this user and their weather for gemini; only the banded fields the
+    // suggestion cache keys on, so a cached answer fits every user who shares its key
+    private String buildContext(User user, DailyForecast forecast) {
+        return SuggestionFingerprint.describe(user, forecast);
     }
 
-    // pull the outfit suggestions out of gemini's response
-    private List<String> parseGeminiResponse(String responseBody) {
-        try {
-            JSONObject json = new JSONObject(responseBody);
-
-            JSONArray candidates = json.getJSONArray("candidates");
-            if (candidates.length() == 0) {
-                return null;
-            }
-
-            JSONObject firstCandidate = candidates.getJSONObject(0);
-            JSONObject content = firstCandidate.getJSONObject("content");
-            JSONArray parts = content.getJSONArray("parts");
-
-            if (parts.length() == 0) {
-                return null;
-            }
-
-            String text = parts.getJSONObject(0).getString("text");
-
-            // split into separate outfits
-            List<String> suggestions = new ArrayList<>();
-            String[] lines = text.split("\n\n");
+    // split gemini's answer into separate outfits
+    static List<String> splitOutfits(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
 
-            StringBuilder currentOutfit = new StringBuilder();
-            for (String line : lines) {
-                if (line.trim().startsWith("Outfit ") && currentOutfit.length() > 0) {
-                    suggestions.add(currentOutfit.toString().trim());
-                    currentOutfit = new StringBuilder();
-                }
-                currentOutfit.append(line).append("\n");
-            }
+        List<String> suggestions = new ArrayList<>();
+        String[] lines = text.split("\n\n");
 
-            if (currentOutfit.length() > 0) {
+        StringBuilder currentOutfit = new StringBuilder();
+        for (String line : lines) {
+            if (line.trim().startsWith("Outfit ") && currentOutfit.length() > 0) {
                 suggestions.add(currentOutfit.toString().trim());
+                currentOutfit = new StringBuilder();
             }
-
-            return suggestions.isEmpty() ? List.of(text) : suggestions;
-
-        } catch (Exception e) {
-            System.err.println("Error parsing Gemini response: " + e.getMessage());
-            e.printStackTrace();
-            return null;
+            currentOutfit.append(line).append("\n");
         }
-    }
 
-    // give each time slot a label
-    private String getTimeLabel(int slotIndex) {
-        switch (slotIndex) {
-            case 0: return "Now";
-            case 1: return "In 3 hours";
-            case 2: return "In 6 hours";
-            case 3: return "In 9 hours";
-            default: return "Later";
+        if (currentOutfit.length() > 0) {
+            suggestions.add(currentOutfit.toString().trim());
         }
+
+        return suggestions.isEmpty() ? List.of(text) : suggestions;
     }
 }
\ No newline at end of file
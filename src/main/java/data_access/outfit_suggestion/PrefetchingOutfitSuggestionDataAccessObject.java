@@ -0,0 +1,203 @@
+package data_access.outfit_suggestion;
+
+import entity.DailyForecast;
+import entity.User;
+import use_case.outfit_suggestion.OutfitSuggestionDataAccessInterface;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * PrefetchingOutfitSuggestionDataAccessObject: starts the session's first request before it is made.
+ * On login, {@link #prefetch(User)} fetches the user's forecast and then, pipelined on it, a default
+ * outfit suggestion. The first "Get Suggestions" click takes those futures instead of starting
+ * over, waiting on them if they are still running. Each prefetched result is used once; later
+ * requests go to the delegate as usual. {@link #clear()} drops everything on logout.
+ */
+public class PrefetchingOutfitSuggestionDataAccessObject implements OutfitSuggestionDataAccessInterface {
+
+    /** Same budget as a normal suggestion call. */
+    static final long WAIT_SECONDS = 100;
+
+    private static PrefetchingOutfitSuggestionDataAccessObject instance;
+
+    private final OutfitSuggestionDataAccessInterface delegate;
+    private final ExecutorService executor;
+    private final boolean prefetchSuggestions;
+    // the logged-in user's prefetch, or null; guarded by this
+    private Prefetch current;
+
+    /**
+     * @param prefetchSuggestions false to only prefetch the forecast
+     */
+    public PrefetchingOutfitSuggestionDataAccessObject(OutfitSuggestionDataAccessInterface delegate,
+                                                       ExecutorService executor, boolean prefetchSuggestions) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.prefetchSuggestions = prefetchSuggestions;
+    }
+
+    /** Process-wide session prefetcher in front of the shared suggestion cache. */
+    public static synchronized PrefetchingOutfitSuggestionDataAccessObject getInstance() {
+        if (instance == null) {
+            ExecutorService executor = Executors.newFixedThreadPool(2, r -> {
+                Thread t = new Thread(r, "suggestion-prefetch");
+                t.setDaemon(true);
+                return t;
+            });
+            instance = new PrefetchingOutfitSuggestionDataAccessObject(
+                    CachingOutfitSuggestionDataAccessObject.getInstance(), executor, true);
+        }
+        return instance;
+    }
+
+    /**
+     * Starts fetching this user's forecast and default suggestions in the background,
+     * replacing whatever was prefetched for the previous user.
+     */
+    public void prefetch(User user) {
+        if (user == null || user.getLocation() == null || user.getLocation().isBlank()) {
+            clear();
+            return;
+        }
+
+        String location = user.getLocation();
+        Prefetch next = new Prefetch(user.getName(), normalize(location));
+        next.forecast = CompletableFuture.supplyAsync(() -> delegate.getWeatherForecast(location), executor);
+        if (prefetchSuggestions) {
+            // Pipelined: the LLM call starts the moment the forecast is in
+            next.suggestions = next.forecast.thenApplyAsync(forecast -> {
+                if (forecast == null) return null;
+                return new Suggestions(SuggestionFingerprint.of(user, forecast),
+                        delegate.generateOutfitSuggestions(user, forecast));
+            }, executor);
+        }
+
+        Prefetch previous;
+        synchronized (this) {
+            previous = current;
+            current = next;
+        }
+        if (previous != null) previous.cancel();
+    }
+
+    /** Drops the session's prefetched results; anything still running is ignored when it finishes. */
+    public void clear() {
+        Prefetch previous;
+        synchronized (this) {
+            previous = current;
+            current = null;
+        }
+        if (previous != null) previous.cancel();
+    }
+
+    @Override
+    public DailyForecast getWeatherForecast(String location) {
+        CompletableFuture<DailyForecast> prefetched = null;
+        synchronized (this) {
+            if (current != null && current.forecast != null && current.location.equals(normalize(location))) {
+                prefetched = current.forecast;
+                current.forecast = null;
+            }
+        }
+        if (prefetched != null) {
+            DailyForecast forecast = await(prefetched);
+            if (forecast != null) {
+                synchronized (this) {
+                    // Remember which forecast the prefetched suggestions were made for
+                    if (current != null) current.handedOut = forecast;
+                }
+                return forecast;
+            }
+        }
+        return delegate.getWeatherForecast(location);
+    }
+
+    @Override
+    public List<String> generateOutfitSuggestions(User user, DailyForecast forecast) {
+        List<String> prefetched = takeSuggestions(user, forecast);
+        return prefetched != null ? prefetched : delegate.generateOutfitSuggestions(user, forecast);
+    }
+
+    /** A prefetched result is reported as a single delta holding the whole text. */
+    @Override
+    public List<String> generateOutfitSuggestions(User user, DailyForecast forecast, Consumer<String> onDelta) {
+        List<String> prefetched = takeSuggestions(user, forecast);
+        if (prefetched != null) {
+            onDelta.accept(String.join("\n\n", prefetched));
+            return prefetched;
+        }
+        return delegate.generateOutfitSuggestions(user, forecast, onDelta);
+    }
+
+    /**
+     * @return the prefetched suggestions if they answer exactly this question, else null
+     */
+    private List<String> takeSuggestions(User user, DailyForecast forecast) {
+        CompletableFuture<Suggestions> prefetched = null;
+        synchronized (this) {
+            if (current != null && current.suggestions != null && forecast != null
+                    && forecast == current.handedOut && current.username.equals(user.getName())) {
+                prefetched = current.suggestions;
+                current.suggestions = null;
+            }
+        }
+        if (prefetched == null) return null;
+
+        Suggestions result = await(prefetched);
+        if (result == null || result.suggestions == null || result.suggestions.isEmpty()) return null;
+        // The user may have changed their wardrobe since logging in
+        String fingerprint = SuggestionFingerprint.of(user, forecast);
+        return fingerprint != null && fingerprint.equals(result.fingerprint) ? result.suggestions : null;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            // Fall back to a normal request
+            System.err.println("Prefetched request failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String normalize(String location) {
+        return location == null ? "" : location.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Prefetch {
+        final String username;
+        final String location;
+        CompletableFuture<DailyForecast> forecast;
+        CompletableFuture<Suggestions> suggestions;
+        DailyForecast handedOut;
+
+        Prefetch(String username, String location) {
+            this.username = username;
+            this.location = location;
+        }
+
+        void cancel() {
+            if (forecast != null) forecast.cancel(false);
+            if (suggestions != null) suggestions.cancel(false);
+        }
+    }
+
+    private static class Suggestions {
+        final String fingerprint;
+        final List<String> suggestions;
+
+        Suggestions(String fingerprint, List<String> suggestions) {
+            this.fingerprint = fingerprint;
+            this.suggestions = suggestions;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package data_access.outfit_suggestion;
+
+import entity.ClothingItem;
+import entity.DailyForecast;
+import entity.ForecastSlot;
+import entity.User;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SuggestionFingerprint: canonical key for "the same outfit question".
+ * Two requests get the same fingerprint when the user's gender and owned items match and the
+ * current weather falls in the same bands, even if the raw numbers differ slightly:
+ * temperature in 2°C buckets, a coarse condition class from the OWM icon, and wind and
+ * precipitation bands. City and user name are deliberately left out so users can share entries.
+ *
+ * {@link #describe} writes the Gemini context from the same fields, so an answer stored under
+ * a fingerprint never mentions a city or a reading that another user with that key lacks.
+ */
+public final class SuggestionFingerprint {
+
+    static final double TEMPERATURE_BUCKET = 2.0;
+
+    private static final Map<String, String> CONDITION_LABELS = Map.of(
+            "clear", "clear sky",
+            "clouds", "cloudy",
+            "rain", "rain",
+            "storm", "thunderstorm",
+            "snow", "snow",
+            "fog", "fog or mist",
+            "other", "mixed");
+    private static final String[] WIND_LABELS = {
+            "calm (under 3 m/s)", "breezy (3-8 m/s)", "windy (8-14 m/s)", "gale (14 m/s or more)"};
+    private static final String[] PRECIPITATION_LABELS = {
+            "unlikely (under 20% chance)", "possible (20-60% chance)", "likely (60% chance or more)"};
+
+    private SuggestionFingerprint() {
+    }
+
+    /**
+     * @return the fingerprint, or null if the forecast has no current slot to describe
+     */
+    public static String of(User user, DailyForecast forecast) {
+        if (forecast == null || forecast.getSlots() == null || forecast.getSlots().isEmpty()) {
+            return null;
+        }
+        ForecastSlot now = forecast.getSlots().get(0);
+
+        StringBuilder sb = new StringBuilder(64);
+        String gender = user.getGender();
+        sb.append(gender == null ? "" : gender.trim().toLowerCase(Locale.ROOT));
+
+        sb.append('|');
+        // the owned-item bitmask already ignores map order and label/column spelling
+        sb.append(Long.toHexString(user.getStyleSet().toBits()));
+
+        sb.append("|t").append(temperatureBucket(now.getTemperature()));
+        sb.append('|').append(conditionClass(now.getIconCode()));
+        sb.append("|w").append(windBand(now.getWindSpeed()));
+        sb.append("|p").append(precipitationBand(now.getPrecipProbability()));
+        return sb.toString();
+    }
+
+    /**
+     * The user and weather as the model sees them: only what the fingerprint keys on,
+     * with every reading replaced by its band.
+     */
+    public static String describe(User user, DailyForecast forecast) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("User Profile:\n");
+        sb.append("- Gender: ").append(user.getGender()).append('\n');
+
+        sb.append("\nClothing Preferences (items they own/like):\n");
+        for (ClothingItem item : user.getStyleSet().items()) {
+            sb.append("- ").append(item.getLabel()).append('\n');
+        }
+
+        if (forecast == null || forecast.getSlots() == null || forecast.getSlots().isEmpty()) {
+            return sb.toString();
+        }
+        ForecastSlot now = forecast.getSlots().get(0);
+        int low = temperatureBucket(now.getTemperature());
+        sb.append("\nCurrent Weather:\n");
+        sb.append("- Temperature: between ").append(low).append(" and ")
+                .append(low + (int) TEMPERATURE_BUCKET).append("°C\n");
+        sb.append("- Conditions: ").append(CONDITION_LABELS.get(conditionClass(now.getIconCode()))).append('\n');
+        sb.append("- Wind: ").append(WIND_LABELS[windBand(now.getWindSpeed())]).append('\n');
+        sb.append("- Precipitation: ").append(PRECIPITATION_LABELS[precipitationBand(now.getPrecipProbability())])
+                .append('\n');
+        return sb.toString();
+    }
+
+    /** Lower edge of the 2°C bucket, e.g. 5.9 -> 4, -0.5 -> -2. */
+    static int temperatureBucket(double celsius) {
+        return (int) (Math.floor(celsius / TEMPERATURE_BUCKET) * TEMPERATURE_BUCKET);
+    }
+
+    /** Groups OWM icon codes (01d, 10n, ...) by what they mean for clothing; day and night match. */
+    static String conditionClass(String iconCode) {
+        if (iconCode == null || iconCode.length() < 2) return "other";
+        switch (iconCode.substring(0, 2)) {
+            case "01": return "clear";
+            case "02":
+            case "03":
+            case "04": return "clouds";
+            case "09":
+            case "10": return "rain";
+            case "11": return "storm";
+            case "13": return "snow";
+            case "50": return "fog";
+            default:   return "other";
+        }
+    }
+
+    /** 0 calm (< 3 m/s), 1 breezy (< 8), 2 windy (< 14), 3 gale. */
+    static int windBand(double speed) {
+        double s = Double.isNaN(speed) ? 0 : speed;
+        if (s < 3) return 0;
+        if (s < 8) return 1;
+        if (s < 14) return 2;
+        return 3;
+    }
+
+    /** 0 dry (< 20%), 1 possible (< 60%), 2 likely. */
+    static int precipitationBand(double probability) {
+        double p = Double.isNaN(probability) ? 0 : probability;
+        if (p < 0.2) return 0;
+        if (p < 0.6) return 1;
+        return 2;
+    }
+}
@@ -1,5 +1,6 @@
 package data_access.purpose;
 
+import data_access.http.HttpClientProvider;
 import data_access.outfit_suggestion.GeminiConfig;
 import okhttp3.*;
 import org.json.JSONArray;
@@ -16,7 +17,7 @@ public class PurposeAccessoryDataAccessObject implements PurposeAccessoryDataAcc
             "https://generativelanguage.googleapis.com/v1/models/gemini-2.5-flash-lite:generateContent";
 
     public PurposeAccessoryDataAccessObject() {
-        this.client = new OkHttpClient();
+        this.client = HttpClientProvider.geminiText();
     }
 
     @Override
@@ -0,0 +1,179 @@
+package data_access.user_storage;
+
+import entity.User;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+
+/**
+ * CachingUserRepository: read-through user cache in front of another repository.
+ * Found users are kept for {@link #TTL}; usernames the delegate does not know are remembered
+ * for the shorter {@link #NEGATIVE_TTL}, so repeated signup checks and failed logins do not
+ * go back to the network, while a signup from another client still shows up soon.
+ * Only answers the delegate confirmed are cached: a lookup that fails with an exception
+ * propagates and leaves nothing behind, so a network blip never becomes "no such user".
+ * The least recently used entries are dropped past {@link #MAX_ENTRIES}.
+ * {@link #save} always writes through and drops the cached entry.
+ */
+public class CachingUserRepository implements UserRepository {
+
+    static final Duration TTL = Duration.ofMinutes(5);
+    static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+    static final int MAX_ENTRIES = 256;
+
+    private static CachingUserRepository instance;
+
+    private final UserRepository delegate;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final int maxEntries;
+    // username -> entry, least recently used first; guarded by itself
+    private final LinkedHashMap<String, Entry> cache = new LinkedHashMap<>(32, 0.75f, true);
+    private long hits;
+    private long misses;
+
+    public CachingUserRepository(UserRepository delegate) {
+        this(delegate, Clock.systemUTC(), TTL, NEGATIVE_TTL, MAX_ENTRIES);
+    }
+
+    public CachingUserRepository(UserRepository delegate, Clock clock, Duration ttl, Duration negativeTtl,
+                                 int maxEntries) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    /** Process-wide cache in front of Supabase, shared by the login and signup views. */
+    public static synchronized CachingUserRepository getInstance() {
+        if (instance == null) {
+            instance = new CachingUserRepository(new SupabaseUserRepository());
+        }
+        return instance;
+    }
+
+    @Override
+    public void save(User user) {
+        invalidate(user.getName());
+        delegate.save(user);
+        // A lookup that raced with the write may have cached the old row
+        invalidate(user.getName());
+    }
+
+    /**
+     * @return a copy of the cached user, so callers cannot change the cache through it
+     */
+    @Override
+    public User findByUsername(String username) {
+        Entry entry = lookup(username);
+        if (entry != null && (entry.user != null || !entry.present)) {
+            return copy(entry.user);
+        }
+
+        User user = delegate.findByUsername(username);
+        put(username, user == null ? Entry.missing(expiry(false)) : Entry.found(copy(user), expiry(true)));
+        return user;
+    }
+
+    @Override
+    public boolean exists(String username) {
+        Entry entry = lookup(username);
+        if (entry != null) {
+            return entry.present;
+        }
+
+        boolean exists = delegate.exists(username);
+        // Only the existence is known, not the row; findByUsername still goes to the delegate
+        put(username, exists ? Entry.existing(expiry(true)) : Entry.missing(expiry(false)));
+        return exists;
+    }
+
+    public void invalidate(String username) {
+        synchronized (cache) {
+            cache.remove(username);
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public long getHits() {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    public long getMisses() {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    private Entry lookup(String username) {
+        long now = clock.millis();
+        synchronized (cache) {
+            Entry entry = cache.get(username);
+            if (entry != null && now < entry.expiresAtMillis) {
+                hits++;
+                return entry;
+            }
+            if (entry != null) cache.remove(username);
+            misses++;
+            return null;
+        }
+    }
+
+    private void put(String username, Entry entry) {
+        if (username == null) return;
+        synchronized (cache) {
+            Entry current = cache.get(username);
+            // Do not replace a full row with the bare answer of exists()
+            if (current != null && current.user != null && entry.user == null && entry.present) return;
+            cache.put(username, entry);
+            while (cache.size() > maxEntries) {
+                cache.remove(cache.keySet().iterator().next());
+            }
+        }
+    }
+
+    private long expiry(boolean found) {
+        return clock.millis() + (found ? ttlMillis : negativeTtlMillis);
+    }
+
+    private static User copy(User user) {
+        if (user == null) return null;
+        User copy = new User(user.getName(), user.getPassword(), user.getLocation(), user.getGender());
+        if (user.getStyle() != null) copy.setStyle(user.getStyle());
+        return copy;
+    }
+
+    private static class Entry {
+        final User user;
+        final boolean present;
+        final long expiresAtMillis;
+
+        private Entry(User user, boolean present, long expiresAtMillis) {
+            this.user = user;
+            this.present = present;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        static Entry found(User user, long expiresAtMillis) {
+            return new Entry(user, true, expiresAtMillis);
+        }
+
+        static Entry existing(long expiresAtMillis) {
+            return new Entry(null, true, expiresAtMillis);
+        }
+
+        static Entry missing(long expiresAtMillis) {
+            return new Entry(null, false, expiresAtMillis);
+        }
+    }
+}
@@ -0,0 +1,557 @@
+package data_access.user_storage;
+
+import entity.User;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * FileUserRepository: an embedded, durable user store on local disk.
+ *
+ * Every save is appended to a write-ahead log ({@code users.wal}); the full set of users is
+ * kept in a concurrent index, so lookups never touch the disk. Saves are committed by a
+ * single writer thread that takes everything queued since its last fsync and forces it with
+ * one more, so concurrent signups share a disk flush. {@link #save} returns once its record
+ * is durable. After {@code compactEvery} log records the index is written to
+ * {@code users.snapshot} (temp file, fsync, atomic rename) and the log is truncated.
+ * At startup the snapshot is loaded and the log replayed over it; a torn record at the
+ * end of the log, left by a crash mid-write, is dropped. A group whose write fails is cut
+ * back out of the log, so later saves are never appended behind torn bytes; if even that
+ * fails the store refuses further saves.
+ *
+ * One process at a time: the store holds an exclusive lock on {@code users.lock} in its
+ * directory until it is closed.
+ *
+ * An optional replica (e.g. {@link SupabaseUserRepository}) receives every committed save
+ * asynchronously; it is never read from, and its failures do not fail the local save.
+ */
+public class FileUserRepository implements UserRepository, AutoCloseable {
+
+    /** Overrides the storage directory, e.g. {@code -Dweatherwear.user.dir=/tmp/users}. */
+    public static final String DIR_PROPERTY = "weatherwear.user.dir";
+    static final String SNAPSHOT_FILE = "users.snapshot";
+    static final String LOG_FILE = "users.wal";
+    static final String LOCK_FILE = "users.lock";
+    static final int DEFAULT_COMPACT_EVERY = 1_000;
+    /** Most records forced by one fsync. */
+    static final int MAX_GROUP = 256;
+
+    private static final int SNAPSHOT_MAGIC = 0x57575531; // "WWU1"
+    private static final byte PUT = 1;
+    /** Queued by {@link #close()} to stop the writer after the saves ahead of it. */
+    private static final Write STOP = new Write(null, new byte[0]);
+
+    private static FileUserRepository instance;
+
+    private final Path snapshotPath;
+    private final Path logPath;
+    private final int compactEvery;
+    private final UserRepository replica;
+    private final ExecutorService replicator;
+    private final ConcurrentHashMap<String, Stored> index = new ConcurrentHashMap<>();
+    private final BlockingQueue<Write> queue = new LinkedBlockingQueue<>();
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final FileChannel log;
+    private final Thread writer;
+    // only touched by the writer thread after construction
+    private int logRecords;
+    private final AtomicLong fsyncs = new AtomicLong();
+    private volatile boolean closed;
+    // set when a failed write could not be cut back out of the log
+    private volatile IOException failure;
+    // test hook, runs after a group is written and before it is forced
+    volatile WriteHook beforeForce;
+
+    public FileUserRepository(Path directory) throws IOException {
+        this(directory, DEFAULT_COMPACT_EVERY, null);
+    }
+
+    /**
+     * @param compactEvery log records after which the snapshot is rewritten
+     * @param replica receives every save asynchronously, or null to stay local only
+     */
+    public FileUserRepository(Path directory, int compactEvery, UserRepository replica) throws IOException {
+        if (compactEvery <= 0) {
+            throw new IllegalArgumentException("compactEvery must be positive");
+        }
+        Files.createDirectories(directory);
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.logPath = directory.resolve(LOG_FILE);
+        this.compactEvery = compactEvery;
+        this.replica = replica;
+
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        FileLock acquired;
+        try {
+            acquired = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null;
+        }
+        if (acquired == null) {
+            lockChannel.close();
+            throw new IOException("User store in " + directory + " is in use by another process");
+        }
+        this.lock = acquired;
+
+        FileChannel opened = null;
+        try {
+            loadSnapshot();
+            opened = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.log = opened;
+            replayLog();
+        } catch (IOException | RuntimeException e) {
+            if (opened != null) opened.close();
+            lockChannel.close();
+            throw e;
+        }
+
+        this.replicator = replica == null ? null : Executors.newSingleThreadExecutor(r -> daemon(r, "user-replication"));
+        this.writer = daemon(this::writeLoop, "user-log-writer");
+        writer.start();
+    }
+
+    /**
+     * Process-wide store under {@code ~/.weatherwear/users} (or {@value #DIR_PROPERTY}),
+     * replicating to Supabase.
+     */
+    public static synchronized FileUserRepository getInstance() {
+        if (instance == null) {
+            String dir = System.getProperty(DIR_PROPERTY);
+            Path directory = dir != null && !dir.isBlank()
+                    ? Paths.get(dir)
+                    : Paths.get(System.getProperty("user.home"), ".weatherwear", "users");
+            try {
+                instance = new FileUserRepository(directory, DEFAULT_COMPACT_EVERY, new SupabaseUserRepository());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open user store in " + directory, e);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Appends the user to the log and waits until it is on disk.
+     * @throws UncheckedIOException if the record could not be written, or an earlier write
+     *         left the store unusable
+     */
+    @Override
+    public void save(User user) {
+        Stored stored = Stored.of(user);
+        Write write = new Write(stored, encode(stored));
+        // Same lock as close(), so a save is either queued ahead of STOP or refused
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("User store is closed");
+            }
+            queue.add(write);
+        }
+        try {
+            write.done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while saving " + user.getName(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException
+                    ? new UncheckedIOException("Could not save " + user.getName(), (IOException) cause)
+                    : new IllegalStateException("Could not save " + user.getName(), cause);
+        }
+    }
+
+    /**
+     * @return a fresh copy of the stored user, or null if unknown
+     */
+    @Override
+    public User findByUsername(String username) {
+        Stored stored = username == null ? null : index.get(username);
+        return stored == null ? null : stored.toUser();
+    }
+
+    @Override
+    public boolean exists(String username) {
+        return username != null && index.containsKey(username);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /** Number of fsyncs the writer has issued for log appends; less than the saves when they were grouped. */
+    public long getFsyncCount() {
+        return fsyncs.get();
+    }
+
+    /** Saves waiting for the writer thread. */
+    int getQueuedWrites() {
+        return queue.size();
+    }
+
+    /** Finishes queued saves, writes a final snapshot, closes the log and releases the directory. */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        // Not an interrupt: that would close the channel under a write in progress
+        queue.add(STOP);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            // A failed store keeps its log as the record of what was durable
+            if (failure == null) compact();
+        } finally {
+            try {
+                log.close();
+            } finally {
+                lock.release();
+                lockChannel.close();
+                if (replicator != null) replicator.shutdown();
+            }
+        }
+    }
+
+    // ==================== Writer thread ====================
+
+    private void writeLoop() {
+        List<Write> group = new ArrayList<>(MAX_GROUP);
+        boolean stop = false;
+        while (!stop) {
+            try {
+                group.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            // Everything that queued up during the last fsync goes into the next one
+            queue.drainTo(group, MAX_GROUP - group.size());
+            stop = group.remove(STOP);
+            if (!group.isEmpty()) commit(group);
+            group.clear();
+        }
+    }
+
+    private void commit(List<Write> group) {
+        if (failure != null) {
+            for (Write w : group) w.done.completeExceptionally(failure);
+            return;
+        }
+        long start = -1;
+        try {
+            start = log.position();
+            int bytes = 0;
+            for (Write w : group) bytes += w.record.length;
+            ByteBuffer buffer = ByteBuffer.allocate(bytes);
+            for (Write w : group) buffer.put(w.record);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                log.write(buffer);
+            }
+            WriteHook hook = beforeForce;
+            if (hook != null) hook.run();
+            // One flush for the whole group
+            log.force(false);
+            fsyncs.incrementAndGet();
+        } catch (IOException e) {
+            discard(start, e);
+            for (Write w : group) w.done.completeExceptionally(e);
+            return;
+        }
+
+        for (Write w : group) {
+            index.put(w.user.name, w.user);
+        }
+        logRecords += group.size();
+        for (Write w : group) {
+            w.done.complete(null);
+            replicate(w.user);
+        }
+
+        if (logRecords >= compactEvery) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // The log still holds everything; try again after the next group
+                System.err.println("User store compaction failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Cuts a failed group's bytes back out of the log, so the next group does not land behind
+     * them and get dropped with them at replay. If that fails too, the store stops taking saves.
+     */
+    private void discard(long start, IOException cause) {
+        try {
+            if (start < 0) throw cause;
+            log.truncate(start);
+            log.position(start);
+            log.force(false);
+        } catch (IOException e) {
+            IOException failed = new IOException("User store failed; restart to recover", cause);
+            if (e != cause) failed.addSuppressed(e);
+            failure = failed;
+            System.err.println("User log could not be repaired: " + e.getMessage());
+        }
+    }
+
+    private void replicate(Stored user) {
+        if (replicator == null) return;
+        replicator.execute(() -> {
+            try {
+                replica.save(user.toUser());
+            } catch (RuntimeException e) {
+                System.err.println("Replicating user " + user.name + " failed: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Writes the index as the new snapshot and empties the log. Runs on the writer thread,
+     * or in {@link #close()} after it has stopped, so no append can interleave. A crash
+     * between the rename and the truncate only replays puts the snapshot already holds.
+     */
+    private void compact() throws IOException {
+        Path tmp = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + index.size() * 128);
+            new DataOutputStream(bytes).writeInt(SNAPSHOT_MAGIC);
+            for (Stored user : index.values()) {
+                bytes.write(encode(user));
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.truncate(0);
+        log.position(0);
+        log.force(true);
+        logRecords = 0;
+    }
+
+    // ==================== Loading ====================
+
+    private void loadSnapshot() throws IOException {
+        if (!Files.exists(snapshotPath)) return;
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.remaining() < 4 || buffer.getInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a user snapshot: " + snapshotPath);
+        }
+        // The snapshot was fsynced before it was renamed into place, so every record must be whole
+        if (readRecords(buffer) != bytes.length) {
+            throw new IOException("Corrupt user snapshot: " + snapshotPath);
+        }
+    }
+
+    private void replayLog() throws IOException {
+        long size = log.size();
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (log.read(buffer, buffer.position()) < 0) break;
+        }
+        buffer.flip();
+        long valid = readRecords(buffer);
+        if (valid < size) {
+            System.err.println("Dropping " + (size - valid) + " bytes of incomplete user log");
+            log.truncate(valid);
+        }
+        log.position(valid);
+        logRecords = countRecords(buffer, valid);
+    }
+
+    /**
+     * Applies records until the buffer ends or a record is torn or fails its checksum.
+     * @return the offset just past the last good record
+     */
+    private long readRecords(ByteBuffer buffer) {
+        while (buffer.remaining() >= 8) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            if (crc(payload) != checksum) {
+                buffer.position(start);
+                break;
+            }
+            try {
+                Stored user = decode(payload);
+                index.put(user.name, user);
+            } catch (IOException e) {
+                buffer.position(start);
+                break;
+            }
+        }
+        return buffer.position();
+    }
+
+    private static int countRecords(ByteBuffer buffer, long end) {
+        int count = 0;
+        int position = 0;
+        while (position + 8 <= end) {
+            position += 8 + buffer.getInt(position);
+            count++;
+        }
+        return count;
+    }
+
+    // ==================== Record format ====================
+
+    /** [payload length][CRC32 of payload][payload]. */
+    static byte[] encode(Stored user) {
+        try {
+            ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(128);
+            DataOutputStream payload = new DataOutputStream(payloadBytes);
+            payload.writeByte(PUT);
+            payload.writeUTF(user.name);
+            payload.writeUTF(user.password);
+            writeNullable(payload, user.location);
+            writeNullable(payload, user.gender);
+            if (user.style == null) {
+                payload.writeInt(-1);
+            } else {
+                payload.writeInt(user.style.size());
+                for (Map.Entry<String, Boolean> e : user.style.entrySet()) {
+                    payload.writeUTF(e.getKey());
+                    payload.writeBoolean(Boolean.TRUE.equals(e.getValue()));
+                }
+            }
+            byte[] body = payloadBytes.toByteArray();
+
+            ByteBuffer record = ByteBuffer.allocate(8 + body.length);
+            record.putInt(body.length).putInt(crc(body)).put(body);
+            return record.array();
+        } catch (IOException e) {
+            // Writing to a byte array does not fail
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Stored decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        try {
+            if (in.readByte() != PUT) {
+                throw new IOException("Unknown user log record");
+            }
+            String name = in.readUTF();
+            String password = in.readUTF();
+            String location = readNullable(in);
+            String gender = readNullable(in);
+            int styleSize = in.readInt();
+            Map<String, Boolean> style = null;
+            if (styleSize >= 0) {
+                style = new LinkedHashMap<>();
+                for (int i = 0; i < styleSize; i++) {
+                    style.put(in.readUTF(), in.readBoolean());
+                }
+            }
+            return new Stored(name, password, location, gender, style);
+        } catch (EOFException e) {
+            throw new IOException("Truncated user log record", e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    /** Immutable copy of a user as stored, so callers mutating a User cannot change the index. */
+    static final class Stored {
+        final String name;
+        final String password;
+        final String location;
+        final String gender;
+        final Map<String, Boolean> style;
+
+        Stored(String name, String password, String location, String gender, Map<String, Boolean> style) {
+            this.name = name;
+            this.password = password;
+            this.location = location;
+            this.gender = gender;
+            this.style = style;
+        }
+
+        static Stored of(User user) {
+            Map<String, Boolean> style = user.getStyle() == null ? null : new LinkedHashMap<>(user.getStyle());
+            return new Stored(user.getName(), user.getPassword(), user.getLocation(), user.getGender(), style);
+        }
+
+        User toUser() {
+            User user = new User(name, password, location, gender);
+            if (style != null) user.setStyle(style);
+            return user;
+        }
+    }
+
+    /** Test hook run by the writer between writing a group and forcing it. */
+    interface WriteHook {
+        void run() throws IOException;
+    }
+
+    private static final class Write {
+        final Stored user;
+        final byte[] record;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Write(Stored user, byte[] record) {
+            this.user = user;
+            this.record = record;
+        }
+    }
+}
@@ -1,40 +1,95 @@
 package data_access.user_storage;
 
 import entity.User;
-import java.util.HashMap;
-import java.util.Map;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 // Temporary storage for users who have signed up but haven't completed style preferences yet.
 // prevents saving incomplete user profiles to the database.
+// Signups that are never finished expire after IDLE_TTL, and at most MAX_PENDING are kept,
+// oldest dropped first, so abandoned signups cannot pile up in a long-running server.
 
 public class PendingUserStorage {
-    private static PendingUserStorage instance;
-    private final Map<String, User> pendingUsers = new HashMap<>();
+    static final Duration IDLE_TTL = Duration.ofMinutes(30);
+    static final int MAX_PENDING = 1_000;
+
+    private static final PendingUserStorage INSTANCE = new PendingUserStorage(Clock.systemUTC(), IDLE_TTL, MAX_PENDING);
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxPending;
+    // username -> pending signup, oldest first; guarded by itself
+    private final LinkedHashMap<String, Pending> pendingUsers = new LinkedHashMap<>();
 
-    private PendingUserStorage() {
-        // Private constructor for singleton
+    PendingUserStorage(Clock clock, Duration ttl, int maxPending) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.maxPending = maxPending;
     }
 
     public static PendingUserStorage getInstance() {
-        if (instance == null) {
-            instance = new PendingUserStorage();
-        }
-        return instance;
+        return INSTANCE;
     }
 
     public void storePendingUser(User user) {
-        pendingUsers.put(user.getName(), user);
+        long now = clock.millis();
+        synchronized (pendingUsers) {
+            // Re-signing up moves the user to the back of the line
+            pendingUsers.remove(user.getName());
+            pendingUsers.put(user.getName(), new Pending(user, now + ttlMillis));
+            evict(now);
+        }
     }
 
     public User getPendingUser(String username) {
-        return pendingUsers.get(username);
+        long now = clock.millis();
+        synchronized (pendingUsers) {
+            Pending pending = pendingUsers.get(username);
+            if (pending == null) return null;
+            if (now >= pending.expiresAtMillis) {
+                pendingUsers.remove(username);
+                return null;
+            }
+            return pending.user;
+        }
     }
 
     public void removePendingUser(String username) {
-        pendingUsers.remove(username);
+        synchronized (pendingUsers) {
+            pendingUsers.remove(username);
+        }
     }
 
     public boolean hasPendingUser(String username) {
-        return pendingUsers.containsKey(username);
+        return getPendingUser(username) != null;
+    }
+
+    public int size() {
+        synchronized (pendingUsers) {
+            evict(clock.millis());
+            return pendingUsers.size();
+        }
+    }
+
+    // caller holds the lock; entries are in store order, so expired ones are at the front
+    private void evict(long now) {
+        Iterator<Pending> it = pendingUsers.values().iterator();
+        while (it.hasNext()) {
+            Pending oldest = it.next();
+            if (now < oldest.expiresAtMillis && pendingUsers.size() <= maxPending) break;
+            it.remove();
+        }
     }
-}
 
+    private static class Pending {
+        final User user;
+        final long expiresAtMillis;
+
+        Pending(User user, long expiresAtMillis) {
+            this.user = user;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
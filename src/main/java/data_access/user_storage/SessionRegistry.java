@@ -0,0 +1,117 @@
+package data_access.user_storage;
+
+import entity.User;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SessionRegistry: logged-in users keyed by session token, for running the interactors
+ * behind a service with many users at once (the desktop app keeps using {@link UserSession}).
+ *
+ * Tokens are 128 random bits. Lookups are a concurrent-map read plus a volatile write of the
+ * last-access time, with no lock. A session unused for the idle TTL is gone: it is dropped
+ * when next looked up, and every {@link #SWEEP_EVERY} logins all expired sessions are swept,
+ * so abandoned ones do not accumulate.
+ */
+public class SessionRegistry {
+
+    static final Duration IDLE_TTL = Duration.ofMinutes(30);
+    static final int SWEEP_EVERY = 256;
+
+    private static SessionRegistry instance;
+
+    private final Clock clock;
+    private final long idleMillis;
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger opensSinceSweep = new AtomicInteger();
+
+    public SessionRegistry() {
+        this(Clock.systemUTC(), IDLE_TTL);
+    }
+
+    public SessionRegistry(Clock clock, Duration idleTtl) {
+        this.clock = clock;
+        this.idleMillis = idleTtl.toMillis();
+    }
+
+    public static synchronized SessionRegistry getInstance() {
+        if (instance == null) {
+            instance = new SessionRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts a session for a user who has just logged in.
+     * @return the token the client sends with later requests
+     */
+    public String open(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("Cannot open a session without a user");
+        }
+        if (opensSinceSweep.incrementAndGet() >= SWEEP_EVERY) {
+            opensSinceSweep.set(0);
+            sweep();
+        }
+
+        byte[] bytes = new byte[16];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new Session(user, clock.millis()));
+        return token;
+    }
+
+    /**
+     * @return the session's user, or null if the token is unknown, closed or idle too long
+     */
+    public User getCurrentUser(String token) {
+        if (token == null) return null;
+        Session session = sessions.get(token);
+        if (session == null) return null;
+
+        long now = clock.millis();
+        if (now - session.lastAccessMillis >= idleMillis) {
+            sessions.remove(token, session);
+            return null;
+        }
+        session.lastAccessMillis = now;
+        return session.user;
+    }
+
+    /** Replaces the session's user, e.g. after they changed their profile. */
+    public boolean update(String token, User user) {
+        if (token == null) return false;
+        return sessions.computeIfPresent(token, (k, s) -> new Session(user, clock.millis())) != null;
+    }
+
+    public void close(String token) {
+        if (token != null) sessions.remove(token);
+    }
+
+    /** Drops every idle session; also run automatically as sessions are opened. */
+    public void sweep() {
+        long now = clock.millis();
+        sessions.values().removeIf(s -> now - s.lastAccessMillis >= idleMillis);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private static class Session {
+        final User user;
+        // racing lookups may both write; either time is fine
+        volatile long lastAccessMillis;
+
+        Session(User user, long lastAccessMillis) {
+            this.user = user;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+    }
+}
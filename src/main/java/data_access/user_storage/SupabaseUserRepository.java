@@ -1,14 +1,18 @@
 package data_access.user_storage;
 
+import data_access.http.HttpClientProvider;
+import entity.ClothingItem;
+import entity.StyleSet;
 import entity.User;
 import org.json.JSONArray;
+import org.json.JSONObject;
 import okhttp3.*;
 
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 
 // Saves uer data to Supabase database
 
@@ -21,7 +25,7 @@ public class SupabaseUserRepository implements UserRepository {
     public SupabaseUserRepository() {
         this.supabaseUrl = SupabaseConfig.SUPABASE_URL;
         this.apiKey = SupabaseConfig.SUPABASE_API_KEY;
-        this.client = new OkHttpClient();
+        this.client = HttpClientProvider.supabase();
     }
 
     @Override
@@ -30,9 +34,15 @@ public class SupabaseUserRepository implements UserRepository {
         uploadToSupabase(user);
     }
 
+    /**
+     * @return the user, or null only when Supabase answered that there is no such row
+     * @throws UncheckedIOException on a network error or a non-2xx response
+     */
     @Override
     public User findByUsername(String username) {
-        String url = supabaseUrl + "/rest/v1/" + SupabaseConfig.TABLE_NAME + "?username=eq." + username;
+        HttpUrl url = tableUrl()
+                .addQueryParameter("username", "eq." + username)
+                .build();
         Request request = new Request.Builder()
                 .url(url)
                 .addHeader("apikey", apiKey)
@@ -43,79 +53,101 @@ public class SupabaseUserRepository implements UserRepository {
 
         try (Response response = client.newCall(request).execute()) {
             if (!response.isSuccessful()) {
-                System.err.println("Failed to fetch user from Supabase. Response code: " + response.code());
-                if (response.body() != null) {
-                    System.err.println("Response body: " + response.body().string());
-                }
-                return null;
+                String body = response.body() != null ? response.body().string() : "";
+                throw new IOException("HTTP " + response.code() + ": " + body);
             }
 
             if (response.body() == null) {
-                System.err.println("Response body is null");
-                return null;
+                throw new IOException("Empty response body");
             }
 
-            String responseBody = response.body().string();
-            System.out.println("Supabase response: " + responseBody);
-
-            JSONArray jsonArray = new JSONArray(responseBody);
+            JSONArray jsonArray = new JSONArray(response.body().string());
 
             if (jsonArray.length() == 0) {
-                System.out.println("No user found with username: " + username);
                 return null;
             }
 
 
-            String name = jsonArray.getJSONObject(0).getString("username");
-            String password = jsonArray.getJSONObject(0).getString("password");
-            String location = jsonArray.getJSONObject(0).getString("location");
-            String gender = jsonArray.getJSONObject(0).getString("gender");
-            HashMap<String, Boolean> stylePreferences = new HashMap<>();
-
-            Iterator<String> iterator = jsonArray.getJSONObject(0).keys();
-            while (iterator.hasNext()) {
-                String key = iterator.next();
-                Object value = jsonArray.getJSONObject(0).get(key);
+            JSONObject row = jsonArray.getJSONObject(0);
+            String name = row.getString("username");
+            String password = row.getString("password");
+            String location = row.getString("location");
+            String gender = row.getString("gender");
 
-                if (value instanceof Boolean) {
-                    stylePreferences.put(key, (Boolean) value);
+            // One lookup per catalog column instead of walking every key of the row
+            List<ClothingItem> owned = new ArrayList<>();
+            for (ClothingItem item : ClothingItem.values()) {
+                if (row.optBoolean(item.getColumn(), false)) {
+                    owned.add(item);
                 }
             }
 
             User user = new User(name, password, location, gender);
-            user.setStyle(stylePreferences);
+            user.setStyle(StyleSet.of(owned));
             return user;
 
         } catch (IOException e) {
-            System.err.println("Error fetching user from Supabase: " + e.getMessage());
-            e.printStackTrace();
+            throw new UncheckedIOException("Could not fetch user " + username + " from Supabase", e);
         }
-        return null;
     }
 
+    /**
+     * Asks only for the row count: a HEAD request projected to the username column,
+     * limited to one row, with the exact count in the Content-Range header.
+     * @throws UncheckedIOException on a network error, a non-2xx response or a missing count
+     */
     @Override
     public boolean exists(String username) {
-        String url = supabaseUrl + "/rest/v1/" + SupabaseConfig.TABLE_NAME + "?username=eq." + username;
+        HttpUrl url = tableUrl()
+                .addQueryParameter("select", "username")
+                .addQueryParameter("username", "eq." + username)
+                .addQueryParameter("limit", "1")
+                .build();
         Request request = new Request.Builder()
                 .url(url)
                 .addHeader("apikey", apiKey)
                 .addHeader("Authorization", "Bearer " + apiKey)
-                .addHeader("Content-Type", "application/json")
-                .get()
+                .addHeader("Prefer", "count=exact")
+                .head()
                 .build();
 
         try (Response response = client.newCall(request).execute()) {
-            JSONArray jsonArray = new JSONArray(response.body().string());
+            if (!response.isSuccessful()) {
+                throw new IOException("HTTP " + response.code());
+            }
+            String contentRange = response.header("Content-Range");
+            // Without a total, "0" would only mean "not counted"
+            if (contentRange == null || contentRange.trim().endsWith("*")) {
+                throw new IOException("No row count in response");
+            }
+            return parseCount(contentRange) > 0;
 
-            return jsonArray.length() > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not check user " + username + " in Supabase", e);
+        }
+    }
 
-        }   catch (IOException e) {
-            System.err.println("Error checking user existence in Supabase: " + e.getMessage());
-            e.printStackTrace();
-            return false;
+    /**
+     * Total from a PostgREST Content-Range header such as "0-0/1" (one match).
+     * @return the count, or 0 if the header is missing or has no total
+     */
+    static long parseCount(String contentRange) {
+        if (contentRange == null) return 0;
+        int slash = contentRange.lastIndexOf('/');
+        if (slash < 0) return 0;
+        try {
+            return Long.parseLong(contentRange.substring(slash + 1).trim());
+        } catch (NumberFormatException e) {
+            // "*" when the server did not count
+            return 0;
         }
     }
 
+    private HttpUrl.Builder tableUrl() {
+        return HttpUrl.get(supabaseUrl).newBuilder()
+                .addPathSegments("rest/v1/" + SupabaseConfig.TABLE_NAME);
+    }
+
     private void uploadToSupabase(User user) {
         try {
             // Build the JSON payload with all user data
@@ -161,60 +193,18 @@ public class SupabaseUserRepository implements UserRepository {
         json.append("\"location\":\"").append(escapeJson(user.getLocation())).append("\",");
         json.append("\"gender\":\"").append(escapeJson(user.getGender())).append("\"");
 
-        // Add style preferences as booleans in the specified order
+        // Add style preferences as booleans, one column per catalog item in catalog order
         if (user.getStyle() != null && !user.getStyle().isEmpty()) {
-            Map<String, Boolean> style = user.getStyle();
-
-            // Bottoms
-            json.append(",\"jeans\":").append(getStyleValue(style, "jeans"));
-            json.append(",\"sweatpants\":").append(getStyleValue(style, "sweatpants"));
-            json.append(",\"shorts\":").append(getStyleValue(style, "shorts"));
-            json.append(",\"dress_pants_chinos\":").append(getStyleValue(style, "dress pants/chinos"));
-            json.append(",\"leggings\":").append(getStyleValue(style, "leggings"));
-            json.append(",\"skirts\":").append(getStyleValue(style, "skirts"));
-
-            // Tops
-            json.append(",\"tshirts\":").append(getStyleValue(style, "T-shirts"));
-            json.append(",\"long_sleeve_shirts\":").append(getStyleValue(style, "long sleeve shirts"));
-            json.append(",\"tank_tops\":").append(getStyleValue(style, "tank tops"));
-            json.append(",\"polo_shirts\":").append(getStyleValue(style, "polo shirts"));
-            json.append(",\"blouses\":").append(getStyleValue(style, "blouses"));
-
-            // Outerwear
-            json.append(",\"hoodie\":").append(getStyleValue(style, "hoodie"));
-            json.append(",\"sweatshirt_crewneck\":").append(getStyleValue(style, "sweatshirt/crewneck"));
-            json.append(",\"light_jacket_windbreaker\":").append(getStyleValue(style, "light jacket/windbreaker"));
-            json.append(",\"denim_jacket\":").append(getStyleValue(style, "denim jacket"));
-            json.append(",\"winter_coat_puffer\":").append(getStyleValue(style, "winter coat/puffer"));
-            json.append(",\"raincoat\":").append(getStyleValue(style, "raincoat"));
-            json.append(",\"blazer\":").append(getStyleValue(style, "blazer"));
-
-            // Footwear
-            json.append(",\"sneakers\":").append(getStyleValue(style, "sneakers"));
-            json.append(",\"casual_shoes\":").append(getStyleValue(style, "casual shoes"));
-            json.append(",\"boots\":").append(getStyleValue(style, "boots"));
-            json.append(",\"sandals_slippers\":").append(getStyleValue(style, "sandals/slippers"));
-            json.append(",\"dress_shoes\":").append(getStyleValue(style, "dress shoes"));
-            json.append(",\"crocs\":").append(getStyleValue(style, "crocs"));
-
-            // Accessories
-            json.append(",\"hats_caps_beanies\":").append(getStyleValue(style, "hats/caps/beanies"));
-            json.append(",\"scarf\":").append(getStyleValue(style, "scarf"));
-            json.append(",\"gloves\":").append(getStyleValue(style, "gloves"));
-            json.append(",\"belt\":").append(getStyleValue(style, "belt"));
-            json.append(",\"sunglasses\":").append(getStyleValue(style, "sunglasses"));
-            json.append(",\"watch\":").append(getStyleValue(style, "watch"));
+            StyleSet style = user.getStyleSet();
+            for (ClothingItem item : ClothingItem.values()) {
+                json.append(",\"").append(item.getColumn()).append("\":").append(style.contains(item));
+            }
         }
 
         json.append("}");
         return json.toString();
     }
 
-    private boolean getStyleValue(Map<String, Boolean> style, String key) {
-        Boolean value = style.get(key);
-        return value != null && value;
-    }
-
     private String escapeJson(String text) {
         if (text == null) {
             return "";
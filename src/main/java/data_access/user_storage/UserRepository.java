@@ -4,7 +4,16 @@ import entity.User;
 
 public interface UserRepository {
     void save(User user);
+
+    /**
+     * @return the user, or null if there is no such user
+     * @throws java.io.UncheckedIOException if the store could not be asked
+     */
     User findByUsername(String username);
+
+    /**
+     * @throws java.io.UncheckedIOException if the store could not be asked
+     */
     boolean exists(String username);
 }
 
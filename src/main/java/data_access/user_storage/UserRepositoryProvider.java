@@ -0,0 +1,22 @@
+package data_access.user_storage;
+
+/**
+ * UserRepositoryProvider: picks the user store the views work against.
+ * By default calls go to Supabase through the shared {@link CachingUserRepository}.
+ * With {@code -Dweatherwear.user.store=local} users live in the embedded {@link FileUserRepository},
+ * which works offline at local-disk latency and replicates each save to Supabase in the background.
+ */
+public class UserRepositoryProvider {
+
+    public static final String STORE_PROPERTY = "weatherwear.user.store";
+
+    private UserRepositoryProvider() {
+    }
+
+    public static UserRepository get() {
+        if ("local".equalsIgnoreCase(System.getProperty(STORE_PROPERTY, ""))) {
+            return FileUserRepository.getInstance();
+        }
+        return CachingUserRepository.getInstance();
+    }
+}
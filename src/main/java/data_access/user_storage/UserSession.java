@@ -2,22 +2,22 @@ package data_access.user_storage;
 
 // manages the current user that is logged in
 // singleton class to ensure only one instance of current user exists
+// the desktop app has one user per JVM; a server with many users keeps a SessionRegistry instead
 
 import entity.User;
 
 public class UserSession {
-    private static UserSession instance;
-    private User currentUser;
+    // created with the class, so getInstance() needs no lock
+    private static final UserSession INSTANCE = new UserSession();
+    // read on every panel refresh without locking; login and logout replace it
+    private volatile User currentUser;
 
     private UserSession() {
         // Private constructor to prevent instantiation
     }
 
     public static UserSession getInstance() {
-        if (instance == null) {
-            instance = new UserSession();
-        }
-        return instance;
+        return INSTANCE;
     }
 
     public User getCurrentUser() {
@@ -36,4 +36,3 @@ public class UserSession {
         return currentUser != null;
     }
 }
-
@@ -0,0 +1,154 @@
+package data_access.weather;
+
+import use_case.weather.ForecastAPIGateway;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CachingForecastAPIGateway: shared TTL cache in front of another ForecastAPIGateway.
+ * Entries are keyed by normalized city name and expire at the next 3-hour (UTC) boundary,
+ * which is when OpenWeatherMap publishes a new forecast run.
+ * An expired entry is still returned immediately while one background refresh replaces it
+ * (stale-while-revalidate); only entries older than the stale window block on the network.
+ */
+public class CachingForecastAPIGateway implements ForecastAPIGateway {
+
+    /** OWM refreshes its 5-day/3-hour model every three hours. */
+    static final Duration MODEL_REFRESH = Duration.ofHours(3);
+    /** How long past expiry an entry may still be served while it is being refreshed. */
+    static final Duration MAX_STALE = Duration.ofHours(3);
+    static final int MAX_ENTRIES = 256;
+
+    private static CachingForecastAPIGateway instance;
+
+    private final ForecastAPIGateway delegate;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public CachingForecastAPIGateway(ForecastAPIGateway delegate) {
+        this(delegate, Clock.systemUTC(), Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "forecast-cache-refresh");
+            t.setDaemon(true);
+            return t;
+        }));
+    }
+
+    public CachingForecastAPIGateway(ForecastAPIGateway delegate, Clock clock, Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Process-wide cache shared by the weather panel and both outfit suggestion flows,
+     * so one city is fetched once per model run no matter which view asks first.
+     * Concurrent misses for the same city are coalesced into one upstream call.
+     */
+    public static synchronized CachingForecastAPIGateway getInstance() {
+        if (instance == null) {
+            instance = new CachingForecastAPIGateway(
+                    new CoalescingForecastAPIGateway(new ForecastAPIGatewayImpl()));
+        }
+        return instance;
+    }
+
+    @Override
+    public String request3hForecastJson(String cityName) throws Exception {
+        String key = normalizeCity(cityName);
+        long now = clock.millis();
+        Entry entry = cache.get(key);
+
+        if (entry != null) {
+            if (now < entry.expiresAtMillis) {
+                return entry.json;
+            }
+            if (now < entry.expiresAtMillis + MAX_STALE.toMillis()) {
+                scheduleRefresh(key, cityName, entry);
+                return entry.json;
+            }
+        }
+        return fetchAndStore(key, cityName);
+    }
+
+    /** Drop every cached forecast (e.g. after changing the API key). */
+    public void clear() {
+        cache.clear();
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private void scheduleRefresh(String key, String cityName, Entry stale) {
+        // Only the first caller to see the stale entry starts a refresh
+        if (!stale.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                fetchAndStore(key, cityName);
+            } catch (Exception e) {
+                // Keep serving the stale copy; the next request past expiry will retry
+                System.err.println("Background forecast refresh failed for " + cityName + ": " + e.getMessage());
+                stale.refreshing.set(false);
+            }
+        });
+    }
+
+    private String fetchAndStore(String key, String cityName) throws Exception {
+        String json = delegate.request3hForecastJson(cityName.trim());
+        long fetchedAt = clock.millis();
+        if (cache.size() >= MAX_ENTRIES && !cache.containsKey(key)) {
+            evictOldest();
+        }
+        cache.put(key, new Entry(json, fetchedAt, nextModelRefresh(fetchedAt)));
+        return json;
+    }
+
+    private void evictOldest() {
+        String oldestKey = null;
+        long oldest = Long.MAX_VALUE;
+        for (Map.Entry<String, Entry> e : cache.entrySet()) {
+            if (e.getValue().fetchedAtMillis < oldest) {
+                oldest = e.getValue().fetchedAtMillis;
+                oldestKey = e.getKey();
+            }
+        }
+        if (oldestKey != null) {
+            cache.remove(oldestKey);
+        }
+    }
+
+    /** First 3-hour UTC boundary strictly after the given instant. */
+    static long nextModelRefresh(long epochMillis) {
+        long period = MODEL_REFRESH.toMillis();
+        return (epochMillis / period + 1) * period;
+    }
+
+    /** "  new   YORK " and "New York" share one cache slot. */
+    static String normalizeCity(String cityName) {
+        if (cityName == null) return "";
+        return cityName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static class Entry {
+        final String json;
+        final long fetchedAtMillis;
+        final long expiresAtMillis;
+        final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        Entry(String json, long fetchedAtMillis, long expiresAtMillis) {
+            this.json = json;
+            this.fetchedAtMillis = fetchedAtMillis;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
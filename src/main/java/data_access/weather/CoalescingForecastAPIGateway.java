@@ -0,0 +1,120 @@
+package data_access.weather;
+
+import data_access.http.CancellationScope;
+import use_case.weather.ForecastAPIGateway;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CoalescingForecastAPIGateway: single-flight layer in front of another ForecastAPIGateway.
+ * The first caller for a city issues the real request; callers that arrive while it is
+ * still running wait on the same CompletableFuture instead of opening their own connection.
+ * Waiters give up after a timeout, and an in-flight lookup can be cancelled for everyone.
+ *
+ * The leader's fetch runs outside its {@link CancellationScope}: cancelling the leader's task
+ * must not fail the lookup other views are waiting on. A cancelled waiter is interrupted out of
+ * its own wait, and a waiter whose shared lookup was cancelled by someone else's scope retries.
+ */
+public class CoalescingForecastAPIGateway implements ForecastAPIGateway {
+
+    static final long DEFAULT_WAIT_TIMEOUT_MS = 15_000;
+    /** A lookup cancelled from under a waiter is retried once. */
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final ForecastAPIGateway delegate;
+    private final long waitTimeoutMillis;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong issuedCalls = new AtomicLong();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    public CoalescingForecastAPIGateway(ForecastAPIGateway delegate) {
+        this(delegate, DEFAULT_WAIT_TIMEOUT_MS);
+    }
+
+    public CoalescingForecastAPIGateway(ForecastAPIGateway delegate, long waitTimeoutMillis) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    /**
+     * @throws TimeoutException if this caller was coalesced onto a request that did not finish in time
+     * @throws CancellationException if the shared request was cancelled via {@link #cancel(String)}
+     */
+    @Override
+    public String request3hForecastJson(String cityName) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return requestOnce(cityName);
+            } catch (IOException e) {
+                CancellationScope own = CancellationScope.current();
+                boolean ownCancelled = own != null && own.isCancelled();
+                if (attempt >= MAX_ATTEMPTS || ownCancelled || !CancellationScope.isCancellation(e)) throw e;
+            }
+        }
+    }
+
+    private String requestOnce(String cityName) throws Exception {
+        String key = CachingForecastAPIGateway.normalizeCity(cityName);
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> shared = inFlight.putIfAbsent(key, mine);
+
+        if (shared != null) {
+            coalescedCalls.incrementAndGet();
+            return await(shared, cityName);
+        }
+
+        issuedCalls.incrementAndGet();
+        try {
+            String json;
+            try (CancellationScope.Entered ignored = CancellationScope.detach()) {
+                json = delegate.request3hForecastJson(cityName);
+            }
+            mine.complete(json);
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+        return await(mine, cityName);
+    }
+
+    /**
+     * Cancel the in-flight lookup for a city. Every caller waiting on it fails with
+     * CancellationException; the underlying HTTP call is left to finish and its result dropped.
+     * @return true if there was a lookup to cancel
+     */
+    public boolean cancel(String cityName) {
+        CompletableFuture<String> shared = inFlight.remove(CachingForecastAPIGateway.normalizeCity(cityName));
+        return shared != null && shared.cancel(false);
+    }
+
+    /** Number of requests actually sent to the delegate. */
+    public long getIssuedCalls() {
+        return issuedCalls.get();
+    }
+
+    /** Number of requests that piggy-backed on another caller's in-flight request. */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    private String await(CompletableFuture<String> future, String cityName) throws Exception {
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) throw (Exception) cause;
+            throw e;
+        } catch (TimeoutException e) {
+            throw new TimeoutException("Timed out waiting for forecast of " + cityName);
+        }
+    }
+}
@@ -1,47 +1,94 @@
 package data_access.weather;
 
+import data_access.http.HttpClientProvider;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import use_case.weather.AsyncForecastAPIGateway;
 import use_case.weather.ForecastAPIGateway;
 
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.Scanner;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ForecastAPIGatewayImpl: calls OpenWeatherMap 5-day/3-hour forecast API.
  * Returns raw JSON string if HTTP 200; otherwise throws an Exception with error body.
+ * Runs on the process-wide OkHttp client, so connections are kept alive and pooled across calls
+ * and responses are gzip-compressed on the wire. The async variant does not hold a thread
+ * while waiting for the response.
  */
-public class ForecastAPIGatewayImpl implements ForecastAPIGateway {
+public class ForecastAPIGatewayImpl implements ForecastAPIGateway, AsyncForecastAPIGateway {
 
-    private static final String BASE =
-            "https://api.openweathermap.org/data/2.5/forecast?appid="
-                    + WeatherAPIConfig.API_KEY + "&units=metric&q=";
+    private static final HttpUrl DEFAULT_BASE = HttpUrl.get("https://api.openweathermap.org/data/2.5/forecast");
+
+    private final OkHttpClient client;
+    private final HttpUrl base;
+
+    public ForecastAPIGatewayImpl() {
+        this(HttpClientProvider.weather());
+    }
+
+    public ForecastAPIGatewayImpl(OkHttpClient client) {
+        this(client, DEFAULT_BASE);
+    }
+
+    ForecastAPIGatewayImpl(OkHttpClient client, HttpUrl base) {
+        this.client = client;
+        this.base = base;
+    }
 
     @Override
     public String request3hForecastJson(String cityName) throws Exception {
-        String encoded = URLEncoder.encode(cityName, StandardCharsets.UTF_8);
-        String urlStr = BASE + encoded;
+        try (Response response = client.newCall(buildRequest(cityName)).execute()) {
+            return readBody(response);
+        }
+    }
 
-        HttpURLConnection conn = (HttpURLConnection) new URL(urlStr).openConnection();
-        conn.setRequestMethod("GET");
-        conn.setConnectTimeout(10_000);
-        conn.setReadTimeout(10_000);
+    @Override
+    public CompletableFuture<String> request3hForecastJsonAsync(String cityName) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Call call = client.newCall(buildRequest(cityName));
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call c, Response response) {
+                try (response) {
+                    future.complete(readBody(response));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }
 
-        int code = conn.getResponseCode();
-        InputStream is = (code >= 200 && code < 300) ? conn.getInputStream() : conn.getErrorStream();
+            @Override
+            public void onFailure(Call c, IOException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        // Cancelling the future aborts the HTTP call too
+        future.whenComplete((json, error) -> {
+            if (future.isCancelled()) call.cancel();
+        });
+        return future;
+    }
 
-        String body;
-        try (Scanner sc = new Scanner(is, StandardCharsets.UTF_8)) {
-            sc.useDelimiter("\\A");
-            body = sc.hasNext() ? sc.next() : "";
-        }
+    private Request buildRequest(String cityName) {
+        HttpUrl url = base.newBuilder()
+                .addQueryParameter("appid", WeatherAPIConfig.API_KEY)
+                .addQueryParameter("units", "metric")
+                .addQueryParameter("q", cityName)
+                .build();
+        return new Request.Builder().url(url).get().build();
+    }
 
-        if (code >= 200 && code < 300) {
-            return body;
-        } else {
-            throw new Exception("HTTP " + code + ": " + body);
+    private static String readBody(Response response) throws Exception {
+        ResponseBody body = response.body();
+        String text = body != null ? body.string() : "";
+        if (response.isSuccessful()) {
+            return text;
         }
+        throw new Exception("HTTP " + response.code() + ": " + text);
     }
-}
\ No newline at end of file
+}
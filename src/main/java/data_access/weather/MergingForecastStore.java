@@ -0,0 +1,282 @@
+package data_access.weather;
+
+import entity.DailyForecast;
+import entity.ForecastSeries;
+import entity.ForecastSlot;
+import use_case.weather.ForecastProvider;
+import use_case.weather.ForecastStore;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MergingForecastStore: keeps each city's full series with a per-day index and merges refreshes in.
+ *
+ * A refresh starts a little later than the stored series (slots in the past fall off) and
+ * usually differs only near the end. The merge keeps the stored slots of the refresh's first
+ * local day that already fell off, so "today" keeps its morning; it then compares the overlap
+ * slot by slot. The day index is only rebuilt from the first changed slot. A refresh with
+ * nothing new keeps the stored series object, so identity-keyed caches downstream stay valid.
+ *
+ * Reads go through the given ForecastProvider, which already caches the HTTP response. While
+ * that provider returns the same series object, queries are answered without any merge work.
+ */
+public class MergingForecastStore implements ForecastStore, ForecastProvider {
+
+    static final int MAX_ENTRIES = CachingForecastAPIGateway.MAX_ENTRIES;
+
+    private static MergingForecastStore instance;
+
+    private final ForecastProvider provider;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public MergingForecastStore(ForecastProvider provider) {
+        this.provider = provider;
+    }
+
+    /** Process-wide store over the shared forecast provider, used by the weather panel. */
+    public static synchronized MergingForecastStore getInstance() {
+        if (instance == null) {
+            instance = new MergingForecastStore(SharedForecastProvider.getInstance());
+        }
+        return instance;
+    }
+
+    @Override
+    public ForecastSeries getSeries(String cityName) throws Exception {
+        return entry(cityName).series;
+    }
+
+    /** Same as {@link #getSeries}: the merged series, including today's earlier slots. */
+    @Override
+    public ForecastSeries getForecast(String cityName) throws Exception {
+        return getSeries(cityName);
+    }
+
+    /** "Now" means the latest response, not the kept slots from earlier today. */
+    @Override
+    public DailyForecast getUpcomingForecast(String cityName, int count) throws Exception {
+        return provider.getUpcomingForecast(cityName, count);
+    }
+
+    @Override
+    public List<LocalDate> getDays(String cityName) throws Exception {
+        Entry entry = entry(cityName);
+        List<LocalDate> days = new ArrayList<>(entry.days.length);
+        for (long day : entry.days) {
+            days.add(LocalDate.ofEpochDay(day));
+        }
+        return days;
+    }
+
+    @Override
+    public List<ForecastSlot> getDay(String cityName, LocalDate day) throws Exception {
+        Entry entry = entry(cityName);
+        int d = indexOf(entry.days, day.toEpochDay());
+        if (d < 0) return Collections.emptyList();
+        return slots(entry.series, entry.dayStarts[d], entry.dayStarts[d + 1]);
+    }
+
+    @Override
+    public List<ForecastSlot> getRange(String cityName, long fromEpochSeconds, long toEpochSeconds)
+            throws Exception {
+        ForecastSeries series = entry(cityName).series;
+        return slots(series, lowerBound(series, fromEpochSeconds), lowerBound(series, toEpochSeconds));
+    }
+
+    private Entry entry(String cityName) throws Exception {
+        ForecastSeries fresh = provider.getForecast(cityName);
+        String key = CachingForecastAPIGateway.normalizeCity(cityName);
+
+        Entry current = entries.get(key);
+        // Identity check: the provider hands out the same series until the response changes
+        if (current != null && current.source == fresh) return current;
+
+        if (current == null && entries.size() >= MAX_ENTRIES) {
+            Iterator<String> it = entries.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        // Two threads refreshing the same city merge in turn; the later merge sees the earlier one
+        return entries.compute(key, (k, old) ->
+                old != null && old.source == fresh ? old : merge(old, fresh));
+    }
+
+    /**
+     * Merges a refresh into the stored entry.
+     * @param old the stored entry, or null for the first fetch
+     */
+    static Entry merge(Entry old, ForecastSeries fresh) {
+        if (old == null || fresh.size() == 0) {
+            return index(fresh, fresh, null, 0);
+        }
+        ForecastSeries stored = old.series;
+        long firstDay = fresh.getLocalEpochDay(0);
+        long firstStart = fresh.getEpochSeconds(0);
+
+        // Stored slots before the refresh starts, but on its first local day
+        int keepTo = lowerBound(stored, firstStart);
+        int keepFrom = keepTo;
+        while (keepFrom > 0 && stored.getLocalEpochDay(keepFrom - 1) >= firstDay) {
+            keepFrom--;
+        }
+        int kept = keepTo - keepFrom;
+
+        int same = 0;
+        while (keepTo + same < stored.size() && same < fresh.size()
+                && sameSlot(stored, keepTo + same, fresh, same)) {
+            same++;
+        }
+        int firstChanged = kept + same;
+
+        if (keepFrom == 0 && keepTo + same == stored.size() && same == fresh.size()
+                && stored.getTimezoneOffsetSeconds() == fresh.getTimezoneOffsetSeconds()) {
+            // Nothing new: keep the stored series and its index
+            return new Entry(fresh, stored, old.days, old.dayStarts, stored.size());
+        }
+
+        ForecastSeries merged = concat(stored, keepFrom, keepTo, fresh);
+        // The index of the unchanged prefix still holds if no slots were dropped in front of it
+        Entry reusable = keepFrom == 0
+                && stored.getTimezoneOffsetSeconds() == fresh.getTimezoneOffsetSeconds() ? old : null;
+        return index(fresh, merged, reusable, firstChanged);
+    }
+
+    /**
+     * Builds the day index of series. Days that end before firstChanged are copied from
+     * previous (whose slot positions are the same up to there) instead of being rescanned.
+     */
+    private static Entry index(ForecastSeries source, ForecastSeries series, Entry previous, int firstChanged) {
+        long[] days = new long[series.size()];
+        int[] starts = new int[series.size() + 1];
+        int n = 0;
+        int scanFrom = 0;
+
+        if (previous != null) {
+            // Whole days before the change: the day containing firstChanged is rescanned
+            while (n < previous.days.length && previous.dayStarts[n + 1] <= firstChanged
+                    && n + 1 < previous.days.length) {
+                days[n] = previous.days[n];
+                starts[n] = previous.dayStarts[n];
+                n++;
+            }
+            scanFrom = n == 0 ? 0 : previous.dayStarts[n];
+        }
+
+        for (int i = scanFrom; i < series.size(); i++) {
+            long day = series.getLocalEpochDay(i);
+            if (n == 0 || days[n - 1] != day) {
+                days[n] = day;
+                starts[n] = i;
+                n++;
+            }
+        }
+        starts[n] = series.size();
+
+        long[] trimmedDays = new long[n];
+        int[] trimmedStarts = new int[n + 1];
+        System.arraycopy(days, 0, trimmedDays, 0, n);
+        System.arraycopy(starts, 0, trimmedStarts, 0, n + 1);
+        return new Entry(source, series, trimmedDays, trimmedStarts, firstChanged);
+    }
+
+    /** stored[from, to) followed by all of fresh, with fresh's city and offset. */
+    private static ForecastSeries concat(ForecastSeries stored, int from, int to, ForecastSeries fresh) {
+        int kept = to - from;
+        int n = kept + fresh.size();
+        long[] epochSeconds = new long[n];
+        double[] temperature = new double[n];
+        double[] feelsLike = new double[n];
+        double[] pop = new double[n];
+        double[] wind = new double[n];
+        String[] description = new String[n];
+        String[] icon = new String[n];
+        for (int i = 0; i < n; i++) {
+            ForecastSeries src = i < kept ? stored : fresh;
+            int j = i < kept ? from + i : i - kept;
+            epochSeconds[i] = src.getEpochSeconds(j);
+            temperature[i] = src.getTemperature(j);
+            feelsLike[i] = src.getFeelsLike(j);
+            pop[i] = src.getPrecipProbability(j);
+            wind[i] = src.getWindSpeed(j);
+            description[i] = src.getDescription(j);
+            icon[i] = src.getIconCode(j);
+        }
+        return new ForecastSeries(fresh.getCity(), fresh.getTimezoneOffsetSeconds(),
+                epochSeconds, temperature, feelsLike, pop, wind, description, icon);
+    }
+
+    private static boolean sameSlot(ForecastSeries a, int i, ForecastSeries b, int j) {
+        // Double.compare treats NaN as equal to NaN, which is what "no reading" needs here
+        return a.getEpochSeconds(i) == b.getEpochSeconds(j)
+                && Double.compare(a.getTemperature(i), b.getTemperature(j)) == 0
+                && Double.compare(a.getFeelsLike(i), b.getFeelsLike(j)) == 0
+                && Double.compare(a.getPrecipProbability(i), b.getPrecipProbability(j)) == 0
+                && Double.compare(a.getWindSpeed(i), b.getWindSpeed(j)) == 0
+                && Objects.equals(a.getDescription(i), b.getDescription(j))
+                && Objects.equals(a.getIconCode(i), b.getIconCode(j));
+    }
+
+    /** First slot starting at or after epochSeconds; slots are in time order. */
+    private static int lowerBound(ForecastSeries series, long epochSeconds) {
+        int lo = 0;
+        int hi = series.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (series.getEpochSeconds(mid) < epochSeconds) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int indexOf(long[] days, long day) {
+        for (int d = 0; d < days.length; d++) {
+            if (days[d] == day) return d;
+        }
+        return -1;
+    }
+
+    private static List<ForecastSlot> slots(ForecastSeries series, int from, int to) {
+        List<ForecastSlot> slots = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            slots.add(series.toSlot(i, localTime(series, i)));
+        }
+        return slots;
+    }
+
+    /** "HH:mm" in the city's local time; offsets are not always whole hours. */
+    static String localTime(ForecastSeries series, int i) {
+        long minutes = Math.floorMod(series.getEpochSeconds(i) + series.getTimezoneOffsetSeconds(), 86_400L) / 60;
+        long h = minutes / 60;
+        long m = minutes % 60;
+        return (h < 10 ? "0" : "") + h + ":" + (m < 10 ? "0" : "") + m;
+    }
+
+    /** One city's merged series and its day index: days[d] covers slots [dayStarts[d], dayStarts[d + 1]). */
+    static class Entry {
+        final ForecastSeries source;   // what the provider returned, for the identity check
+        final ForecastSeries series;   // source plus the earlier slots kept from today
+        final long[] days;
+        final int[] dayStarts;
+        final int firstChanged;        // first slot that differs from the previous merge
+
+        Entry(ForecastSeries source, ForecastSeries series, long[] days, int[] dayStarts, int firstChanged) {
+            this.source = source;
+            this.series = series;
+            this.days = days;
+            this.dayStarts = dayStarts;
+            this.firstChanged = firstChanged;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package data_access.weather;
+
+import entity.ForecastSeries;
+import use_case.weather.ForecastAPIGateway;
+import use_case.weather.ForecastJsonDecoder;
+import use_case.weather.ForecastProvider;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SharedForecastProvider: decodes each forecast response once and shares the result.
+ * The decoded ForecastSeries is remembered per city together with the JSON it came from;
+ * as long as the gateway keeps returning that same cached response, every caller gets the
+ * same immutable series. A new response (next model run, refresh) is decoded once again.
+ */
+public class SharedForecastProvider implements ForecastProvider {
+
+    static final int MAX_ENTRIES = CachingForecastAPIGateway.MAX_ENTRIES;
+
+    private static SharedForecastProvider instance;
+
+    private final ForecastAPIGateway gateway;
+    private final ForecastJsonDecoder decoder = new ForecastJsonDecoder();
+    private final Map<String, Decoded> decoded = new ConcurrentHashMap<>();
+
+    public SharedForecastProvider(ForecastAPIGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    /** Process-wide provider over the shared forecast cache, used by the weather panel and both suggestion flows. */
+    public static synchronized SharedForecastProvider getInstance() {
+        if (instance == null) {
+            instance = new SharedForecastProvider(CachingForecastAPIGateway.getInstance());
+        }
+        return instance;
+    }
+
+    @Override
+    public ForecastSeries getForecast(String cityName) throws Exception {
+        String json = gateway.request3hForecastJson(cityName);
+        String key = CachingForecastAPIGateway.normalizeCity(cityName);
+
+        Decoded entry = decoded.get(key);
+        // Identity check: the cache hands out the same String until it refetches
+        if (entry != null && entry.json == json) {
+            return entry.series;
+        }
+
+        ForecastSeries series = decoder.decode(json);
+        if (decoded.size() >= MAX_ENTRIES && !decoded.containsKey(key)) {
+            Iterator<String> it = decoded.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        decoded.put(key, new Decoded(json, series));
+        return series;
+    }
+
+    private static class Decoded {
+        final String json;
+        final ForecastSeries series;
+
+        Decoded(String json, ForecastSeries series) {
+            this.json = json;
+            this.series = series;
+        }
+    }
+}
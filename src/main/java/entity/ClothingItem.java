@@ -0,0 +1,114 @@
+package entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ClothingItem: the fixed catalog of clothing a user can own.
+ * Each item has the label shown on its StylePanel checkbox and the column it is stored in
+ * on Supabase; either one is accepted when reading a style map. The declaration order is the
+ * bit order of {@link StyleSet}, so new items must only ever be added at the end.
+ */
+public enum ClothingItem {
+    JEANS(Category.BOTTOMS, "jeans", "jeans"),
+    SWEATPANTS(Category.BOTTOMS, "sweatpants", "sweatpants"),
+    SHORTS(Category.BOTTOMS, "shorts", "shorts"),
+    DRESS_PANTS_CHINOS(Category.BOTTOMS, "dress pants/chinos", "dress_pants_chinos"),
+    LEGGINGS(Category.BOTTOMS, "leggings", "leggings"),
+    SKIRTS(Category.BOTTOMS, "skirts", "skirts"),
+
+    T_SHIRTS(Category.TOPS, "T-shirts", "tshirts"),
+    LONG_SLEEVE_SHIRTS(Category.TOPS, "long sleeve shirts", "long_sleeve_shirts"),
+    TANK_TOPS(Category.TOPS, "tank tops", "tank_tops"),
+    POLO_SHIRTS(Category.TOPS, "polo shirts", "polo_shirts"),
+    BLOUSES(Category.TOPS, "blouses", "blouses"),
+
+    HOODIE(Category.OUTERWEAR, "hoodie", "hoodie"),
+    SWEATSHIRT_CREWNECK(Category.OUTERWEAR, "sweatshirt/crewneck", "sweatshirt_crewneck"),
+    LIGHT_JACKET_WINDBREAKER(Category.OUTERWEAR, "light jacket/windbreaker", "light_jacket_windbreaker"),
+    DENIM_JACKET(Category.OUTERWEAR, "denim jacket", "denim_jacket"),
+    WINTER_COAT_PUFFER(Category.OUTERWEAR, "winter coat/puffer", "winter_coat_puffer"),
+    RAINCOAT(Category.OUTERWEAR, "raincoat", "raincoat"),
+    BLAZER(Category.OUTERWEAR, "blazer", "blazer"),
+
+    SNEAKERS(Category.FOOTWEAR, "sneakers", "sneakers"),
+    CASUAL_SHOES(Category.FOOTWEAR, "casual shoes", "casual_shoes"),
+    BOOTS(Category.FOOTWEAR, "boots", "boots"),
+    SANDALS_SLIPPERS(Category.FOOTWEAR, "sandals/slippers", "sandals_slippers"),
+    DRESS_SHOES(Category.FOOTWEAR, "dress shoes", "dress_shoes"),
+    CROCS(Category.FOOTWEAR, "crocs", "crocs"),
+
+    HATS_CAPS_BEANIES(Category.ACCESSORIES, "hats/caps/beanies", "hats_caps_beanies"),
+    SCARF(Category.ACCESSORIES, "scarf", "scarf"),
+    GLOVES(Category.ACCESSORIES, "gloves", "gloves"),
+    BELT(Category.ACCESSORIES, "belt", "belt"),
+    SUNGLASSES(Category.ACCESSORIES, "sunglasses", "sunglasses"),
+    WATCH(Category.ACCESSORIES, "watch", "watch");
+
+    /** StylePanel sections, in display order. */
+    public enum Category {
+        BOTTOMS("Bottoms"),
+        TOPS("Tops"),
+        OUTERWEAR("Outerwear"),
+        FOOTWEAR("Footwear"),
+        ACCESSORIES("Accessories");
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    private static final ClothingItem[] VALUES = values();
+    // label and column, lower-cased -> item
+    private static final Map<String, ClothingItem> BY_KEY = new HashMap<>();
+
+    static {
+        for (ClothingItem item : VALUES) {
+            BY_KEY.put(item.label.toLowerCase(Locale.ROOT), item);
+            BY_KEY.put(item.column, item);
+        }
+    }
+
+    private final Category category;
+    private final String label;
+    private final String column;
+
+    ClothingItem(Category category, String label, String column) {
+        this.category = category;
+        this.label = label;
+        this.column = column;
+    }
+
+    public Category getCategory() { return category; }
+    public String getLabel() { return label; }
+    public String getColumn() { return column; }
+
+    /**
+     * @param key a checkbox label ("T-shirts") or a Supabase column ("tshirts"), any case
+     * @return the item, or null if the key is not in the catalog
+     */
+    public static ClothingItem fromKey(String key) {
+        return key == null ? null : BY_KEY.get(key.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /** The items of one category, in catalog order. */
+    public static List<ClothingItem> inCategory(Category category) {
+        List<ClothingItem> items = new ArrayList<>();
+        for (ClothingItem item : VALUES) {
+            if (item.category == category) items.add(item);
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    static ClothingItem byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
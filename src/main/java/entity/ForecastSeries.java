@@ -0,0 +1,84 @@
+package entity;
+
+import java.util.Arrays;
+
+/**
+ * ForecastSeries: the full 5-day/3-hour forecast of one city, stored column by column.
+ * Each slot index i has a timestamp and a set of primitive readings; absent readings are NaN.
+ * Pure domain object, immutable once built.
+ */
+public class ForecastSeries {
+    private final String city;
+    private final int timezoneOffsetSeconds;   // city's offset from UTC
+    private final long[] epochSeconds;         // slot start, Unix time
+    private final double[] temperature;        // Celsius
+    private final double[] feelsLike;          // Celsius, NaN if absent
+    private final double[] precipProbability;  // 0..1, NaN if absent
+    private final double[] windSpeed;          // m/s, NaN if absent
+    private final String[] description;
+    private final String[] iconCode;
+
+    public ForecastSeries(String city,
+                          int timezoneOffsetSeconds,
+                          long[] epochSeconds,
+                          double[] temperature,
+                          double[] feelsLike,
+                          double[] precipProbability,
+                          double[] windSpeed,
+                          String[] description,
+                          String[] iconCode) {
+        int n = epochSeconds.length;
+        if (temperature.length != n || feelsLike.length != n || precipProbability.length != n
+                || windSpeed.length != n || description.length != n || iconCode.length != n) {
+            throw new IllegalArgumentException("All forecast columns must have the same length");
+        }
+        this.city = city;
+        this.timezoneOffsetSeconds = timezoneOffsetSeconds;
+        this.epochSeconds = epochSeconds.clone();
+        this.temperature = temperature.clone();
+        this.feelsLike = feelsLike.clone();
+        this.precipProbability = precipProbability.clone();
+        this.windSpeed = windSpeed.clone();
+        this.description = description.clone();
+        this.iconCode = iconCode.clone();
+    }
+
+    public String getCity() { return city; }
+    public int getTimezoneOffsetSeconds() { return timezoneOffsetSeconds; }
+    public int size() { return epochSeconds.length; }
+
+    public long getEpochSeconds(int i) { return epochSeconds[i]; }
+    public double getTemperature(int i) { return temperature[i]; }
+    public double getFeelsLike(int i) { return feelsLike[i]; }
+    public double getPrecipProbability(int i) { return precipProbability[i]; }
+    public double getWindSpeed(int i) { return windSpeed[i]; }
+    public String getDescription(int i) { return description[i]; }
+    public String getIconCode(int i) { return iconCode[i]; }
+
+    /** Local (city time) day number since 1970-01-01 for slot i. */
+    public long getLocalEpochDay(int i) {
+        return Math.floorDiv(epochSeconds[i] + timezoneOffsetSeconds, 86_400L);
+    }
+
+    /** Local (city time) hour of day, 0..23, for slot i. */
+    public int getLocalHour(int i) {
+        return (int) (Math.floorMod(epochSeconds[i] + timezoneOffsetSeconds, 86_400L) / 3_600L);
+    }
+
+    /** Slot i as a ForecastSlot; absent optional readings stay NaN. */
+    public ForecastSlot toSlot(int i, String label) {
+        return new ForecastSlot(label,
+                temperature[i],
+                description[i],
+                iconCode[i],
+                precipProbability[i],
+                windSpeed[i],
+                feelsLike[i]);
+    }
+
+    @Override
+    public String toString() {
+        return "ForecastSeries{" + city + ", " + size() + " slots, from " + Arrays.toString(
+                Arrays.copyOf(epochSeconds, Math.min(1, epochSeconds.length))) + "}";
+    }
+}
@@ -3,23 +3,24 @@ package entity;
 /**
  * ForecastSlot: one time-slot (e.g., Morning/Afternoon/Evening/Overnight) of today's weather.
  * Pure domain object, no UI/HTTP dependencies.
+ * Optional readings are plain doubles and NaN when unavailable, so a slot holds no boxed values.
  */
 public class ForecastSlot {
     private final String label;           // e.g., "Morning"
     private final double temperature;     // Celsius
     private final String description;     // short weather description
     private final String iconCode;        // OWM icon code, e.g., "10d"
-    private final Double precipProbability; // 0..1, nullable if unavailable
-    private final Double windSpeed;       // m/s, nullable
-    private final Double feelsLike;       // Celsius, nullable
+    private final double precipProbability; // 0..1, NaN if unavailable
+    private final double windSpeed;       // m/s, NaN if unavailable
+    private final double feelsLike;       // Celsius, NaN if unavailable
 
     public ForecastSlot(String label,
                         double temperature,
                         String description,
                         String iconCode,
-                        Double precipProbability,
-                        Double windSpeed,
-                        Double feelsLike) {
+                        double precipProbability,
+                        double windSpeed,
+                        double feelsLike) {
         this.label = label;
         this.temperature = temperature;
         this.description = description;
@@ -33,7 +34,11 @@ public class ForecastSlot {
     public double getTemperature() { return temperature; }
     public String getDescription() { return description; }
     public String getIconCode() { return iconCode; }
-    public Double getPrecipProbability() { return precipProbability; }
-    public Double getWindSpeed() { return windSpeed; }
-    public Double getFeelsLike() { return feelsLike; }
-}
\ No newline at end of file
+    public double getPrecipProbability() { return precipProbability; }
+    public double getWindSpeed() { return windSpeed; }
+    public double getFeelsLike() { return feelsLike; }
+
+    public boolean hasPrecipProbability() { return !Double.isNaN(precipProbability); }
+    public boolean hasWindSpeed() { return !Double.isNaN(windSpeed); }
+    public boolean hasFeelsLike() { return !Double.isNaN(feelsLike); }
+}
@@ -0,0 +1,131 @@
+package entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StyleSet: the clothing items a user owns, as one bit per {@link ClothingItem} in a long.
+ * Immutable; equality, hashing and comparison are a single long operation, which also makes
+ * it a compact cache key. Converts to and from the label-to-Boolean maps the Swing views use.
+ */
+public final class StyleSet {
+
+    public static final StyleSet EMPTY = new StyleSet(0L);
+
+    private static final long ALL_BITS = ClothingItem.values().length == 64
+            ? -1L : (1L << ClothingItem.values().length) - 1;
+
+    private final long bits;
+
+    private StyleSet(long bits) {
+        this.bits = bits;
+    }
+
+    public static StyleSet of(ClothingItem... items) {
+        long bits = 0;
+        for (ClothingItem item : items) {
+            bits |= bit(item);
+        }
+        return fromBits(bits);
+    }
+
+    public static StyleSet of(Iterable<ClothingItem> items) {
+        long bits = 0;
+        for (ClothingItem item : items) {
+            bits |= bit(item);
+        }
+        return fromBits(bits);
+    }
+
+    /**
+     * @param bits a value from {@link #toBits()}; bits past the end of the catalog are ignored
+     */
+    public static StyleSet fromBits(long bits) {
+        bits &= ALL_BITS;
+        return bits == 0 ? EMPTY : new StyleSet(bits);
+    }
+
+    /**
+     * Reads a style map keyed by checkbox label or Supabase column. Items mapped to true are
+     * owned; false, null and keys outside the catalog are ignored.
+     */
+    public static StyleSet fromMap(Map<String, Boolean> style) {
+        if (style == null) return EMPTY;
+        long bits = 0;
+        for (Map.Entry<String, Boolean> entry : style.entrySet()) {
+            if (!Boolean.TRUE.equals(entry.getValue())) continue;
+            ClothingItem item = ClothingItem.fromKey(entry.getKey());
+            if (item != null) bits |= bit(item);
+        }
+        return fromBits(bits);
+    }
+
+    public boolean contains(ClothingItem item) {
+        return (bits & bit(item)) != 0;
+    }
+
+    public StyleSet with(ClothingItem item) {
+        return fromBits(bits | bit(item));
+    }
+
+    public StyleSet without(ClothingItem item) {
+        return fromBits(bits & ~bit(item));
+    }
+
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    public boolean isEmpty() {
+        return bits == 0;
+    }
+
+    public long toBits() {
+        return bits;
+    }
+
+    /** Owned items in catalog order. */
+    public List<ClothingItem> items() {
+        List<ClothingItem> items = new ArrayList<>(size());
+        for (long rest = bits; rest != 0; rest &= rest - 1) {
+            items.add(ClothingItem.byOrdinal(Long.numberOfTrailingZeros(rest)));
+        }
+        return items;
+    }
+
+    /** Every catalog item's checkbox label mapped to whether it is owned, in catalog order. */
+    public Map<String, Boolean> toMap() {
+        Map<String, Boolean> map = new LinkedHashMap<>();
+        for (ClothingItem item : ClothingItem.values()) {
+            map.put(item.getLabel(), contains(item));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static long bit(ClothingItem item) {
+        return 1L << item.ordinal();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof StyleSet && ((StyleSet) o).bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("StyleSet[");
+        for (ClothingItem item : items()) {
+            if (sb.length() > 9) sb.append(", ");
+            sb.append(item.getLabel());
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -1,6 +1,7 @@
 package entity;
 
-
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class User {
@@ -8,6 +9,8 @@ public class User {
     private final String password;
     private final String location;
     private final String gender;
+    // owned items; the map form is kept for the Swing views and callers that still use it
+    private StyleSet styleSet = StyleSet.EMPTY;
     private Map<String, Boolean> style;
 
     public User(String name, String password, String location, String gender) {
@@ -39,11 +42,27 @@ public class User {
         return  gender;
     }
 
+    /**
+     * @return the style map as it was set (read-only), or null if no style was set
+     */
     public Map<String, Boolean> getStyle() {
         return style;
     }
 
+    /**
+     * @return the owned catalog items; empty if no style was set
+     */
+    public StyleSet getStyleSet() {
+        return styleSet;
+    }
+
     public void setStyle(Map<String, Boolean> style) {
-        this.style = style;
+        this.style = style == null ? null : Collections.unmodifiableMap(new LinkedHashMap<>(style));
+        this.styleSet = StyleSet.fromMap(style);
+    }
+
+    public void setStyle(StyleSet styleSet) {
+        this.styleSet = styleSet == null ? StyleSet.EMPTY : styleSet;
+        this.style = this.styleSet.toMap();
     }
 }
@@ -0,0 +1,51 @@
+package interface_adapter.http;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_case.weather.DailyForecastOutputBoundary;
+import use_case.weather.DailyForecastOutputData;
+import use_case.weather.SlotDTO;
+
+/**
+ * Presents today's forecast as JSON with raw numbers; unavailable readings are left out.
+ */
+public class DailyForecastJsonPresenter implements DailyForecastOutputBoundary {
+
+    private final JsonResponder responder;
+
+    public DailyForecastJsonPresenter(JsonResponder responder) {
+        this.responder = responder;
+    }
+
+    @Override
+    public void presentDailyForecast(DailyForecastOutputData outputData) {
+        if (!outputData.success) {
+            responder.fail(JsonResponder.UNPROCESSABLE,
+                    outputData.message != null ? outputData.message : "Could not load the forecast");
+            return;
+        }
+
+        JSONArray slots = new JSONArray();
+        if (outputData.slots != null) {
+            for (SlotDTO s : outputData.slots) {
+                JSONObject slot = new JSONObject()
+                        .put("label", s.label)
+                        .put("temperature", s.temperature)
+                        .put("description", s.description)
+                        .put("icon", s.iconCode);
+                putIfPresent(slot, "precipProbability", s.precipProbability);
+                putIfPresent(slot, "windSpeed", s.windSpeed);
+                putIfPresent(slot, "feelsLike", s.feelsLike);
+                slots.put(slot);
+            }
+        }
+        responder.respond(200, new JSONObject()
+                .put("city", outputData.city)
+                .put("advice", outputData.adviceText != null ? outputData.adviceText : "")
+                .put("slots", slots));
+    }
+
+    private static void putIfPresent(JSONObject json, String key, double value) {
+        if (!Double.isNaN(value)) json.put(key, value);
+    }
+}
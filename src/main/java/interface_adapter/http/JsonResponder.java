@@ -0,0 +1,20 @@
+package interface_adapter.http;
+
+import org.json.JSONObject;
+
+/**
+ * Where a JSON presenter sends its answer: one HTTP response per use-case run.
+ * The server implements it over the request's exchange, so presenters write straight to the client.
+ */
+public interface JsonResponder {
+
+    /** Status for a use case that ran but reported a failure view. */
+    int UNPROCESSABLE = 422;
+
+    void respond(int status, JSONObject body);
+
+    /** {"error": message} with the given status. */
+    default void fail(int status, String message) {
+        respond(status, new JSONObject().put("error", message));
+    }
+}
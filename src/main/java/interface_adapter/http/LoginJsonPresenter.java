@@ -0,0 +1,34 @@
+package interface_adapter.http;
+
+import data_access.user_storage.SessionRegistry;
+import org.json.JSONObject;
+import use_case.login.LoginOutputBoundary;
+import use_case.login.LoginOutputData;
+
+/**
+ * Presents a login as a new session: on success the client gets the token it sends
+ * as "Authorization: Bearer ..." with later requests.
+ */
+public class LoginJsonPresenter implements LoginOutputBoundary {
+
+    private final JsonResponder responder;
+    private final SessionRegistry sessions;
+
+    public LoginJsonPresenter(JsonResponder responder, SessionRegistry sessions) {
+        this.responder = responder;
+        this.sessions = sessions;
+    }
+
+    @Override
+    public void present(LoginOutputData output) {
+        if (!output.isSuccess() || output.getUser() == null) {
+            responder.fail(401, output.getMessage());
+            return;
+        }
+        String token = sessions.open(output.getUser());
+        responder.respond(200, new JSONObject()
+                .put("token", token)
+                .put("username", output.getUser().getName())
+                .put("location", output.getUser().getLocation() == null ? "" : output.getUser().getLocation()));
+    }
+}
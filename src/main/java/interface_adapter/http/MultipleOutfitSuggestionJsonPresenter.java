@@ -0,0 +1,29 @@
+package interface_adapter.http;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionOutputBoundary;
+import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionOutputData;
+
+public class MultipleOutfitSuggestionJsonPresenter implements MultipleOutfitSuggestionOutputBoundary {
+
+    private final JsonResponder responder;
+
+    public MultipleOutfitSuggestionJsonPresenter(JsonResponder responder) {
+        this.responder = responder;
+    }
+
+    @Override
+    public void prepareSuccessView(MultipleOutfitSuggestionOutputData outputData) {
+        responder.respond(200, new JSONObject()
+                .put("username", outputData.getUsername())
+                .put("city", outputData.getCity())
+                .put("temperature", outputData.getTemperature())
+                .put("outfits", new JSONArray(outputData.getOutfitSuggestions())));
+    }
+
+    @Override
+    public void prepareFailView(String errorMessage) {
+        responder.fail(JsonResponder.UNPROCESSABLE, errorMessage);
+    }
+}
@@ -0,0 +1,42 @@
+package interface_adapter.http;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import use_case.outfit_image_generation.ImagePayload;
+import use_case.outfit_image_generation.OutfitImageGenerationOutputBoundary;
+import use_case.outfit_image_generation.OutfitImageGenerationOutputData;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Presents generated images as base64 strings in request order.
+ * Images are only sent once the whole batch is done, since one JSON body cannot be streamed per image.
+ */
+public class OutfitImageGenerationJsonPresenter implements OutfitImageGenerationOutputBoundary {
+
+    private final JsonResponder responder;
+
+    public OutfitImageGenerationJsonPresenter(JsonResponder responder) {
+        this.responder = responder;
+    }
+
+    @Override
+    public void prepareSuccessView(OutfitImageGenerationOutputData data) {
+        JSONArray images = new JSONArray();
+        try {
+            for (ImagePayload image : data.getImages()) {
+                images.put(Base64.getEncoder().encodeToString(image.toByteArray()));
+            }
+        } catch (IOException e) {
+            responder.fail(500, "Could not read a generated image: " + e.getMessage());
+            return;
+        }
+        responder.respond(200, new JSONObject().put("images", images));
+    }
+
+    @Override
+    public void prepareFailureView(String errorMessage) {
+        responder.fail(JsonResponder.UNPROCESSABLE, errorMessage);
+    }
+}
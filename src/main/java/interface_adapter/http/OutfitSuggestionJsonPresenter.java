@@ -0,0 +1,28 @@
+package interface_adapter.http;
+
+import org.json.JSONObject;
+import use_case.outfit_suggestion.OutfitSuggestionOutputBoundary;
+import use_case.outfit_suggestion.OutfitSuggestionOutputData;
+
+public class OutfitSuggestionJsonPresenter implements OutfitSuggestionOutputBoundary {
+
+    private final JsonResponder responder;
+
+    public OutfitSuggestionJsonPresenter(JsonResponder responder) {
+        this.responder = responder;
+    }
+
+    @Override
+    public void prepareSuccessView(OutfitSuggestionOutputData outputData) {
+        responder.respond(200, new JSONObject()
+                .put("username", outputData.getUsername())
+                .put("city", outputData.getCity())
+                .put("temperature", outputData.getTemperature())
+                .put("suggestions", outputData.getOutfitSuggestions()));
+    }
+
+    @Override
+    public void prepareFailView(String errorMessage) {
+        responder.fail(JsonResponder.UNPROCESSABLE, errorMessage);
+    }
+}
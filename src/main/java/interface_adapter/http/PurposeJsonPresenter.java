@@ -0,0 +1,24 @@
+package interface_adapter.http;
+
+import org.json.JSONObject;
+import use_case.purpose.PurposeOutputBoundary;
+import use_case.purpose.PurposeOutputData;
+
+public class PurposeJsonPresenter implements PurposeOutputBoundary {
+
+    private final JsonResponder responder;
+
+    public PurposeJsonPresenter(JsonResponder responder) {
+        this.responder = responder;
+    }
+
+    @Override
+    public void presentSuccess(PurposeOutputData data) {
+        responder.respond(200, new JSONObject().put("accessories", data.getAccessoriesText()));
+    }
+
+    @Override
+    public void presentFailure(String errorMessage) {
+        responder.fail(JsonResponder.UNPROCESSABLE, errorMessage);
+    }
+}
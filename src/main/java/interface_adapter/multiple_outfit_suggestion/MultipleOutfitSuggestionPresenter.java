@@ -2,12 +2,14 @@ package interface_adapter.multiple_outfit_suggestion;
 
 import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionOutputBoundary;
 import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionOutputData;
+import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionStreamOutputBoundary;
 
 /**
  * Presenter for Multiple Outfit Suggestion Use Case.
  * Transforms output data into view calls.
  */
-public class MultipleOutfitSuggestionPresenter implements MultipleOutfitSuggestionOutputBoundary {
+public class MultipleOutfitSuggestionPresenter implements MultipleOutfitSuggestionOutputBoundary,
+        MultipleOutfitSuggestionStreamOutputBoundary {
 
     private final MultipleOutfitSuggestionView view;
 
@@ -26,6 +28,12 @@ public class MultipleOutfitSuggestionPresenter implements MultipleOutfitSuggesti
         );
     }
 
+    @Override
+    public void prepareSuggestionDeltaView(String textDelta) {
+        // Pass the new text straight on so the view can append it
+        view.onMultipleOutfitSuggestionDelta(textDelta);
+    }
+
     @Override
     public void prepareFailView(String errorMessage) {
         // Call the view with the error
@@ -23,4 +23,11 @@ public interface MultipleOutfitSuggestionView {
      * @param errorMessage the error message to display
      */
     void onMultipleOutfitSuggestionFailure(String errorMessage);
+
+    /**
+     * Called with each new piece of text while suggestions are being generated.
+     * @param textDelta text generated since the previous call
+     */
+    default void onMultipleOutfitSuggestionDelta(String textDelta) {
+    }
 }
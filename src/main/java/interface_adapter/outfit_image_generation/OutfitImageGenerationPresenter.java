@@ -1,5 +1,6 @@
 package interface_adapter.outfit_image_generation;
 
+import use_case.outfit_image_generation.ImagePayload;
 import use_case.outfit_image_generation.OutfitImageGenerationOutputBoundary;
 import use_case.outfit_image_generation.OutfitImageGenerationOutputData;
 
@@ -13,7 +14,12 @@ public class OutfitImageGenerationPresenter implements OutfitImageGenerationOutp
 
     @Override
     public void prepareSuccessView(OutfitImageGenerationOutputData data) {
-        view.onImageGenerationSuccess(data.getBase64Images());
+        view.onImageGenerationSuccess(data.getImages());
+    }
+
+    @Override
+    public void prepareImageReadyView(int outfitIndex, ImagePayload image) {
+        view.onImageReady(outfitIndex, image);
     }
 
     @Override
@@ -1,10 +1,16 @@
 package interface_adapter.outfit_image_generation;
 
+import use_case.outfit_image_generation.ImagePayload;
+
 import java.util.List;
 
 public interface OutfitImageGenerationView {
 
-    void onImageGenerationSuccess(List<String> base64Images);
+    void onImageGenerationSuccess(List<ImagePayload> images);
 
     void onImageGenerationFailure(String errorMessage);
+
+    /** A single image is ready; called before the success view, possibly off the EDT. */
+    default void onImageReady(int outfitIndex, ImagePayload image) {
+    }
 }
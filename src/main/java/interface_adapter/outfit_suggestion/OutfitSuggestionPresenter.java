@@ -2,9 +2,11 @@ package interface_adapter.outfit_suggestion;
 
 import use_case.outfit_suggestion.OutfitSuggestionOutputBoundary;
 import use_case.outfit_suggestion.OutfitSuggestionOutputData;
+import use_case.outfit_suggestion.OutfitSuggestionStreamOutputBoundary;
 
 // transforms output data into view calls
-public class OutfitSuggestionPresenter implements OutfitSuggestionOutputBoundary {
+public class OutfitSuggestionPresenter implements OutfitSuggestionOutputBoundary,
+        OutfitSuggestionStreamOutputBoundary {
 
     private final OutfitSuggestionView view;
 
@@ -23,6 +25,12 @@ public class OutfitSuggestionPresenter implements OutfitSuggestionOutputBoundary
         );
     }
 
+    @Override
+    public void prepareSuggestionDeltaView(String textDelta) {
+        // pass the new text straight on so the view can append it
+        view.onOutfitSuggestionDelta(textDelta);
+    }
+
     @Override
     public void prepareFailView(String errorMessage) {
         // call the view with the error
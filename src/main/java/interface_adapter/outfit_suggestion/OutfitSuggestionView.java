@@ -9,4 +9,8 @@ public interface OutfitSuggestionView {
 
     // called when something goes wrong
     void onOutfitSuggestionFailure(String errorMessage);
+
+    // called with each new piece of text while suggestions are being generated
+    default void onOutfitSuggestionDelta(String textDelta) {
+    }
 }
\ No newline at end of file
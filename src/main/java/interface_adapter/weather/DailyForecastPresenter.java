@@ -29,26 +29,44 @@ public class DailyForecastPresenter implements DailyForecastOutputBoundary {
         viewModel.setStatusMessage(outputData.message != null ? outputData.message : "");
         viewModel.setSuccess(outputData.success);
 
-        // Slots → SlotView list
+        // Slots → SlotView list; one builder for every label, no String.format
         List<WeatherViewModel.SlotView> slotViews = new ArrayList<>();
         if (outputData.slots != null) {
+            StringBuilder sb = new StringBuilder(48);
             for (SlotDTO s : outputData.slots) {
-                String tempText = String.format("%.1f℃", s.temperature);
-                String precipText = (s.precipProbability == null) ? ""
-                        : String.format("%.0f%%", s.precipProbability * 100.0);
-                String windText = (s.windSpeed == null) ? ""
-                        : String.format("%.1f m/s", s.windSpeed);
-                // Feels-like is optional; we can append if present
-                String descText = s.description;
-                if (s.feelsLike != null) {
-                    descText = String.format("%s (feels like %.1f℃)", s.description, s.feelsLike);
-                }
-
-                slotViews.add(new WeatherViewModel.SlotView(
-                        s.label, tempText, descText, s.iconCode, precipText, windText
-                ));
+                slotViews.add(toSlotView(s, sb));
             }
         }
         viewModel.setTodaySlots(slotViews);
     }
+
+    /** Formats one slot; the hourly presenter shares this so both views read the same. */
+    static WeatherViewModel.SlotView toSlotView(SlotDTO s, StringBuilder sb) {
+        sb.setLength(0);
+        String tempText = FixedPoint.append(sb, s.temperature, 1).append('℃').toString();
+
+        String precipText = "";
+        if (!Double.isNaN(s.precipProbability)) {
+            sb.setLength(0);
+            precipText = FixedPoint.append(sb, s.precipProbability * 100.0, 0).append('%').toString();
+        }
+
+        String windText = "";
+        if (!Double.isNaN(s.windSpeed)) {
+            sb.setLength(0);
+            windText = FixedPoint.append(sb, s.windSpeed, 1).append(" m/s").toString();
+        }
+
+        // Feels-like is optional; we can append if present
+        String descText = s.description;
+        if (!Double.isNaN(s.feelsLike)) {
+            sb.setLength(0);
+            sb.append(s.description).append(" (feels like ");
+            descText = FixedPoint.append(sb, s.feelsLike, 1).append("℃)").toString();
+        }
+
+        return new WeatherViewModel.SlotView(
+                s.label, tempText, descText, s.iconCode, precipText, windText
+        );
+    }
 }
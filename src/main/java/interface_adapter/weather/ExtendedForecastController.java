@@ -0,0 +1,31 @@
+package interface_adapter.weather;
+
+import use_case.weather.HourlyForecastInputBoundary;
+import use_case.weather.HourlyForecastInputData;
+import use_case.weather.MultiDayForecastInputBoundary;
+import use_case.weather.MultiDayForecastInputData;
+
+/**
+ * Controller for the views beyond today: the hourly timeline and the 5-day summary.
+ * Both read the forecast the daily view already loaded, so they are cheap to call after it.
+ */
+public class ExtendedForecastController {
+
+    public static final int TIMELINE_HOURS = 24;
+    public static final int DAYS = 5;
+
+    private final HourlyForecastInputBoundary hourly;
+    private final MultiDayForecastInputBoundary multiDay;
+
+    public ExtendedForecastController(HourlyForecastInputBoundary hourly,
+                                      MultiDayForecastInputBoundary multiDay) {
+        this.hourly = hourly;
+        this.multiDay = multiDay;
+    }
+
+    /** Loads both views for the city; input validation is left to the use cases. */
+    public void load(String cityName) {
+        hourly.getHourlyForecast(new HourlyForecastInputData(cityName, TIMELINE_HOURS));
+        multiDay.getMultiDayForecast(new MultiDayForecastInputData(cityName, DAYS));
+    }
+}
@@ -0,0 +1,52 @@
+package interface_adapter.weather;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * FixedPoint: appends a double with a fixed number of decimals, the way
+ * {@code String.format("%.Nf")} would (half-up on the shortest decimal form that
+ * Double.toString prints), without the Formatter machinery.
+ * Always uses '.' as the decimal separator.
+ */
+final class FixedPoint {
+
+    private static final long[] SCALE = {1, 10, 100, 1000, 10000};
+
+    private FixedPoint() {
+    }
+
+    static StringBuilder append(StringBuilder sb, double value, int decimals) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return sb.append(value);
+        }
+        long scale = SCALE[decimals];
+        double abs = Math.abs(value);
+        if (abs * scale >= Long.MAX_VALUE) {
+            return sb.append(BigDecimal.valueOf(value).setScale(decimals, RoundingMode.HALF_UP).toPlainString());
+        }
+
+        double scaled = abs * scale;
+        long units = (long) scaled;
+        double fraction = scaled - units;
+        if (Math.abs(fraction - 0.5) < 1e-9) {
+            // Too close to call in binary: settle it on the decimal form like Formatter does
+            units = BigDecimal.valueOf(abs).setScale(decimals, RoundingMode.HALF_UP).unscaledValue().longValue();
+        } else if (fraction > 0.5) {
+            units++;
+        }
+
+        // -0.04 prints as "-0.0", matching String.format
+        if (value < 0 || (value == 0 && 1 / value < 0)) sb.append('-');
+        sb.append(units / scale);
+        if (decimals > 0) {
+            sb.append('.');
+            long rest = units % scale;
+            for (long digit = scale / 10; digit > 0; digit /= 10) {
+                sb.append((char) ('0' + rest / digit));
+                rest %= digit;
+            }
+        }
+        return sb;
+    }
+}
@@ -0,0 +1,33 @@
+package interface_adapter.weather;
+
+import use_case.weather.HourlyForecastOutputBoundary;
+import use_case.weather.HourlyForecastOutputData;
+import use_case.weather.SlotDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Presenter for the hourly timeline: same row format as today's four slots.
+ */
+public class HourlyForecastPresenter implements HourlyForecastOutputBoundary {
+
+    private final WeatherViewModel viewModel;
+
+    public HourlyForecastPresenter(WeatherViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void presentHourlyForecast(HourlyForecastOutputData outputData) {
+        List<WeatherViewModel.SlotView> slotViews = new ArrayList<>();
+        if (outputData.slots != null) {
+            StringBuilder sb = new StringBuilder(48);
+            for (SlotDTO s : outputData.slots) {
+                slotViews.add(DailyForecastPresenter.toSlotView(s, sb));
+            }
+        }
+        viewModel.setHourlySlots(slotViews);
+        viewModel.setHourlyMessage(outputData.success ? "" : outputData.message);
+    }
+}
@@ -0,0 +1,54 @@
+package interface_adapter.weather;
+
+import use_case.weather.DaySummaryDTO;
+import use_case.weather.MultiDayForecastOutputBoundary;
+import use_case.weather.MultiDayForecastOutputData;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Presenter for the 5-day view: one line of text per day, plus its icon code.
+ */
+public class MultiDayForecastPresenter implements MultiDayForecastOutputBoundary {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("EEE d MMM", Locale.ENGLISH);
+
+    private final WeatherViewModel viewModel;
+
+    public MultiDayForecastPresenter(WeatherViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void presentMultiDayForecast(MultiDayForecastOutputData outputData) {
+        List<WeatherViewModel.DayView> dayViews = new ArrayList<>();
+        if (outputData.days != null) {
+            StringBuilder sb = new StringBuilder(48);
+            for (DaySummaryDTO d : outputData.days) {
+                sb.setLength(0);
+                FixedPoint.append(sb, d.minTemperature, 1).append("℃ / ");
+                String rangeText = FixedPoint.append(sb, d.maxTemperature, 1).append('℃').toString();
+
+                String precipText = "";
+                if (!Double.isNaN(d.maxPrecipProbability)) {
+                    sb.setLength(0);
+                    precipText = FixedPoint.append(sb, d.maxPrecipProbability * 100.0, 0).append('%').toString();
+                }
+
+                String windText = "";
+                if (!Double.isNaN(d.maxWindSpeed)) {
+                    sb.setLength(0);
+                    windText = FixedPoint.append(sb, d.maxWindSpeed, 1).append(" m/s").toString();
+                }
+
+                dayViews.add(new WeatherViewModel.DayView(
+                        DATE.format(d.date), rangeText, d.description, d.iconCode, precipText, windText));
+            }
+        }
+        viewModel.setDays(dayViews);
+        viewModel.setDaysMessage(outputData.success ? "" : outputData.message);
+    }
+}
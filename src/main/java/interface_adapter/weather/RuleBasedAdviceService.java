@@ -24,12 +24,12 @@ public class RuleBasedAdviceService implements AdviceService {
                 .map(ForecastSlot::getTemperature).max(Comparator.naturalOrder()).orElse(Double.NaN);
 
         boolean willRain = forecast.getSlots().stream().anyMatch(s ->
-                (s.getPrecipProbability() != null && s.getPrecipProbability() >= 0.5)
+                s.getPrecipProbability() >= 0.5
                         || s.getDescription().toLowerCase(Locale.ROOT).contains("rain")
                         || s.getDescription().toLowerCase(Locale.ROOT).contains("drizzle"));
 
         boolean windy = forecast.getSlots().stream().anyMatch(s ->
-                s.getWindSpeed() != null && s.getWindSpeed() >= 10.0); // ~36 km/h
+                s.getWindSpeed() >= 10.0); // ~36 km/h; NaN (unknown) never matches
 
         // Compose rules
         if (willRain) sb.append("It may rain today, bring an umbrella. ");
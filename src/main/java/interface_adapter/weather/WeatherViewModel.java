@@ -29,8 +29,32 @@ public class WeatherViewModel {
         }
     }
 
+    /** One row of the 5-day view. */
+    public static class DayView {
+        public final String dateText;   // "Mon 20 Oct"
+        public final String rangeText;  // "3.1℃ / 9.8℃"
+        public final String descText;   // midday conditions
+        public final String iconCode;
+        public final String precipText; // "40%", empty if unknown
+        public final String windText;   // "5.2 m/s", empty if unknown
+
+        public DayView(String dateText, String rangeText, String descText,
+                       String iconCode, String precipText, String windText) {
+            this.dateText = dateText;
+            this.rangeText = rangeText;
+            this.descText = descText;
+            this.iconCode = iconCode;
+            this.precipText = precipText;
+            this.windText = windText;
+        }
+    }
+
     private String city = "";
     private List<SlotView> todaySlots = new ArrayList<>();
+    private List<SlotView> hourlySlots = new ArrayList<>();
+    private List<DayView> days = new ArrayList<>();
+    private String hourlyMessage = "";
+    private String daysMessage = "";
     private String adviceText = "";
     private String statusMessage = ""; // e.g., "OK" / error message
     private boolean success = true;
@@ -43,6 +67,26 @@ public class WeatherViewModel {
         this.todaySlots = (todaySlots != null) ? todaySlots : new ArrayList<>();
     }
 
+    public List<SlotView> getHourlySlots() { return hourlySlots; }
+    public void setHourlySlots(List<SlotView> hourlySlots) {
+        this.hourlySlots = (hourlySlots != null) ? hourlySlots : new ArrayList<>();
+    }
+
+    public List<DayView> getDays() { return days; }
+    public void setDays(List<DayView> days) {
+        this.days = (days != null) ? days : new ArrayList<>();
+    }
+
+    public String getHourlyMessage() { return hourlyMessage; }
+    public void setHourlyMessage(String hourlyMessage) {
+        this.hourlyMessage = hourlyMessage != null ? hourlyMessage : "";
+    }
+
+    public String getDaysMessage() { return daysMessage; }
+    public void setDaysMessage(String daysMessage) {
+        this.daysMessage = daysMessage != null ? daysMessage : "";
+    }
+
     public String getAdviceText() { return adviceText; }
     public void setAdviceText(String adviceText) {
         this.adviceText = adviceText != null ? adviceText : "";
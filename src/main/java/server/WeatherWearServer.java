@@ -0,0 +1,433 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import data_access.user_storage.SessionRegistry;
+import data_access.user_storage.UserRepository;
+import entity.User;
+import interface_adapter.http.DailyForecastJsonPresenter;
+import interface_adapter.http.JsonResponder;
+import interface_adapter.http.LoginJsonPresenter;
+import interface_adapter.http.MultipleOutfitSuggestionJsonPresenter;
+import interface_adapter.http.OutfitImageGenerationJsonPresenter;
+import interface_adapter.http.OutfitSuggestionJsonPresenter;
+import interface_adapter.http.PurposeJsonPresenter;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import use_case.login.LoginInputData;
+import use_case.login.LoginInteractor;
+import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionDataAccessInterface;
+import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionInputData;
+import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionInteractor;
+import use_case.outfit_image_generation.OutfitImageGenerationDataAccessInterface;
+import use_case.outfit_image_generation.OutfitImageGenerationInteractor;
+import use_case.outfit_suggestion.OutfitSuggestionDataAccessInterface;
+import use_case.outfit_suggestion.OutfitSuggestionInputData;
+import use_case.outfit_suggestion.OutfitSuggestionInteractor;
+import use_case.purpose.PurposeAccessoryDataAccessInterface;
+import use_case.purpose.PurposeInputData;
+import use_case.purpose.PurposeInteractor;
+import use_case.weather.AdviceService;
+import use_case.weather.DailyForecastInputData;
+import use_case.weather.DailyForecastInteractor;
+import use_case.weather.ForecastProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * WeatherWearServer: the use cases as JSON endpoints on the JDK's built-in HTTP server, without Swing.
+ *
+ * The server's own dispatcher thread only hands each exchange to a bounded worker pool;
+ * when every worker is busy and the queue is full the client gets an immediate 503 instead
+ * of waiting. Workers run one interactor per request with a JSON presenter that writes the
+ * response itself. Users log in once and send the returned token as
+ * {@code Authorization: Bearer <token>}; sessions live in a {@link SessionRegistry}.
+ *
+ * <pre>
+ * GET  /api/health
+ * POST /api/login       {"username": ..., "password": ...}
+ * POST /api/logout
+ * GET  /api/forecast?city=Toronto   (city defaults to the logged-in user's)
+ * POST /api/outfit      {"location": ...}           (location optional)
+ * POST /api/outfits     {"location": ..., "count": 3}
+ * POST /api/accessories {"purpose": ...}
+ * POST /api/images      {"outfits": ["...", ...]}
+ * </pre>
+ */
+public class WeatherWearServer {
+
+    static final int DEFAULT_THREADS = 64;
+    static final int DEFAULT_QUEUE = 256;
+    static final int MAX_OUTFITS = 6;
+    static final int MAX_IMAGES = 4;
+    /** Largest request body read; every endpoint takes a few short strings. */
+    static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private final HttpServer http;
+    private final ThreadPoolExecutor workers;
+    private final SessionRegistry sessions;
+    private final UserRepository users;
+    private final ForecastProvider forecasts;
+    private final AdviceService advice;
+    private final OutfitSuggestionDataAccessInterface outfits;
+    private final MultipleOutfitSuggestionDataAccessInterface multipleOutfits;
+    private final PurposeAccessoryDataAccessInterface accessories;
+    private final Function<User, OutfitImageGenerationDataAccessInterface> images;
+
+    private WeatherWearServer(Builder builder) throws IOException {
+        this.sessions = builder.sessions != null ? builder.sessions : new SessionRegistry();
+        this.users = require(builder.users, "users");
+        this.forecasts = require(builder.forecasts, "forecasts");
+        this.advice = require(builder.advice, "advice");
+        this.outfits = require(builder.outfits, "outfits");
+        this.multipleOutfits = require(builder.multipleOutfits, "multipleOutfits");
+        this.accessories = require(builder.accessories, "accessories");
+        this.images = require(builder.images, "images");
+
+        AtomicInteger ids = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(builder.threads, builder.threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(builder.queueCapacity),
+                r -> new Thread(r, "http-worker-" + ids.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.http = HttpServer.create(new InetSocketAddress(builder.port), 0);
+        route("/api/health", "GET", false, this::health);
+        route("/api/login", "POST", false, this::login);
+        route("/api/logout", "POST", true, this::logout);
+        route("/api/forecast", "GET", false, this::forecast);
+        route("/api/outfit", "POST", true, this::outfit);
+        route("/api/outfits", "POST", true, this::multipleOutfits);
+        route("/api/accessories", "POST", true, this::accessories);
+        route("/api/images", "POST", true, this::images);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public void start() {
+        http.start();
+    }
+
+    /**
+     * Waits up to {@code delaySeconds} for running requests, then stops. New requests
+     * meanwhile get 503.
+     */
+    public void stop(int delaySeconds) {
+        workers.shutdown();
+        try {
+            workers.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdownNow();
+        http.stop(0);
+    }
+
+    /** The bound port; useful when started on port 0. */
+    public int getPort() {
+        return http.getAddress().getPort();
+    }
+
+    // ==================== Endpoints ====================
+
+    private void health(Request request, JsonResponder responder) {
+        responder.respond(200, new JSONObject()
+                .put("status", "ok")
+                .put("activeRequests", workers.getActiveCount())
+                .put("queuedRequests", workers.getQueue().size())
+                .put("sessions", sessions.size()));
+    }
+
+    private void login(Request request, JsonResponder responder) throws IOException {
+        JSONObject body = request.json();
+        LoginInteractor interactor = new LoginInteractor(new LoginJsonPresenter(responder, sessions), users);
+        interactor.login(new LoginInputData(body.getString("username"), body.getString("password")));
+    }
+
+    private void logout(Request request, JsonResponder responder) {
+        sessions.close(request.token);
+        responder.respond(200, new JSONObject().put("status", "logged out"));
+    }
+
+    private void forecast(Request request, JsonResponder responder) {
+        String city = request.query("city");
+        User user = request.user();
+        if ((city == null || city.isBlank()) && user == null) {
+            responder.fail(400, "Pass ?city= or log in");
+            return;
+        }
+        // The server's own location means nothing to the client, so fall back to the user's city
+        DailyForecastInteractor interactor = new DailyForecastInteractor(forecasts,
+                () -> user != null ? user.getLocation() : null, advice, new DailyForecastJsonPresenter(responder));
+        interactor.getDailyForecast(new DailyForecastInputData(city));
+    }
+
+    private void outfit(Request request, JsonResponder responder) throws IOException {
+        User user = request.user();
+        String location = request.optJson().optString("location", user.getLocation());
+        OutfitSuggestionInteractor interactor = new OutfitSuggestionInteractor(
+                user, outfits, new OutfitSuggestionJsonPresenter(responder));
+        interactor.execute(new OutfitSuggestionInputData(user.getName(), location));
+    }
+
+    private void multipleOutfits(Request request, JsonResponder responder) throws IOException {
+        User user = request.user();
+        JSONObject body = request.optJson();
+        String location = body.optString("location", user.getLocation());
+        int count = body.optInt("count", 3);
+        if (count < 1 || count > MAX_OUTFITS) {
+            responder.fail(400, "count must be between 1 and " + MAX_OUTFITS);
+            return;
+        }
+        MultipleOutfitSuggestionInteractor interactor = new MultipleOutfitSuggestionInteractor(
+                user, multipleOutfits, new MultipleOutfitSuggestionJsonPresenter(responder));
+        interactor.execute(new MultipleOutfitSuggestionInputData(user.getName(), location, count));
+    }
+
+    private void accessories(Request request, JsonResponder responder) throws IOException {
+        PurposeInteractor interactor = new PurposeInteractor(accessories, new PurposeJsonPresenter(responder));
+        interactor.generateAccessories(new PurposeInputData(request.json().optString("purpose", "")));
+    }
+
+    private void images(Request request, JsonResponder responder) throws IOException {
+        JSONArray array = request.json().optJSONArray("outfits");
+        List<String> outfitTexts = new ArrayList<>();
+        if (array != null) {
+            for (int i = 0; i < array.length(); i++) outfitTexts.add(array.getString(i));
+        }
+        if (outfitTexts.size() > MAX_IMAGES) {
+            responder.fail(400, "At most " + MAX_IMAGES + " outfits per request");
+            return;
+        }
+        OutfitImageGenerationInteractor interactor = new OutfitImageGenerationInteractor(
+                images.apply(request.user()), new OutfitImageGenerationJsonPresenter(responder));
+        interactor.generateImages(outfitTexts);
+    }
+
+    // ==================== Plumbing ====================
+
+    private interface Endpoint {
+        void handle(Request request, JsonResponder responder) throws Exception;
+    }
+
+    private void route(String path, String method, boolean requiresLogin, Endpoint endpoint) {
+        HttpHandler handler = exchange -> {
+            try {
+                workers.execute(() -> serve(exchange, method, requiresLogin, endpoint));
+            } catch (RejectedExecutionException e) {
+                // Answered on the dispatcher thread; cheap, and keeps the backlog from growing
+                new ExchangeResponder(exchange).fail(503, "Server is busy, try again shortly");
+            }
+        };
+        http.createContext(path, handler);
+    }
+
+    private void serve(HttpExchange exchange, String method, boolean requiresLogin, Endpoint endpoint) {
+        ExchangeResponder responder = new ExchangeResponder(exchange);
+        try {
+            if (!method.equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", method);
+                responder.fail(405, "Use " + method);
+                return;
+            }
+            Request request = new Request(exchange, sessions);
+            if (requiresLogin && request.user() == null) {
+                responder.fail(401, "Log in first");
+                return;
+            }
+            endpoint.handle(request, responder);
+            if (!responder.sent) {
+                responder.fail(500, "The request produced no response");
+            }
+        } catch (JSONException e) {
+            responder.fail(400, "Bad request body: " + e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Request to " + exchange.getRequestURI() + " failed: " + e);
+            responder.fail(500, "Internal error");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /** Writes one JSON response to the exchange; later responses are ignored. */
+    private static class ExchangeResponder implements JsonResponder {
+        private final HttpExchange exchange;
+        private boolean sent;
+
+        ExchangeResponder(HttpExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        public synchronized void respond(int status, JSONObject body) {
+            if (sent) return;
+            sent = true;
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            try {
+                exchange.sendResponseHeaders(status, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            } catch (IOException e) {
+                // The client went away
+                System.err.println("Could not send response: " + e.getMessage());
+            }
+        }
+    }
+
+    private static class Request {
+        private final HttpExchange exchange;
+        private final String token;
+        private final User user;
+        private JSONObject body;
+
+        Request(HttpExchange exchange, SessionRegistry sessions) {
+            this.exchange = exchange;
+            String auth = exchange.getRequestHeaders().getFirst("Authorization");
+            this.token = auth != null && auth.startsWith("Bearer ") ? auth.substring(7).trim() : null;
+            this.user = sessions.getCurrentUser(token);
+        }
+
+        User user() {
+            return user;
+        }
+
+        String query(String name) {
+            String raw = exchange.getRequestURI().getRawQuery();
+            if (raw == null) return null;
+            for (String pair : raw.split("&")) {
+                int eq = pair.indexOf('=');
+                String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+                if (key.equals(name)) {
+                    return eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                }
+            }
+            return null;
+        }
+
+        /** The JSON body; a missing or malformed body is a 400. */
+        JSONObject json() throws IOException {
+            if (body == null) {
+                body = new JSONObject(readBody());
+            }
+            return body;
+        }
+
+        /** The JSON body, or an empty object if none was sent. */
+        JSONObject optJson() throws IOException {
+            if (body == null) {
+                String text = readBody();
+                body = text.isBlank() ? new JSONObject() : new JSONObject(text);
+            }
+            return body;
+        }
+
+        private String readBody() throws IOException {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+                if (bytes.length > MAX_BODY_BYTES) {
+                    throw new JSONException("body larger than " + MAX_BODY_BYTES + " bytes");
+                }
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private static <T> T require(T value, String name) {
+        if (value == null) {
+            throw new IllegalStateException("WeatherWearServer needs " + name);
+        }
+        return value;
+    }
+
+    public static class Builder {
+        private int port = 8080;
+        private int threads = DEFAULT_THREADS;
+        private int queueCapacity = DEFAULT_QUEUE;
+        private SessionRegistry sessions;
+        private UserRepository users;
+        private ForecastProvider forecasts;
+        private AdviceService advice;
+        private OutfitSuggestionDataAccessInterface outfits;
+        private MultipleOutfitSuggestionDataAccessInterface multipleOutfits;
+        private PurposeAccessoryDataAccessInterface accessories;
+        private Function<User, OutfitImageGenerationDataAccessInterface> images;
+
+        private Builder() {
+        }
+
+        /** 0 picks a free port. */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /** Requests handled at once; {@code queueCapacity} more may wait before clients get 503. */
+        public Builder workers(int threads, int queueCapacity) {
+            if (threads <= 0 || queueCapacity <= 0) {
+                throw new IllegalArgumentException("threads and queueCapacity must be positive");
+            }
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder sessions(SessionRegistry sessions) {
+            this.sessions = sessions;
+            return this;
+        }
+
+        public Builder users(UserRepository users) {
+            this.users = users;
+            return this;
+        }
+
+        public Builder forecasts(ForecastProvider forecasts, AdviceService advice) {
+            this.forecasts = forecasts;
+            this.advice = advice;
+            return this;
+        }
+
+        public Builder outfits(OutfitSuggestionDataAccessInterface outfits) {
+            this.outfits = outfits;
+            return this;
+        }
+
+        public Builder multipleOutfits(MultipleOutfitSuggestionDataAccessInterface multipleOutfits) {
+            this.multipleOutfits = multipleOutfits;
+            return this;
+        }
+
+        public Builder accessories(PurposeAccessoryDataAccessInterface accessories) {
+            this.accessories = accessories;
+            return this;
+        }
+
+        /** Image data access per logged-in user. */
+        public Builder images(Function<User, OutfitImageGenerationDataAccessInterface> images) {
+            this.images = images;
+            return this;
+        }
+
+        public WeatherWearServer build() throws IOException {
+            return new WeatherWearServer(this);
+        }
+    }
+}
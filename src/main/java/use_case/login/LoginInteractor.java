@@ -3,6 +3,8 @@ package use_case.login;
 import entity.User;
 import data_access.user_storage.UserRepository;
 
+import java.io.UncheckedIOException;
+
 
 // Interactor for handling user login
 public class LoginInteractor implements LoginInputBoundary{
@@ -15,7 +17,16 @@ public class LoginInteractor implements LoginInputBoundary{
     }
 
     public void login(LoginInputData inputData) {
-        User user = authenticate(inputData.getUsername(), inputData.getPassword());
+        User user;
+        try {
+            user = authenticate(inputData.getUsername(), inputData.getPassword());
+        } catch (UncheckedIOException e) {
+            // Not the same as a wrong password: the user may well exist
+            LoginOutputData outputData = new LoginOutputData(false,
+                    "Could not reach the user database. Please try again.", inputData.getUsername());
+            outputBoundary.present(outputData);
+            return;
+        }
 
         if (user == null) {
             LoginOutputData outputData = new LoginOutputData(false, "Invalid username or password", inputData.getUsername());
@@ -3,6 +3,7 @@ package use_case.multiple_outfit_suggestion;
 import entity.User;
 import entity.DailyForecast;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Data Access Interface for Multiple Outfit Suggestion Use Case.
@@ -26,4 +27,19 @@ public interface MultipleOutfitSuggestionDataAccessInterface {
      * @return a list of outfit suggestion strings
      */
     List<String> generateMultipleOutfitSuggestions(User user, DailyForecast forecast, int numberOfSuggestions);
+
+    /**
+     * Same as {@link #generateMultipleOutfitSuggestions(User, DailyForecast, int)}, but reports the
+     * text as it is generated. The default reports the whole text once it is complete.
+     * @param onDelta receives each new piece of text, in order
+     * @return a list of outfit suggestion strings
+     */
+    default List<String> generateMultipleOutfitSuggestions(User user, DailyForecast forecast,
+                                                           int numberOfSuggestions, Consumer<String> onDelta) {
+        List<String> suggestions = generateMultipleOutfitSuggestions(user, forecast, numberOfSuggestions);
+        if (suggestions != null && !suggestions.isEmpty()) {
+            onDelta.accept(String.join("\n\n", suggestions));
+        }
+        return suggestions;
+    }
 }
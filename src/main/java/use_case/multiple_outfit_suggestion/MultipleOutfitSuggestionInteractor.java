@@ -16,6 +16,7 @@ public class MultipleOutfitSuggestionInteractor implements MultipleOutfitSuggest
     private final User currentUser;
     private final MultipleOutfitSuggestionDataAccessInterface weatherAndAIAccess;
     private final MultipleOutfitSuggestionOutputBoundary presenter;
+    private final MultipleOutfitSuggestionStreamOutputBoundary streamPresenter;
 
     /**
      * Constructor for MultipleOutfitSuggestionInteractor.
@@ -27,9 +28,25 @@ public class MultipleOutfitSuggestionInteractor implements MultipleOutfitSuggest
             User currentUser,
             MultipleOutfitSuggestionDataAccessInterface weatherAndAIAccess,
             MultipleOutfitSuggestionOutputBoundary presenter) {
+        this(currentUser, weatherAndAIAccess, presenter, null);
+    }
+
+    /**
+     * Constructor for MultipleOutfitSuggestionInteractor that also streams the text as it is generated.
+     * @param currentUser the logged in user with their preferences
+     * @param weatherAndAIAccess the data access for weather and AI suggestions
+     * @param presenter the presenter for showing results to the user
+     * @param streamPresenter receives the suggestion text piece by piece, or null to wait for the result
+     */
+    public MultipleOutfitSuggestionInteractor(
+            User currentUser,
+            MultipleOutfitSuggestionDataAccessInterface weatherAndAIAccess,
+            MultipleOutfitSuggestionOutputBoundary presenter,
+            MultipleOutfitSuggestionStreamOutputBoundary streamPresenter) {
         this.currentUser = currentUser;
         this.weatherAndAIAccess = weatherAndAIAccess;
         this.presenter = presenter;
+        this.streamPresenter = streamPresenter;
     }
 
     /**
@@ -46,11 +63,16 @@ public class MultipleOutfitSuggestionInteractor implements MultipleOutfitSuggest
                 return;
             }
 
-            List<String> outfitSuggestions = weatherAndAIAccess.generateMultipleOutfitSuggestions(
-                    currentUser,
-                    forecast,
-                    inputData.getNumberOfSuggestions()
-            );
+            List<String> outfitSuggestions = streamPresenter == null
+                    ? weatherAndAIAccess.generateMultipleOutfitSuggestions(
+                            currentUser,
+                            forecast,
+                            inputData.getNumberOfSuggestions())
+                    : weatherAndAIAccess.generateMultipleOutfitSuggestions(
+                            currentUser,
+                            forecast,
+                            inputData.getNumberOfSuggestions(),
+                            streamPresenter::prepareSuggestionDeltaView);
 
             if (outfitSuggestions == null || outfitSuggestions.isEmpty()) {
                 presenter.prepareFailView("Could not generate outfit suggestions. Please try again.");
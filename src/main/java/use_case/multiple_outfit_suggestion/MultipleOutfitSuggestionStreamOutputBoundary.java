@@ -0,0 +1,15 @@
+package use_case.multiple_outfit_suggestion;
+
+/**
+ * Streaming Output Boundary for Multiple Outfit Suggestion Use Case.
+ * Receives the suggestion text while it is still being generated.
+ */
+public interface MultipleOutfitSuggestionStreamOutputBoundary {
+
+    /**
+     * Shows the next piece of suggestion text. Pieces arrive in order and before the
+     * success view, and may come from a background thread.
+     * @param textDelta text generated since the previous call
+     */
+    void prepareSuggestionDeltaView(String textDelta);
+}
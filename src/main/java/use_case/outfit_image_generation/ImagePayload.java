@@ -0,0 +1,118 @@
+package use_case.outfit_image_generation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * ImagePayload: the encoded bytes of one generated image (PNG, JPEG, ...), held either in a
+ * byte buffer or in a file. Readers open a fresh stream each time, so a payload can be shown
+ * more than once. Immutable apart from a memoized content hash; the backing buffer is never exposed writable.
+ */
+public final class ImagePayload {
+
+    private final ByteBuffer bytes;  // null when file-backed
+    private final Path file;         // null when buffer-backed
+    private volatile String contentHash;
+
+    private ImagePayload(ByteBuffer bytes, Path file) {
+        this.bytes = bytes;
+        this.file = file;
+    }
+
+    /** Wraps the remaining bytes of the buffer without copying them. */
+    public static ImagePayload ofBytes(ByteBuffer bytes) {
+        return new ImagePayload(bytes.asReadOnlyBuffer(), null);
+    }
+
+    public static ImagePayload ofBytes(byte[] bytes) {
+        return ofBytes(ByteBuffer.wrap(bytes));
+    }
+
+    /** Refers to an image file; the file is read each time the payload is opened. */
+    public static ImagePayload ofFile(Path file) {
+        return new ImagePayload(null, file);
+    }
+
+    /** Size of the encoded image in bytes. */
+    public long size() throws IOException {
+        return bytes != null ? bytes.remaining() : Files.size(file);
+    }
+
+    public InputStream openStream() throws IOException {
+        return bytes != null ? new BufferInputStream(bytes.duplicate()) : Files.newInputStream(file);
+    }
+
+    /** Read-only view of the bytes; file-backed payloads are memory-mapped. */
+    public ByteBuffer asByteBuffer() throws IOException {
+        if (bytes != null) return bytes.duplicate();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    public byte[] toByteArray() throws IOException {
+        ByteBuffer view = asByteBuffer();
+        byte[] copy = new byte[view.remaining()];
+        view.get(copy);
+        return copy;
+    }
+
+    /**
+     * Hex SHA-256 of the encoded bytes, computed once per payload. Two payloads with the
+     * same image, e.g. a fresh generation and a later disk-cache hit, share a hash.
+     */
+    public String contentHash() throws IOException {
+        String hash = contentHash;
+        if (hash != null) return hash;
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE ships SHA-256
+            throw new IllegalStateException(e);
+        }
+        digest.update(asByteBuffer());
+        byte[] bytes = digest.digest();
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        hash = sb.toString();
+        contentHash = hash;
+        return hash;
+    }
+
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
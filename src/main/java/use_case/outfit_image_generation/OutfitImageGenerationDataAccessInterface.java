@@ -3,5 +3,21 @@ package use_case.outfit_image_generation;
 import java.util.List;
 
 public interface OutfitImageGenerationDataAccessInterface {
-    List<String> generateImages(List<String> outfits);
+    List<ImagePayload> generateImages(List<String> outfits);
+
+    /**
+     * Same as {@link #generateImages(List)}, but reports each image to the listener as soon as it
+     * is ready. The returned list keeps the order of the outfits; outfits that failed are left out.
+     * The default implementation reports every image once the whole batch has finished,
+     * indexed by its position in the returned list.
+     */
+    default List<ImagePayload> generateImages(List<String> outfits, OutfitImageListener listener) {
+        List<ImagePayload> images = generateImages(outfits);
+        if (images != null) {
+            for (int i = 0; i < images.size(); i++) {
+                listener.onImageReady(i, images.get(i));
+            }
+        }
+        return images;
+    }
 }
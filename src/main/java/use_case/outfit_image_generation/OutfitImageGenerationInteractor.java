@@ -22,7 +22,8 @@ public class OutfitImageGenerationInteractor implements OutfitImageGenerationInp
             return;
         }
 
-        List<String> images = dataAccess.generateImages(outfits);
+        // Push each image out as it arrives instead of waiting for the slowest one
+        List<ImagePayload> images = dataAccess.generateImages(outfits, presenter::prepareImageReadyView);
 
         if (images == null || images.isEmpty()) {
             presenter.prepareFailureView("Gemini did not return any images.");
@@ -5,4 +5,13 @@ public interface OutfitImageGenerationOutputBoundary {
     void prepareSuccessView(OutfitImageGenerationOutputData data);
 
     void prepareFailureView(String errorMessage);
+
+    /**
+     * Called once per image as soon as it is generated, before the success or failure view.
+     * May be called from a background thread, and in any order.
+     *
+     * @param outfitIndex position of the outfit in the requested list
+     */
+    default void prepareImageReadyView(int outfitIndex, ImagePayload image) {
+    }
 }
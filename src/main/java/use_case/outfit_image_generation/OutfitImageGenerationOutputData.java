@@ -4,13 +4,13 @@ import java.util.List;
 
 public class OutfitImageGenerationOutputData {
 
-    private final List<String> base64Images;
+    private final List<ImagePayload> images;
 
-    public OutfitImageGenerationOutputData(List<String> base64Images) {
-        this.base64Images = base64Images;
+    public OutfitImageGenerationOutputData(List<ImagePayload> images) {
+        this.images = images;
     }
 
-    public List<String> getBase64Images() {
-        return base64Images;
+    public List<ImagePayload> getImages() {
+        return images;
     }
 }
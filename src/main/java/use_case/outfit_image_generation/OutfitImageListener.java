@@ -0,0 +1,14 @@
+package use_case.outfit_image_generation;
+
+/**
+ * Callback for images that finish before the whole batch does.
+ * May be called from a background thread, and in any order.
+ */
+public interface OutfitImageListener {
+
+    /**
+     * @param outfitIndex position of the outfit in the list passed to generateImages
+     * @param image the generated image
+     */
+    void onImageReady(int outfitIndex, ImagePayload image);
+}
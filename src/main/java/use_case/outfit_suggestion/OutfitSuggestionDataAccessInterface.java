@@ -3,6 +3,7 @@ package use_case.outfit_suggestion;
 import entity.User;
 import entity.DailyForecast;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Data Access Interface for Outfit Suggestion Use Case.
@@ -25,4 +26,18 @@ public interface OutfitSuggestionDataAccessInterface {
      * @return a list of outfit suggestion strings
      */
     List<String> generateOutfitSuggestions(User user, DailyForecast forecast);
+
+    /**
+     * Same as {@link #generateOutfitSuggestions(User, DailyForecast)}, but reports the text
+     * as it is generated. The default reports the whole text once it is complete.
+     * @param onDelta receives each new piece of text, in order
+     * @return a list of outfit suggestion strings
+     */
+    default List<String> generateOutfitSuggestions(User user, DailyForecast forecast, Consumer<String> onDelta) {
+        List<String> suggestions = generateOutfitSuggestions(user, forecast);
+        if (suggestions != null && !suggestions.isEmpty()) {
+            onDelta.accept(String.join("\n\n", suggestions));
+        }
+        return suggestions;
+    }
 }
\ No newline at end of file
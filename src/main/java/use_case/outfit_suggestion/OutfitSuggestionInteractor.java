@@ -15,6 +15,7 @@ public class OutfitSuggestionInteractor implements OutfitSuggestionInputBoundary
     private final User currentUser;
     private final OutfitSuggestionDataAccessInterface weatherAndAIAccess;
     private final OutfitSuggestionOutputBoundary presenter;
+    private final OutfitSuggestionStreamOutputBoundary streamPresenter;
 
     /**
      * Constructor for OutfitSuggestionInteractor.
@@ -26,9 +27,25 @@ public class OutfitSuggestionInteractor implements OutfitSuggestionInputBoundary
             User currentUser,
             OutfitSuggestionDataAccessInterface weatherAndAIAccess,
             OutfitSuggestionOutputBoundary presenter) {
+        this(currentUser, weatherAndAIAccess, presenter, null);
+    }
+
+    /**
+     * Constructor for OutfitSuggestionInteractor that also streams the text as it is generated.
+     * @param currentUser the logged in user with their preferences
+     * @param weatherAndAIAccess the data access for weather and AI suggestions
+     * @param presenter the presenter for showing results to the user
+     * @param streamPresenter receives the suggestion text piece by piece, or null to wait for the result
+     */
+    public OutfitSuggestionInteractor(
+            User currentUser,
+            OutfitSuggestionDataAccessInterface weatherAndAIAccess,
+            OutfitSuggestionOutputBoundary presenter,
+            OutfitSuggestionStreamOutputBoundary streamPresenter) {
         this.currentUser = currentUser;
         this.weatherAndAIAccess = weatherAndAIAccess;
         this.presenter = presenter;
+        this.streamPresenter = streamPresenter;
     }
 
     /**
@@ -51,7 +68,11 @@ public class OutfitSuggestionInteractor implements OutfitSuggestionInputBoundary
 
             // Step 3: Generate outfit suggestions using the LLM
             // This combines user preferences (style, gender, etc.) with weather data
-            List<String> outfitSuggestions = weatherAndAIAccess.generateOutfitSuggestions(currentUser, forecast);
+            // When streaming, the text shows up as it is written instead of all at the end
+            List<String> outfitSuggestions = streamPresenter == null
+                    ? weatherAndAIAccess.generateOutfitSuggestions(currentUser, forecast)
+                    : weatherAndAIAccess.generateOutfitSuggestions(currentUser, forecast,
+                            streamPresenter::prepareSuggestionDeltaView);
 
             if (outfitSuggestions == null || outfitSuggestions.isEmpty()) {
                 presenter.prepareFailView("Could not generate outfit suggestions. Please try again.");
@@ -0,0 +1,10 @@
+package use_case.outfit_suggestion;
+
+// receives the suggestion text while it is still being generated
+
+public interface OutfitSuggestionStreamOutputBoundary {
+
+    // the next piece of suggestion text; pieces arrive in order, before the success view,
+    // and may come from a background thread
+    void prepareSuggestionDeltaView(String textDelta);
+}
@@ -4,6 +4,8 @@ import data_access.user_storage.PendingUserStorage;
 import entity.User;
 import data_access.user_storage.UserRepository;
 
+import java.io.UncheckedIOException;
+
 
 // Interactor for user signup
 
@@ -28,8 +30,16 @@ public class SignupInteractor implements SignupInputBoundary {
             return;
         }
 
-        // Check existing user
-        if (repository.exists(input.getUsername())) {
+        // Check existing user; if that cannot be answered, do not assume the name is free
+        boolean taken;
+        try {
+            taken = repository.exists(input.getUsername());
+        } catch (UncheckedIOException e) {
+            presenter.present(new SignupOutputData(false,
+                    "Could not reach the user database. Please try again.", null));
+            return;
+        }
+        if (taken) {
             presenter.present(new SignupOutputData(false, "Username already taken", null));
             return;
         }
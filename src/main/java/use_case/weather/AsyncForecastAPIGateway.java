@@ -0,0 +1,16 @@
+package use_case.weather;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link ForecastAPIGateway}: the caller's thread is released
+ * while the request is in flight, so one thread can drive many forecast lookups.
+ */
+public interface AsyncForecastAPIGateway {
+    /**
+     * Request 5-day/3-hour forecast JSON by city name without blocking.
+     * @param cityName city name (already decided; could be auto-detected beforehand)
+     * @return future completed with the raw JSON string, or exceptionally for network or HTTP errors
+     */
+    CompletableFuture<String> request3hForecastJsonAsync(String cityName);
+}
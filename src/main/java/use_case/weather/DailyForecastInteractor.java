@@ -1,16 +1,14 @@
 package use_case.weather;
 
 import entity.DailyForecast;
+import entity.ForecastSeries;
 import entity.ForecastSlot;
-import org.json.JSONArray;
-import org.json.JSONObject;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -18,16 +16,27 @@ import java.util.List;
  */
 public class DailyForecastInteractor implements DailyForecastInputBoundary {
 
-    private final ForecastAPIGateway forecastGateway;
+    private static final int[] TARGET_HOURS = {9, 15, 19, 23};
+    private static final String[] SLOT_LABELS = {"Morning", "Afternoon", "Evening", "Overnight"};
+
+    private final ForecastProvider forecastProvider;
     private final LocationService locationService;
     private final AdviceService adviceService;
     private final DailyForecastOutputBoundary presenter;
 
+    /** Decodes the gateway's JSON on every request. */
     public DailyForecastInteractor(ForecastAPIGateway forecastGateway,
                                    LocationService locationService,
                                    AdviceService adviceService,
                                    DailyForecastOutputBoundary presenter) {
-        this.forecastGateway = forecastGateway;
+        this(ForecastProvider.decoding(forecastGateway), locationService, adviceService, presenter);
+    }
+
+    public DailyForecastInteractor(ForecastProvider forecastProvider,
+                                   LocationService locationService,
+                                   AdviceService adviceService,
+                                   DailyForecastOutputBoundary presenter) {
+        this.forecastProvider = forecastProvider;
         this.locationService = locationService;
         this.adviceService = adviceService;
         this.presenter = presenter;
@@ -44,45 +53,21 @@ public class DailyForecastInteractor implements DailyForecastInputBoundary {
                 resolvedCity = locationService.getCurrentCity();
             }
 
-            //Call gateway to get 5-day/3-hour forecast JSON
-            String json = forecastGateway.request3hForecastJson(resolvedCity);
-
-            //Parse JSON
-            JSONObject root = new JSONObject(json);
-            JSONObject cityObj = root.getJSONObject("city");
-            int tzShiftSec = cityObj.optInt("timezone", 0); // seconds from UTC
-            ZoneOffset zoneOffset = ZoneOffset.ofTotalSeconds(tzShiftSec);
+            //Get the decoded 5-day/3-hour forecast (shared with the suggestion flows)
+            ForecastSeries series = forecastProvider.getForecast(resolvedCity);
+            ZoneOffset zoneOffset = ZoneOffset.ofTotalSeconds(series.getTimezoneOffsetSeconds());
 
             // "today" in city's local time
             LocalDate cityToday = Instant.now().atOffset(zoneOffset).toLocalDate();
 
-            JSONArray arr = root.getJSONArray("list"); // 3h forecast entries
-
-            // Find the earliest available date in the forecast
-            LocalDate earliestDate = null;
-            if (arr.length() > 0) {
-                long firstDt = arr.getJSONObject(0).getLong("dt");
-                earliestDate = Instant.ofEpochSecond(firstDt).atOffset(zoneOffset).toLocalDate();
-            }
-
             // Use the earliest available date (which should be today or the next available day)
-            LocalDate targetDate = earliestDate != null ? earliestDate : cityToday;
-
-            // Collect entries for the target date
-            List<JSONObject> todays = new ArrayList<>();
-            for (int i = 0; i < arr.length(); i++) {
-                JSONObject item = arr.getJSONObject(i);
-                long dt = item.getLong("dt"); // Unix time (seconds)
-                LocalDateTime local = Instant.ofEpochSecond(dt).atOffset(zoneOffset).toLocalDateTime();
-                if (local.toLocalDate().equals(targetDate)) {
-                    // Attach local datetime for later sorting/selection (store as string field)
-                    item.put("_localHour", local.getHour());
-                    item.put("_localDateTime", local.toString());
-                    todays.add(item);
-                }
-            }
+            LocalDate targetDate = series.size() > 0
+                    ? LocalDate.ofEpochDay(series.getLocalEpochDay(0)) : cityToday;
 
-            if (todays.isEmpty()) {
+            //Pick 4 representative slots (closest to target hours) in one pass
+            int[] picked = pickSlotsForTargetHours(series, targetDate.toEpochDay());
+
+            if (picked[0] < 0) {
                 // No data for today — treat as error
                 presenter.presentDailyForecast(new DailyForecastOutputData(
                         resolvedCity, new ArrayList<>(),
@@ -92,17 +77,10 @@ public class DailyForecastInteractor implements DailyForecastInputBoundary {
                 return;
             }
 
-            //Pick 4 representative slots (closest to target hours)
-            ForecastSlot morning   = pickSlotForTargetHour(todays, zoneOffset, targetDate,  9, "Morning");
-            ForecastSlot afternoon = pickSlotForTargetHour(todays, zoneOffset, targetDate, 15, "Afternoon");
-            ForecastSlot evening   = pickSlotForTargetHour(todays, zoneOffset, targetDate, 19, "Evening");
-            ForecastSlot overnight = pickSlotForTargetHour(todays, zoneOffset, targetDate, 23, "Overnight");
-
             List<ForecastSlot> slots = new ArrayList<>();
-            if (morning != null)   slots.add(morning);
-            if (afternoon != null) slots.add(afternoon);
-            if (evening != null)   slots.add(evening);
-            if (overnight != null) slots.add(overnight);
+            for (int k = 0; k < TARGET_HOURS.length; k++) {
+                slots.add(series.toSlot(picked[k], SLOT_LABELS[k]));
+            }
 
             // 5) Build domain entity & make advice
             DailyForecast forecast = new DailyForecast(resolvedCity, targetDate, slots);
@@ -139,40 +117,26 @@ public class DailyForecastInteractor implements DailyForecastInputBoundary {
     }
 
     /**
-     * Pick the entry closest to the targetHour among today's entries, and build a ForecastSlot.
+     * For each target hour, find the entry on targetEpochDay whose local hour is closest to it.
+     * Ties keep the earliest entry. Returns -1 for every target when the day has no entries.
      */
-    private ForecastSlot pickSlotForTargetHour(List<JSONObject> todays,
-                                               ZoneOffset zoneOffset,
-                                               LocalDate cityToday,
-                                               int targetHour,
-                                               String label) {
-        // Filter today's entries (already filtered) and find the closest by absolute hour difference
-        JSONObject best = todays.stream()
-                .min(Comparator.comparingInt(o -> {
-                    int h = o.optInt("_localHour", -1);
-                    return Math.abs(h - targetHour);
-                }))
-                .orElse(null);
-
-        if (best == null) return null;
-
-        // Extract fields from the JSON entry
-        JSONObject main = best.getJSONObject("main");
-        double temp = main.getDouble("temp");
-        Double feelsLike = main.has("feels_like") ? main.getDouble("feels_like") : null;
-
-        JSONArray weatherArr = best.getJSONArray("weather");
-        JSONObject w0 = weatherArr.getJSONObject(0);
-        String desc = w0.getString("description");
-        String icon = w0.getString("icon"); // e.g., "10d"
-
-        Double pop = best.has("pop") ? best.getDouble("pop") : null; // 0..1
-        Double wind = null;
-        if (best.has("wind")) {
-            JSONObject windObj = best.getJSONObject("wind");
-            if (windObj.has("speed")) wind = windObj.getDouble("speed"); // m/s
+    static int[] pickSlotsForTargetHours(ForecastSeries series, long targetEpochDay) {
+        int[] best = new int[TARGET_HOURS.length];
+        int[] bestDiff = new int[TARGET_HOURS.length];
+        Arrays.fill(best, -1);
+        Arrays.fill(bestDiff, Integer.MAX_VALUE);
+
+        for (int i = 0; i < series.size(); i++) {
+            if (series.getLocalEpochDay(i) != targetEpochDay) continue;
+            int hour = series.getLocalHour(i);
+            for (int k = 0; k < TARGET_HOURS.length; k++) {
+                int diff = Math.abs(hour - TARGET_HOURS[k]);
+                if (diff < bestDiff[k]) {
+                    bestDiff[k] = diff;
+                    best[k] = i;
+                }
+            }
         }
-
-        return new ForecastSlot(label, temp, desc, icon, pop, wind, feelsLike);
+        return best;
     }
-}
\ No newline at end of file
+}
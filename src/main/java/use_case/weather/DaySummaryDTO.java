@@ -0,0 +1,69 @@
+package use_case.weather;
+
+import java.time.LocalDate;
+
+/**
+ * DaySummaryDTO: use-case level summary of one local day.
+ * Description and icon come from the slot nearest midday. Optional maxima are NaN when no
+ * slot of the day reported them.
+ */
+public class DaySummaryDTO {
+    public final LocalDate date;
+    public final double minTemperature;       // Celsius
+    public final double maxTemperature;       // Celsius
+    public final String description;
+    public final String iconCode;
+    public final double maxPrecipProbability; // 0..1, NaN if unavailable
+    public final double maxWindSpeed;         // m/s, NaN if unavailable
+    public final int slotCount;               // fewer than 8 for a partial day
+
+    public DaySummaryDTO(LocalDate date,
+                         double minTemperature,
+                         double maxTemperature,
+                         String description,
+                         String iconCode,
+                         double maxPrecipProbability,
+                         double maxWindSpeed,
+                         int slotCount) {
+        this.date = date;
+        this.minTemperature = minTemperature;
+        this.maxTemperature = maxTemperature;
+        this.description = description;
+        this.iconCode = iconCode;
+        this.maxPrecipProbability = maxPrecipProbability;
+        this.maxWindSpeed = maxWindSpeed;
+        this.slotCount = slotCount;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public double getMinTemperature() {
+        return minTemperature;
+    }
+
+    public double getMaxTemperature() {
+        return maxTemperature;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getIconCode() {
+        return iconCode;
+    }
+
+    public double getMaxPrecipProbability() {
+        return maxPrecipProbability;
+    }
+
+    public double getMaxWindSpeed() {
+        return maxWindSpeed;
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+}
@@ -0,0 +1,214 @@
+package use_case.weather;
+
+import entity.ForecastSeries;
+
+import java.util.Arrays;
+
+/**
+ * ForecastJsonDecoder: turns a raw OWM "5 day / 3 hour" response into a ForecastSeries
+ * in a single forward pass. Only dt, main.temp, main.feels_like, weather[0], pop and
+ * wind.speed are kept; every other member is skipped without being materialized.
+ * Descriptions and icon codes come from the process-wide {@link ForecastStringPool}.
+ * Stateless and safe to share.
+ */
+public class ForecastJsonDecoder {
+
+    private static final String[] ROOT_NAMES = {"list", "city"};
+    private static final String[] ENTRY_NAMES = {"dt", "main", "weather", "pop", "wind"};
+    private static final String[] MAIN_NAMES = {"temp", "feels_like"};
+    private static final String[] WEATHER_NAMES = {"description", "icon"};
+    private static final String[] WIND_NAMES = {"speed"};
+    private static final String[] CITY_NAMES = {"name", "timezone"};
+
+    /** OWM returns 40 entries for the free forecast endpoint. */
+    private static final int EXPECTED_SLOTS = 40;
+
+    /**
+     * @param json raw response body
+     * @return the decoded forecast
+     * @throws IllegalStateException if the JSON is malformed or misses required fields
+     */
+    public ForecastSeries decode(String json) {
+        ForecastJsonReader reader = new ForecastJsonReader(json);
+        Columns columns = null;
+        boolean sawCity = false;
+        String city = "";
+        int timezone = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(ROOT_NAMES)) {
+                case 0:
+                    columns = readList(reader);
+                    break;
+                case 1:
+                    sawCity = true;
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        int name = reader.selectName(CITY_NAMES);
+                        if (name == 0 && reader.peek() == ForecastJsonReader.Token.STRING) {
+                            city = reader.nextString();
+                        } else if (name == 1 && reader.peek() == ForecastJsonReader.Token.NUMBER) {
+                            timezone = (int) reader.nextLong();
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (columns == null) throw new IllegalStateException("Forecast JSON has no \"list\"");
+        if (!sawCity) throw new IllegalStateException("Forecast JSON has no \"city\"");
+        return columns.build(city, timezone);
+    }
+
+    private Columns readList(ForecastJsonReader reader) {
+        Columns c = new Columns();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            c.startSlot();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(ENTRY_NAMES)) {
+                    case 0:
+                        c.epochSeconds[c.size] = reader.nextLong();
+                        break;
+                    case 1:
+                        readMain(reader, c);
+                        break;
+                    case 2:
+                        readWeather(reader, c);
+                        break;
+                    case 3:
+                        c.pop[c.size] = reader.nextDouble();
+                        break;
+                    case 4:
+                        readWind(reader, c);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            c.finishSlot();
+        }
+        reader.endArray();
+        return c;
+    }
+
+    private void readMain(ForecastJsonReader reader, Columns c) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(MAIN_NAMES)) {
+                case 0:
+                    c.temperature[c.size] = reader.nextDouble();
+                    break;
+                case 1:
+                    c.feelsLike[c.size] = reader.nextDouble();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    private void readWeather(ForecastJsonReader reader, Columns c) {
+        reader.beginArray();
+        boolean first = true;
+        while (reader.hasNext()) {
+            if (!first) {
+                reader.skipValue();
+                continue;
+            }
+            first = false;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.selectName(WEATHER_NAMES)) {
+                    case 0:
+                        c.description[c.size] = reader.nextString(ForecastStringPool.SHARED);
+                        break;
+                    case 1:
+                        c.iconCode[c.size] = reader.nextString(ForecastStringPool.SHARED);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        reader.endArray();
+    }
+
+    private void readWind(ForecastJsonReader reader, Columns c) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.selectName(WIND_NAMES) == 0) {
+                c.windSpeed[c.size] = reader.nextDouble();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    /** Growable column buffers for the slots decoded so far. */
+    private static class Columns {
+        int size;
+        long[] epochSeconds = new long[EXPECTED_SLOTS];
+        double[] temperature = new double[EXPECTED_SLOTS];
+        double[] feelsLike = new double[EXPECTED_SLOTS];
+        double[] pop = new double[EXPECTED_SLOTS];
+        double[] windSpeed = new double[EXPECTED_SLOTS];
+        String[] description = new String[EXPECTED_SLOTS];
+        String[] iconCode = new String[EXPECTED_SLOTS];
+
+        void startSlot() {
+            if (size == epochSeconds.length) {
+                int n = size * 2;
+                epochSeconds = Arrays.copyOf(epochSeconds, n);
+                temperature = Arrays.copyOf(temperature, n);
+                feelsLike = Arrays.copyOf(feelsLike, n);
+                pop = Arrays.copyOf(pop, n);
+                windSpeed = Arrays.copyOf(windSpeed, n);
+                description = Arrays.copyOf(description, n);
+                iconCode = Arrays.copyOf(iconCode, n);
+            }
+            epochSeconds[size] = Long.MIN_VALUE;
+            temperature[size] = Double.NaN;
+            feelsLike[size] = Double.NaN;
+            pop[size] = Double.NaN;
+            windSpeed[size] = Double.NaN;
+            description[size] = null;
+            iconCode[size] = null;
+        }
+
+        void finishSlot() {
+            if (epochSeconds[size] == Long.MIN_VALUE) throw missing("dt");
+            if (Double.isNaN(temperature[size])) throw missing("main.temp");
+            if (description[size] == null) throw missing("weather[0].description");
+            if (iconCode[size] == null) throw missing("weather[0].icon");
+            size++;
+        }
+
+        ForecastSeries build(String city, int timezone) {
+            return new ForecastSeries(city, timezone,
+                    Arrays.copyOf(epochSeconds, size),
+                    Arrays.copyOf(temperature, size),
+                    Arrays.copyOf(feelsLike, size),
+                    Arrays.copyOf(pop, size),
+                    Arrays.copyOf(windSpeed, size),
+                    Arrays.copyOf(description, size),
+                    Arrays.copyOf(iconCode, size));
+        }
+
+        private IllegalStateException missing(String field) {
+            return new IllegalStateException("Forecast entry " + size + " has no " + field);
+        }
+    }
+}
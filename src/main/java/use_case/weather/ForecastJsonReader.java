@@ -0,0 +1,282 @@
+package use_case.weather;
+
+/**
+ * ForecastJsonReader: a small pull-style JSON reader over an in-memory document.
+ * The caller walks the document token by token and skips what it does not need,
+ * so no intermediate object tree is built. Only what the forecast decoder uses is supported;
+ * separators are read leniently because the input comes from a trusted API.
+ */
+class ForecastJsonReader {
+
+    enum Token { BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT }
+
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final String in;
+    private int pos;
+
+    ForecastJsonReader(String in) {
+        this.in = in;
+    }
+
+    Token peek() {
+        skipSeparator();
+        if (pos >= in.length()) return Token.END_DOCUMENT;
+        char c = in.charAt(pos);
+        switch (c) {
+            case '{': return Token.BEGIN_OBJECT;
+            case '}': return Token.END_OBJECT;
+            case '[': return Token.BEGIN_ARRAY;
+            case ']': return Token.END_ARRAY;
+            case '"': return Token.STRING;
+            case 't':
+            case 'f': return Token.BOOLEAN;
+            case 'n': return Token.NULL;
+            default:  return Token.NUMBER;
+        }
+    }
+
+    void beginObject() { skipSeparator(); expect('{'); }
+    void endObject()   { skipWhitespace(); expect('}'); }
+    void beginArray()  { skipSeparator(); expect('['); }
+    void endArray()    { skipWhitespace(); expect(']'); }
+
+    /** True while the current object or array has more members. */
+    boolean hasNext() {
+        skipSeparator();
+        if (pos >= in.length()) return false;
+        char c = in.charAt(pos);
+        return c != '}' && c != ']';
+    }
+
+    /**
+     * Read the next member name and its colon, and return its index in {@code names},
+     * or -1 if it is none of them. Compares in place, so unknown names cost no allocation.
+     */
+    int selectName(String[] names) {
+        skipSeparator();
+        expect('"');
+        int start = pos;
+        int end = in.indexOf('"', start);
+        if (end < 0) throw error("Unterminated name");
+        int found = -1;
+        if (hasEscape(start, end)) {
+            // Escaped names never occur in OWM payloads; decode and compare the slow way
+            pos = start - 1;
+            String name = readString();
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) found = i;
+            }
+        } else {
+            int len = end - start;
+            for (int i = 0; i < names.length && found < 0; i++) {
+                if (names[i].length() == len && in.regionMatches(start, names[i], 0, len)) found = i;
+            }
+            pos = end + 1;
+        }
+        skipWhitespace();
+        expect(':');
+        return found;
+    }
+
+    String nextString() {
+        skipSeparator();
+        return readString();
+    }
+
+    /**
+     * Like {@link #nextString()}, but returns the pooled instance of the value, so repeated
+     * values such as "light rain" or "10d" are allocated once for the whole process.
+     */
+    String nextString(ForecastStringPool pool) {
+        skipSeparator();
+        expect('"');
+        int start = pos;
+        int end = in.indexOf('"', start);
+        if (end < 0) throw error("Unterminated string");
+        if (hasEscape(start, end)) {
+            pos = start - 1;
+            return readString();
+        }
+        pos = end + 1;
+        return pool.intern(in, start, end);
+    }
+
+    /** Read a number; returns NaN for a JSON null. */
+    double nextDouble() {
+        skipSeparator();
+        if (pos < in.length() && in.charAt(pos) == 'n') {
+            skipLiteral();
+            return Double.NaN;
+        }
+        int start = pos;
+        boolean negative = false;
+        if (pos < in.length() && in.charAt(pos) == '-') {
+            negative = true;
+            pos++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean simple = true;
+        boolean inFraction = false;
+        while (pos < in.length()) {
+            char c = in.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (inFraction) fractionDigits++;
+            } else if (c == '.' && !inFraction) {
+                inFraction = true;
+            } else if (c == 'e' || c == 'E' || c == '+' || c == '-') {
+                simple = false;
+            } else {
+                break;
+            }
+            pos++;
+        }
+        if (pos == start) throw error("Expected a number");
+        // Exact for up to 15 significant digits: both operands are exact doubles and
+        // IEEE division rounds correctly, matching Double.parseDouble
+        if (simple && digits <= 15 && fractionDigits < POW10.length) {
+            double value = mantissa / POW10[fractionDigits];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(in.substring(start, pos));
+    }
+
+    long nextLong() {
+        skipSeparator();
+        int start = pos;
+        boolean negative = false;
+        if (pos < in.length() && in.charAt(pos) == '-') {
+            negative = true;
+            pos++;
+        }
+        long value = 0;
+        while (pos < in.length()) {
+            char c = in.charAt(pos);
+            if (c < '0' || c > '9') break;
+            value = value * 10 + (c - '0');
+            pos++;
+        }
+        if (pos < in.length() && (in.charAt(pos) == '.' || in.charAt(pos) == 'e' || in.charAt(pos) == 'E')) {
+            pos = start;
+            return (long) nextDouble();
+        }
+        if (pos == start) throw error("Expected an integer");
+        return negative ? -value : value;
+    }
+
+    /** Skip the next value, including any nested objects or arrays. */
+    void skipValue() {
+        skipSeparator();
+        if (pos >= in.length()) throw error("Unexpected end of input");
+        char c = in.charAt(pos);
+        if (c == '"') {
+            skipString();
+        } else if (c == '{' || c == '[') {
+            int depth = 0;
+            do {
+                c = in.charAt(pos);
+                if (c == '"') {
+                    skipString();
+                    continue;
+                }
+                if (c == '{' || c == '[') depth++;
+                else if (c == '}' || c == ']') depth--;
+                pos++;
+            } while (depth > 0 && pos < in.length());
+            if (depth > 0) throw error("Unterminated container");
+        } else {
+            skipLiteral();
+        }
+    }
+
+    private String readString() {
+        expect('"');
+        StringBuilder sb = null;
+        int start = pos;
+        while (pos < in.length()) {
+            char c = in.charAt(pos);
+            if (c == '"') {
+                String s = sb == null ? in.substring(start, pos) : sb.append(in, start, pos).toString();
+                pos++;
+                return s;
+            }
+            if (c == '\\') {
+                if (sb == null) sb = new StringBuilder();
+                sb.append(in, start, pos);
+                pos++;
+                char esc = in.charAt(pos++);
+                switch (esc) {
+                    case 'n': sb.append('\n'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'u':
+                        sb.append((char) Integer.parseInt(in.substring(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default: sb.append(esc); // \" \\ \/
+                }
+                start = pos;
+            } else {
+                pos++;
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private void skipString() {
+        pos++; // opening quote
+        while (pos < in.length()) {
+            char c = in.charAt(pos++);
+            if (c == '\\') pos++;
+            else if (c == '"') return;
+        }
+        throw error("Unterminated string");
+    }
+
+    private void skipLiteral() {
+        while (pos < in.length()) {
+            char c = in.charAt(pos);
+            if (c == ',' || c == '}' || c == ']' || c <= ' ') return;
+            pos++;
+        }
+    }
+
+    private boolean hasEscape(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (in.charAt(i) == '\\') return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (pos < in.length() && in.charAt(pos) <= ' ') pos++;
+    }
+
+    private void skipSeparator() {
+        skipWhitespace();
+        if (pos < in.length() && in.charAt(pos) == ',') {
+            pos++;
+            skipWhitespace();
+        }
+    }
+
+    private void expect(char c) {
+        if (pos >= in.length() || in.charAt(pos) != c) {
+            throw error("Expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    private IllegalStateException error(String message) {
+        return new IllegalStateException(message + " at offset " + pos + " of forecast JSON");
+    }
+}
@@ -0,0 +1,47 @@
+package use_case.weather;
+
+import entity.DailyForecast;
+import entity.ForecastSeries;
+import entity.ForecastSlot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ForecastProvider: the decoded 5-day/3-hour forecast of a city.
+ * Every flow that needs weather asks this instead of parsing the gateway's JSON itself,
+ * so a shared implementation can hand the same immutable ForecastSeries to all of them.
+ */
+public interface ForecastProvider {
+
+    String[] UPCOMING_LABELS = {"Now", "In 3 hours", "In 6 hours", "In 9 hours"};
+
+    /**
+     * @param cityName city to look up, as typed by the user
+     * @return the decoded forecast
+     * @throws Exception on network or decoding errors
+     */
+    ForecastSeries getForecast(String cityName) throws Exception;
+
+    /**
+     * The next {@code count} slots from now, labelled "Now", "In 3 hours", ...
+     * @param cityName city to look up; also used as the forecast's city name
+     */
+    default DailyForecast getUpcomingForecast(String cityName, int count) throws Exception {
+        ForecastSeries series = getForecast(cityName);
+        int n = Math.min(count, series.size());
+        List<ForecastSlot> slots = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            slots.add(series.toSlot(i, i < UPCOMING_LABELS.length ? UPCOMING_LABELS[i] : "Later"));
+        }
+        LocalDate date = n > 0 ? LocalDate.ofEpochDay(series.getLocalEpochDay(0)) : LocalDate.now();
+        return new DailyForecast(cityName, date, slots);
+    }
+
+    /** Fetches through the gateway and decodes on every call, without sharing. */
+    static ForecastProvider decoding(ForecastAPIGateway gateway) {
+        ForecastJsonDecoder decoder = new ForecastJsonDecoder();
+        return cityName -> decoder.decode(gateway.request3hForecastJson(cityName));
+    }
+}
@@ -0,0 +1,31 @@
+package use_case.weather;
+
+import entity.ForecastSeries;
+import entity.ForecastSlot;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * ForecastStore: the whole 5-day/3-hour series of each city, kept between requests.
+ * Views that show more than today's four slots query it by day or by time range,
+ * so they share one download instead of each fetching their own.
+ * Slots are labelled with their local start time, e.g. "15:00".
+ */
+public interface ForecastStore {
+
+    /**
+     * @return the stored series for the city, refreshed if the underlying forecast changed
+     * @throws Exception on network or decoding errors
+     */
+    ForecastSeries getSeries(String cityName) throws Exception;
+
+    /** Local days that have at least one slot, earliest first. */
+    List<LocalDate> getDays(String cityName) throws Exception;
+
+    /** Every slot of one local day, earliest first; empty if the day is not covered. */
+    List<ForecastSlot> getDay(String cityName, LocalDate day) throws Exception;
+
+    /** Slots starting in [fromEpochSeconds, toEpochSeconds), earliest first. */
+    List<ForecastSlot> getRange(String cityName, long fromEpochSeconds, long toEpochSeconds) throws Exception;
+}
@@ -0,0 +1,57 @@
+package use_case.weather;
+
+/**
+ * ForecastStringPool: process-wide pool for the short strings every forecast repeats,
+ * such as "light rain" or "10d". OWM uses a few dozen descriptions and icon codes in total,
+ * so all decoded forecasts share one instance of each. Lookups compare in place against the
+ * JSON text and take no lock; adding a value copies the small array. Once full, new values
+ * are returned without being pooled.
+ */
+final class ForecastStringPool {
+
+    static final int MAX_SIZE = 512;
+
+    static final ForecastStringPool SHARED = new ForecastStringPool(MAX_SIZE);
+
+    private final int maxSize;
+    private volatile String[] values = new String[0];
+
+    ForecastStringPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the pooled string equal to {@code source[start, end)}
+     */
+    String intern(String source, int start, int end) {
+        String found = find(values, source, start, end);
+        if (found != null) return found;
+
+        synchronized (this) {
+            String[] current = values;
+            found = find(current, source, start, end);
+            if (found != null) return found;
+
+            String value = source.substring(start, end);
+            if (current.length < maxSize) {
+                String[] grown = new String[current.length + 1];
+                System.arraycopy(current, 0, grown, 0, current.length);
+                grown[current.length] = value;
+                values = grown;
+            }
+            return value;
+        }
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    private static String find(String[] pool, String source, int start, int end) {
+        int len = end - start;
+        for (String s : pool) {
+            if (s.length() == len && source.regionMatches(start, s, 0, len)) return s;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,8 @@
+package use_case.weather;
+
+/**
+ * Input boundary for the hourly timeline use case.
+ */
+public interface HourlyForecastInputBoundary {
+    void getHourlyForecast(HourlyForecastInputData inputData);
+}
@@ -0,0 +1,15 @@
+package use_case.weather;
+
+/**
+ * Input data for the "hourly timeline" use case.
+ * hours is how far ahead to look; the forecast comes in 3-hour slots.
+ */
+public class HourlyForecastInputData {
+    public final String cityName;
+    public final int hours;
+
+    public HourlyForecastInputData(String cityName, int hours) {
+        this.cityName = cityName;
+        this.hours = hours;
+    }
+}
@@ -0,0 +1,64 @@
+package use_case.weather;
+
+import entity.ForecastSlot;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HourlyForecastInteractor: the slots from now until {@code hours} ahead, read from the
+ * forecast store, so showing the timeline next to today's forecast costs no extra request.
+ */
+public class HourlyForecastInteractor implements HourlyForecastInputBoundary {
+
+    static final int SLOT_SECONDS = 3 * 3_600;
+    static final int MAX_HOURS = 5 * 24;
+
+    private final ForecastStore forecastStore;
+    private final HourlyForecastOutputBoundary presenter;
+    private final Clock clock;
+
+    public HourlyForecastInteractor(ForecastStore forecastStore, HourlyForecastOutputBoundary presenter) {
+        this(forecastStore, presenter, Clock.systemUTC());
+    }
+
+    HourlyForecastInteractor(ForecastStore forecastStore, HourlyForecastOutputBoundary presenter, Clock clock) {
+        this.forecastStore = forecastStore;
+        this.presenter = presenter;
+        this.clock = clock;
+    }
+
+    @Override
+    public void getHourlyForecast(HourlyForecastInputData inputData) {
+        String city = inputData.cityName == null ? "" : inputData.cityName.trim();
+        if (city.isEmpty()) {
+            presenter.presentHourlyForecast(new HourlyForecastOutputData(
+                    city, new ArrayList<>(), false, "Please enter a city name."));
+            return;
+        }
+        int hours = Math.max(1, Math.min(inputData.hours, MAX_HOURS));
+
+        try {
+            long now = clock.millis() / 1000;
+            // Start with the slot that is in progress now
+            List<ForecastSlot> slots = forecastStore.getRange(city, now - SLOT_SECONDS + 1, now + hours * 3_600L);
+            if (slots.isEmpty()) {
+                presenter.presentHourlyForecast(new HourlyForecastOutputData(
+                        city, new ArrayList<>(), false, "No forecast available for the next hours."));
+                return;
+            }
+
+            List<SlotDTO> dtos = new ArrayList<>(slots.size());
+            for (ForecastSlot s : slots) {
+                dtos.add(new SlotDTO(s.getLabel(), s.getTemperature(), s.getDescription(), s.getIconCode(),
+                        s.getPrecipProbability(), s.getWindSpeed(), s.getFeelsLike()));
+            }
+            presenter.presentHourlyForecast(new HourlyForecastOutputData(city, dtos, true, "OK"));
+        } catch (Exception e) {
+            presenter.presentHourlyForecast(new HourlyForecastOutputData(
+                    city, new ArrayList<>(), false,
+                    "Failed to fetch forecast. Please check your input or connection."));
+        }
+    }
+}
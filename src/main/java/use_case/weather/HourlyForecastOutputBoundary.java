@@ -0,0 +1,8 @@
+package use_case.weather;
+
+/**
+ * Output boundary for the hourly timeline use case.
+ */
+public interface HourlyForecastOutputBoundary {
+    void presentHourlyForecast(HourlyForecastOutputData outputData);
+}
@@ -0,0 +1,37 @@
+package use_case.weather;
+
+import java.util.List;
+
+/**
+ * Output data for the hourly timeline: one SlotDTO per 3-hour slot, labelled "HH:mm".
+ * success=false with message indicates an error.
+ */
+public class HourlyForecastOutputData {
+    public final String city;
+    public final List<SlotDTO> slots;
+    public final boolean success;
+    public final String message;
+
+    public HourlyForecastOutputData(String city, List<SlotDTO> slots, boolean success, String message) {
+        this.city = city;
+        this.slots = slots;
+        this.success = success;
+        this.message = message;
+    }
+
+    public String getCityName() {
+        return city;
+    }
+
+    public List<SlotDTO> getSlots() {
+        return slots;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getStatusMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,8 @@
+package use_case.weather;
+
+/**
+ * Input boundary for the multi-day forecast use case.
+ */
+public interface MultiDayForecastInputBoundary {
+    void getMultiDayForecast(MultiDayForecastInputData inputData);
+}
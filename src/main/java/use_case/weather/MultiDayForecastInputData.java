@@ -0,0 +1,15 @@
+package use_case.weather;
+
+/**
+ * Input data for the "5-day forecast" use case.
+ * days caps how many local days are summarized, starting with today.
+ */
+public class MultiDayForecastInputData {
+    public final String cityName;
+    public final int days;
+
+    public MultiDayForecastInputData(String cityName, int days) {
+        this.cityName = cityName;
+        this.days = days;
+    }
+}
@@ -0,0 +1,95 @@
+package use_case.weather;
+
+import entity.ForecastSlot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MultiDayForecastInteractor: one summary per local day (range, midday conditions, worst
+ * rain and wind), read from the forecast store instead of fetching again.
+ */
+public class MultiDayForecastInteractor implements MultiDayForecastInputBoundary {
+
+    static final int MAX_DAYS = 6;   // 5 days of slots can touch 6 local dates
+    private static final int MIDDAY_HOUR = 12;
+
+    private final ForecastStore forecastStore;
+    private final MultiDayForecastOutputBoundary presenter;
+
+    public MultiDayForecastInteractor(ForecastStore forecastStore, MultiDayForecastOutputBoundary presenter) {
+        this.forecastStore = forecastStore;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void getMultiDayForecast(MultiDayForecastInputData inputData) {
+        String city = inputData.cityName == null ? "" : inputData.cityName.trim();
+        if (city.isEmpty()) {
+            presenter.presentMultiDayForecast(new MultiDayForecastOutputData(
+                    city, new ArrayList<>(), false, "Please enter a city name."));
+            return;
+        }
+        int maxDays = Math.max(1, Math.min(inputData.days, MAX_DAYS));
+
+        try {
+            List<LocalDate> days = forecastStore.getDays(city);
+            List<DaySummaryDTO> summaries = new ArrayList<>();
+            for (LocalDate day : days) {
+                if (summaries.size() == maxDays) break;
+                List<ForecastSlot> slots = forecastStore.getDay(city, day);
+                if (!slots.isEmpty()) summaries.add(summarize(day, slots));
+            }
+
+            if (summaries.isEmpty()) {
+                presenter.presentMultiDayForecast(new MultiDayForecastOutputData(
+                        city, summaries, false, "No forecast available."));
+                return;
+            }
+            presenter.presentMultiDayForecast(new MultiDayForecastOutputData(city, summaries, true, "OK"));
+        } catch (Exception e) {
+            presenter.presentMultiDayForecast(new MultiDayForecastOutputData(
+                    city, new ArrayList<>(), false,
+                    "Failed to fetch forecast. Please check your input or connection."));
+        }
+    }
+
+    /** Slots must be non-empty and labelled "HH:mm", as the store returns them. */
+    static DaySummaryDTO summarize(LocalDate day, List<ForecastSlot> slots) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double pop = Double.NaN;
+        double wind = Double.NaN;
+        ForecastSlot midday = slots.get(0);
+        int middayDiff = Integer.MAX_VALUE;
+
+        for (ForecastSlot s : slots) {
+            min = Math.min(min, s.getTemperature());
+            max = Math.max(max, s.getTemperature());
+            // Math.max would turn one missing reading into NaN for the whole day
+            if (!Double.isNaN(s.getPrecipProbability())) {
+                pop = Double.isNaN(pop) ? s.getPrecipProbability() : Math.max(pop, s.getPrecipProbability());
+            }
+            if (!Double.isNaN(s.getWindSpeed())) {
+                wind = Double.isNaN(wind) ? s.getWindSpeed() : Math.max(wind, s.getWindSpeed());
+            }
+            int diff = Math.abs(localHour(s) - MIDDAY_HOUR);
+            if (diff < middayDiff) {
+                middayDiff = diff;
+                midday = s;
+            }
+        }
+        return new DaySummaryDTO(day, min, max, midday.getDescription(), midday.getIconCode(),
+                pop, wind, slots.size());
+    }
+
+    private static int localHour(ForecastSlot slot) {
+        String label = slot.getLabel();
+        try {
+            return Integer.parseInt(label.substring(0, label.indexOf(':')));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
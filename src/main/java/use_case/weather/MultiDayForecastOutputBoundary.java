@@ -0,0 +1,8 @@
+package use_case.weather;
+
+/**
+ * Output boundary for the multi-day forecast use case.
+ */
+public interface MultiDayForecastOutputBoundary {
+    void presentMultiDayForecast(MultiDayForecastOutputData outputData);
+}
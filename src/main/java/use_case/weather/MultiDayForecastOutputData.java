@@ -0,0 +1,37 @@
+package use_case.weather;
+
+import java.util.List;
+
+/**
+ * Output data for the multi-day forecast: one DaySummaryDTO per local day, earliest first.
+ * success=false with message indicates an error.
+ */
+public class MultiDayForecastOutputData {
+    public final String city;
+    public final List<DaySummaryDTO> days;
+    public final boolean success;
+    public final String message;
+
+    public MultiDayForecastOutputData(String city, List<DaySummaryDTO> days, boolean success, String message) {
+        this.city = city;
+        this.days = days;
+        this.success = success;
+        this.message = message;
+    }
+
+    public String getCityName() {
+        return city;
+    }
+
+    public List<DaySummaryDTO> getDays() {
+        return days;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getStatusMessage() {
+        return message;
+    }
+}
@@ -3,23 +3,24 @@ package use_case.weather;
 /**
  * SlotDTO: use-case level data for a single time-slot.
  * Keep it UI-agnostic (raw numbers), Presenter will format them for UI.
+ * Optional readings are NaN when unavailable.
  */
 public class SlotDTO {
     public final String label;             // "Morning"/"Afternoon"/...
     public final double temperature;       // Celsius
     public final String description;
     public final String iconCode;          // e.g., "10d"
-    public final Double precipProbability; // 0..1
-    public final Double windSpeed;         // m/s
-    public final Double feelsLike;         // Celsius
+    public final double precipProbability; // 0..1, NaN if unavailable
+    public final double windSpeed;         // m/s, NaN if unavailable
+    public final double feelsLike;         // Celsius, NaN if unavailable
 
     public SlotDTO(String label,
                    double temperature,
                    String description,
                    String iconCode,
-                   Double precipProbability,
-                   Double windSpeed,
-                   Double feelsLike) {
+                   double precipProbability,
+                   double windSpeed,
+                   double feelsLike) {
         this.label = label;
         this.temperature = temperature;
         this.description = description;
@@ -44,15 +45,15 @@ public class SlotDTO {
         return iconCode;
     }
 
-    public Double getPrecipProbability() {
+    public double getPrecipProbability() {
         return precipProbability;
     }
 
-    public Double getWindSpeed() {
+    public double getWindSpeed() {
         return windSpeed;
     }
 
-    public Double getFeelsLike() {
+    public double getFeelsLike() {
         return feelsLike;
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package view;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * ForecastTablePanel: a read-only table of forecast rows, for the hourly and 5-day tabs.
+ * Shows a message instead of the table when there is nothing to list.
+ */
+public class ForecastTablePanel extends JPanel {
+
+    private final DefaultTableModel model;
+    private final JLabel messageLabel = new JLabel(" ", JLabel.CENTER);
+    private final JScrollPane scroll;
+
+    public ForecastTablePanel(String... columns) {
+        super(new BorderLayout());
+        model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable table = new JTable(model);
+        table.setRowHeight(24);
+        table.setFillsViewportHeight(true);
+        scroll = new JScrollPane(table);
+        add(scroll, BorderLayout.CENTER);
+    }
+
+    /** Replaces the rows; with no rows, shows {@code emptyMessage} instead. */
+    public void render(List<String[]> rows, String emptyMessage) {
+        model.setRowCount(0);
+        for (String[] row : rows) {
+            model.addRow(row);
+        }
+        removeAll();
+        if (rows.isEmpty()) {
+            messageLabel.setText(emptyMessage == null || emptyMessage.isEmpty() ? "No forecast available." : emptyMessage);
+            add(messageLabel, BorderLayout.CENTER);
+        } else {
+            add(scroll, BorderLayout.CENTER);
+        }
+        revalidate();
+        repaint();
+    }
+}
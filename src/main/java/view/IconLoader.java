@@ -1,26 +1,237 @@
 package view;
 
+import data_access.http.HttpClientProvider;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import javax.imageio.ImageIO;
 import javax.swing.*;
-import java.net.URL;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 /**
- * IconLoader: map OWM icon code to ImageIcon with a simple cache.
+ * IconLoader: OWM icon code to ImageIcon, without ever blocking the EDT.
+ *
+ * {@link #load} hands back a placeholder straight away and delivers the real icon later on
+ * the EDT. Icons are looked up in memory, then in the bundled {@code /icons/<code>@2x.png}
+ * resources, then in the disk cache ({@code ~/.weatherwear/icons}), and only then downloaded
+ * from openweathermap.org. Every known code is bundled, so the network is only a fallback for
+ * codes OWM adds later; downloads are written to the disk cache, so each code is fetched at
+ * most once per machine. A failed download is not cached and is retried after a minute.
  */
 public class IconLoader {
 
-    private static final Map<String, ImageIcon> CACHE = new ConcurrentHashMap<>();
+    /** Default disk cache location; override with -Dweatherwear.icon.dir=... */
+    static final String DIR_PROPERTY = "weatherwear.icon.dir";
 
-    public static ImageIcon getIcon(String iconCode) {
-        if (iconCode == null || iconCode.isEmpty()) return null;
-        return CACHE.computeIfAbsent(iconCode, code -> {
-            try {
-                String url = "https://openweathermap.org/img/wn/" + code + "@2x.png";
-                return new ImageIcon(new URL(url));
-            } catch (Exception e) {
-                return null;
-            }
+    /** Every code OWM uses: 9 conditions, day and night. */
+    static final List<String> KNOWN_CODES = List.of(
+            "01d", "01n", "02d", "02n", "03d", "03n", "04d", "04n", "09d", "09n",
+            "10d", "10n", "11d", "11n", "13d", "13n", "50d", "50n");
+
+    /** Classpath directory of the bundled {@code <code>@2x.png} icons. */
+    static final String BUNDLED_DIR = "/icons/";
+    static final int SIZE = 100;
+    static final long RETRY_AFTER_NANOS = TimeUnit.MINUTES.toNanos(1);
+    // Also keeps codes from being used as file names unchecked
+    private static final Pattern CODE = Pattern.compile("\\d{2}[dn]");
+
+    private static IconLoader instance;
+
+    /** Downloads the PNG bytes for one icon code. */
+    interface Fetcher {
+        byte[] fetch(String code) throws IOException;
+    }
+
+    private final Path dir;
+    private final String bundledDir;
+    private final Fetcher fetcher;
+    private final Executor background;
+    private final Executor completions;
+    private final ImageIcon placeholder = createPlaceholder();
+    private final Map<String, ImageIcon> icons = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ImageIcon>> loading = new ConcurrentHashMap<>();
+    private final Map<String, Long> failedAt = new ConcurrentHashMap<>();
+
+    /**
+     * @param bundledDir classpath directory to look in first, or null to skip bundled icons
+     */
+    IconLoader(Path dir, String bundledDir, Fetcher fetcher, Executor background, Executor completions) {
+        this.dir = dir;
+        this.bundledDir = bundledDir;
+        this.fetcher = fetcher;
+        this.background = background;
+        this.completions = completions;
+    }
+
+    /** Shared loader with the disk cache in the user's home directory. */
+    public static synchronized IconLoader getInstance() {
+        if (instance == null) {
+            String dir = System.getProperty(DIR_PROPERTY);
+            Path root = dir != null
+                    ? Paths.get(dir)
+                    : Paths.get(System.getProperty("user.home"), ".weatherwear", "icons");
+            ExecutorService pool = Executors.newFixedThreadPool(2, r -> {
+                Thread t = new Thread(r, "icon-loader");
+                t.setDaemon(true);
+                return t;
+            });
+            instance = new IconLoader(root, BUNDLED_DIR, download(HttpClientProvider.weather()),
+                    pool, SwingUtilities::invokeLater);
+        }
+        return instance;
+    }
+
+    /**
+     * Shows the icon for {@code iconCode} through {@code target}: at once if it is in memory,
+     * otherwise the placeholder now and the icon once loaded. Both calls happen on the
+     * completions thread (the EDT), and the second never happens if loading fails.
+     */
+    public void load(String iconCode, Consumer<Icon> target) {
+        if (iconCode == null || !CODE.matcher(iconCode).matches()) {
+            target.accept(null);
+            return;
+        }
+        ImageIcon icon = icons.get(iconCode);
+        if (icon != null) {
+            target.accept(icon);
+            return;
+        }
+        target.accept(placeholder);
+        CompletableFuture<ImageIcon> future = start(iconCode);
+        if (future != null) {
+            future.thenAccept(loaded -> completions.execute(() -> target.accept(loaded)));
+        }
+    }
+
+    /** Loads every known code in the background, so later renders find them in memory. */
+    public void warmUp() {
+        for (String code : KNOWN_CODES) {
+            if (!icons.containsKey(code)) start(code);
+        }
+    }
+
+    /** The in-flight load for a code, or null if it failed recently. */
+    private CompletableFuture<ImageIcon> start(String code) {
+        Long failed = failedAt.get(code);
+        if (failed != null && System.nanoTime() - failed < RETRY_AFTER_NANOS) return null;
+
+        // One load per code, however many rows ask for it
+        return loading.computeIfAbsent(code, c -> {
+            CompletableFuture<ImageIcon> future = new CompletableFuture<>();
+            background.execute(() -> {
+                ImageIcon icon = resolve(c);
+                if (icon != null) {
+                    icons.put(c, icon);
+                    failedAt.remove(c);
+                    future.complete(icon);
+                } else {
+                    failedAt.put(c, System.nanoTime());
+                    future.completeExceptionally(new IOException("Icon unavailable: " + c));
+                }
+                loading.remove(c, future);
+            });
+            return future;
         });
     }
+
+    private ImageIcon resolve(String code) {
+        if (bundledDir != null) {
+            try (InputStream in = IconLoader.class.getResourceAsStream(bundledDir + code + "@2x.png")) {
+                if (in != null) {
+                    ImageIcon bundled = decode(in.readAllBytes());
+                    if (bundled != null) return bundled;
+                }
+            } catch (IOException ignored) {
+                // fall through to the disk cache
+            }
+        }
+
+        Path cached = dir.resolve(code + ".png");
+        try {
+            if (Files.isRegularFile(cached)) {
+                ImageIcon icon = decode(Files.readAllBytes(cached));
+                if (icon != null) return icon;
+                Files.deleteIfExists(cached);
+            }
+        } catch (IOException ignored) {
+            // unreadable; download it again
+        }
+
+        try {
+            byte[] bytes = fetcher.fetch(code);
+            ImageIcon icon = decode(bytes);
+            if (icon != null) store(cached, bytes);
+            return icon;
+        } catch (IOException e) {
+            System.err.println("Could not load weather icon " + code + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Writes through a temp file so a crash never leaves half an icon behind. */
+    private void store(Path target, byte[] bytes) {
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "icon", ".tmp");
+            Files.write(tmp, bytes);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The icon still shows; it is just downloaded again next run
+        }
+    }
+
+    private static ImageIcon decode(byte[] bytes) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+        return image == null ? null : new ImageIcon(image);
+    }
+
+    private static Fetcher download(OkHttpClient client) {
+        return code -> {
+            Request request = new Request.Builder()
+                    .url("https://openweathermap.org/img/wn/" + code + "@2x.png")
+                    .build();
+            try (Response response = client.newCall(request).execute()) {
+                ResponseBody body = response.body();
+                if (!response.isSuccessful() || body == null) {
+                    throw new IOException("HTTP " + response.code());
+                }
+                return body.bytes();
+            }
+        };
+    }
+
+    /** A faint circle the size of an OWM @2x icon, so rows keep their height while loading. */
+    private static ImageIcon createPlaceholder() {
+        BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(new Color(0, 0, 0, 40));
+        g.fillOval(SIZE / 4, SIZE / 4, SIZE / 2, SIZE / 2);
+        g.dispose();
+        return new ImageIcon(image);
+    }
+
+    ImageIcon getPlaceholder() {
+        return placeholder;
+    }
 }
@@ -1,6 +1,5 @@
 package view;
 
-import data_access.user_storage.SupabaseUserRepository;
 import data_access.user_storage.UserSession;
 import interface_adapter.login.LoginController;
 import interface_adapter.login.LoginPresenter;
@@ -8,6 +7,7 @@ import interface_adapter.login.LoginState;
 import interface_adapter.login.LoginViewModel;
 import use_case.login.LoginInteractor;
 import data_access.user_storage.UserRepository;
+import data_access.user_storage.UserRepositoryProvider;
 
 import javax.swing.*;
 import java.awt.*;
@@ -27,7 +27,7 @@ public class LoginPanel extends JFrame implements PropertyChangeListener {
     public LoginPanel() {
         this.viewModel = new LoginViewModel();
         LoginPresenter presenter = new LoginPresenter(viewModel);
-        UserRepository userRepository = new SupabaseUserRepository();
+        UserRepository userRepository = UserRepositoryProvider.get();
         LoginInteractor interactor = new LoginInteractor(presenter, userRepository);
         this.controller = new LoginController(interactor);
 
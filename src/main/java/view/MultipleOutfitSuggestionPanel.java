@@ -25,6 +25,8 @@ public class MultipleOutfitSuggestionPanel extends JFrame implements MultipleOut
     private final JTextArea suggestionsArea = new JTextArea(20, 50);
     private final JLabel statusLabel = new JLabel(" ");
 
+    private final TaskScheduler.Slot tasks = TaskScheduler.getInstance().slot(TaskScheduler.Lane.SUGGESTION);
+
     public MultipleOutfitSuggestionPanel() {
         // Get the currently logged-in user (following clean architecture like use case 3)
         User currentUser = UserSession.getInstance().getCurrentUser();
@@ -34,7 +36,8 @@ public class MultipleOutfitSuggestionPanel extends JFrame implements MultipleOut
         MultipleOutfitSuggestionInteractor interactor = new MultipleOutfitSuggestionInteractor(
                 currentUser,
                 dataAccess,
-                presenter
+                presenter,
+                presenter  // Streams the text into the panel as it is written
         );
         this.controller = new MultipleOutfitSuggestionController(interactor);
 
@@ -146,26 +149,21 @@ public class MultipleOutfitSuggestionPanel extends JFrame implements MultipleOut
         statusLabel.setText("Loading " + numberOfSuggestions + " suggestions...");
         suggestionsArea.setText("");
 
-        // Run in background thread
-        new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() {
-                controller.execute(username, location, numberOfSuggestions);
-                return null;
-            }
+        // Run in background thread; re-enable the button when done
+        tasks.submit(() -> controller.execute(username, location, numberOfSuggestions),
+                () -> getSuggestionsButton.setEnabled(true));
+    }
 
-            @Override
-            protected void done() {
-                // Re-enable button
-                getSuggestionsButton.setEnabled(true);
-            }
-        }.execute();
+    @Override
+    public void dispose() {
+        // Window closed: stop generating suggestions nobody will read
+        tasks.cancel();
+        super.dispose();
     }
 
     @Override
     public void onMultipleOutfitSuggestionSuccess(List<String> suggestions, String username,
                                                   double temperature, String city) {
-        int numberOfSuggestions = (Integer) numberOfSuggestionsSpinner.getValue();
         SwingUtilities.invokeLater(() -> {
             // Display the suggestions
             StringBuilder display = new StringBuilder();
@@ -184,16 +182,27 @@ public class MultipleOutfitSuggestionPanel extends JFrame implements MultipleOut
             }
 
             display.append("\n\n═══════════════════════════════════════════════════════\n");
-            display.append("Total suggestions: ").append(numberOfSuggestions);
+            display.append("Total suggestions: ").append(suggestions.size());
 
             suggestionsArea.setText(display.toString());
             suggestionsArea.setCaretPosition(0);
-            statusLabel.setText("Successfully loaded " + numberOfSuggestions + " suggestions!");
+            statusLabel.setText("Successfully loaded " + suggestions.size() + " suggestions!");
+        });
+    }
+
+    @Override
+    public void onMultipleOutfitSuggestionDelta(String textDelta) {
+        SwingUtilities.invokeLater(() -> {
+            // Show the text as it comes in; the success view replaces it with the final layout
+            statusLabel.setText("Generating suggestions...");
+            suggestionsArea.append(textDelta);
         });
     }
 
     @Override
     public void onMultipleOutfitSuggestionFailure(String errorMessage) {
+        // A cancelled request fails too, but nobody is waiting for that error
+        if (TaskScheduler.isCurrentTaskCancelled()) return;
         SwingUtilities.invokeLater(() -> {
             JOptionPane.showMessageDialog(this,
                     errorMessage,
@@ -4,16 +4,22 @@ import entity.User;
 import interface_adapter.outfit_image_generation.OutfitImageGenerationController;
 import interface_adapter.outfit_image_generation.OutfitImageGenerationPresenter;
 import interface_adapter.outfit_image_generation.OutfitImageGenerationView;
+import use_case.outfit_image_generation.ImagePayload;
 import use_case.outfit_image_generation.OutfitImageGenerationInputBoundary;
 import use_case.outfit_image_generation.OutfitImageGenerationInteractor;
 import data_access.outfit_image_generation.OutfitImageGenerationDataAccessObject;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
-import java.io.ByteArrayInputStream;
-import java.util.Base64;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
 
 public class OutfitImageGalleryPanel extends JFrame implements OutfitImageGenerationView {
 
@@ -25,6 +31,13 @@ public class OutfitImageGalleryPanel extends JFrame implements OutfitImageGenera
 
     private final JLabel statusLabel = new JLabel(" ");
 
+    // Cards already on screen, keyed by outfit index; only touched on the EDT
+    private final TreeMap<Integer, JPanel> cards = new TreeMap<>();
+
+    private final TaskScheduler.Slot generation = TaskScheduler.getInstance().slot(TaskScheduler.Lane.IMAGE);
+    // one per card and full-size dialog; EDT only
+    private final List<TaskScheduler.Slot> decodes = new ArrayList<>();
+
     public OutfitImageGalleryPanel(User currentUser, List<String> outfits) {
         this.outfits = outfits;
 
@@ -69,84 +82,131 @@ public class OutfitImageGalleryPanel extends JFrame implements OutfitImageGenera
         imageGrid.repaint();
 
 
-        new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() {
-                controller.generateImages(outfits);
-                return null;
-            }
-        }.execute();
+        generation.submit(() -> controller.generateImages(outfits), null);
     }
 
     @Override
-    public void onImageGenerationSuccess(List<String> base64Images) {
+    public void dispose() {
+        // Closing the gallery stops the Gemini calls and any decoding still queued
+        generation.cancel();
+        for (TaskScheduler.Slot decode : decodes) {
+            decode.cancel();
+        }
+        super.dispose();
+    }
+
+    @Override
+    public void onImageReady(int outfitIndex, ImagePayload image) {
+        SwingUtilities.invokeLater(() -> {
+            if (cards.containsKey(outfitIndex)) return;
+            addCard(outfitIndex, image);
+            statusLabel.setText("Generating images... (" + cards.size() + " of " + outfits.size() + " ready)");
+
+            imageGrid.revalidate();
+            imageGrid.repaint();
+        });
+    }
+
+    @Override
+    public void onImageGenerationSuccess(List<ImagePayload> images) {
         SwingUtilities.invokeLater(() -> {
 //            generateButton.setEnabled(true);
 //            generateButton.setText("Generate Outfit Images");
             statusLabel.setText("Images loaded successfully!");
 
-            imageGrid.removeAll();
+            // Cards normally arrived one by one already; only build them if none did
+            if (!cards.isEmpty()) return;
 
-            for (int i = 0; i < base64Images.size(); i++) {
-                String base64 = base64Images.get(i);
+            for (int i = 0; i < images.size(); i++) {
+                addCard(i, images.get(i));
+            }
 
-                JPanel card = new JPanel();
-                card.setLayout(new BoxLayout(card, BoxLayout.Y_AXIS));
-                card.setBorder(BorderFactory.createLineBorder(Color.GRAY));
-                card.setPreferredSize(new Dimension(380, 380));
+            imageGrid.revalidate();
+            imageGrid.repaint();
+        });
+    }
 
-                JLabel title = new JLabel("Outfit " + (i + 1), JLabel.CENTER);
-                title.setFont(new Font("Arial", Font.BOLD, 14));
-                title.setAlignmentX(Component.CENTER_ALIGNMENT);
-                card.add(title);
+    /** Adds a card for one outfit, keeping the grid in outfit order. */
+    private void addCard(int outfitIndex, ImagePayload image) {
+        JPanel card = new JPanel();
+        card.setLayout(new BoxLayout(card, BoxLayout.Y_AXIS));
+        card.setBorder(BorderFactory.createLineBorder(Color.GRAY));
+        card.setPreferredSize(new Dimension(380, 380));
 
-                JLabel imgLabel = new JLabel("Loading image...", JLabel.CENTER);
-                imgLabel.setPreferredSize(new Dimension(360, 320));
-                imgLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                card.add(imgLabel);
+        JLabel title = new JLabel("Outfit " + (outfitIndex + 1), JLabel.CENTER);
+        title.setFont(new Font("Arial", Font.BOLD, 14));
+        title.setAlignmentX(Component.CENTER_ALIGNMENT);
+        card.add(title);
 
-                loadBase64ImageAsync(base64, imgLabel);
+        JLabel imgLabel = new JLabel("Loading image...", JLabel.CENTER);
+        imgLabel.setPreferredSize(new Dimension(360, 320));
+        imgLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        card.add(imgLabel);
 
-                imageGrid.add(card);
-            }
+        loadImageAsync(image, imgLabel);
 
-            imageGrid.revalidate();
-            imageGrid.repaint();
+        card.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        card.setToolTipText("Click to view full size");
+        card.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                openFullSize(outfitIndex, image);
+            }
         });
+
+        imageGrid.add(card, cards.headMap(outfitIndex).size());
+        cards.put(outfitIndex, card);
+    }
+
+    private void loadImageAsync(ImagePayload image, JLabel targetLabel) {
+        // Decoded at card size; the full image is only read when the card is opened
+        decodes.add(decodeInto(targetLabel, () -> ThumbnailLoader.getThumbnail(image, 360)));
     }
 
-    private void loadBase64ImageAsync(String base64, JLabel targetLabel) {
-        new SwingWorker<ImageIcon, Void>() {
-            protected ImageIcon doInBackground() {
-                try {
-                    byte[] decoded = Base64.getDecoder().decode(base64);
-                    ByteArrayInputStream bais = new ByteArrayInputStream(decoded);
-                    Image img = ImageIO.read(bais);
-                    if (img == null) return null;
-
-                    return new ImageIcon(img.getScaledInstance(360, -1, Image.SCALE_SMOOTH));
-                } catch (Exception e) {
-                    return null;
-                }
+    private void openFullSize(int outfitIndex, ImagePayload image) {
+        JDialog dialog = new JDialog(this, "Outfit " + (outfitIndex + 1), false);
+        dialog.setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        JLabel fullLabel = new JLabel("Loading full image...", JLabel.CENTER);
+        dialog.add(new JScrollPane(fullLabel), BorderLayout.CENTER);
+        dialog.setSize(900, 900);
+        dialog.setLocationRelativeTo(this);
+        dialog.setVisible(true);
+
+        TaskScheduler.Slot decode = decodeInto(fullLabel, () -> ThumbnailLoader.getFullSize(image));
+        dialog.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                decode.cancel();
             }
+        });
+    }
 
-            protected void done() {
-                try {
-                    ImageIcon icon = get();
-                    if (icon != null) {
-                        targetLabel.setText("");
-                        targetLabel.setIcon(icon);
-                    } else {
-                        targetLabel.setText("Failed to load image");
-                        targetLabel.setForeground(Color.RED);
-                    }
-                } catch (Exception ignored) {}
+    /** Decodes an image in the image lane and shows it in {@code target}, or an error if it fails. */
+    private TaskScheduler.Slot decodeInto(JLabel target, Callable<BufferedImage> decoder) {
+        TaskScheduler.Slot slot = TaskScheduler.getInstance().slot(TaskScheduler.Lane.IMAGE);
+        ImageIcon[] result = new ImageIcon[1];
+        slot.submit(() -> {
+            try {
+                BufferedImage img = decoder.call();
+                result[0] = img == null ? null : new ImageIcon(img);
+            } catch (Exception e) {
+                result[0] = null;
             }
-        }.execute();
+        }, () -> {
+            if (result[0] != null) {
+                target.setText("");
+                target.setIcon(result[0]);
+            } else {
+                target.setText("Failed to load image");
+                target.setForeground(Color.RED);
+            }
+        });
+        return slot;
     }
 
     @Override
     public void onImageGenerationFailure(String errorMessage) {
+        if (TaskScheduler.isCurrentTaskCancelled()) return;
         SwingUtilities.invokeLater(() -> {
 //            generateButton.setEnabled(true);
 //            generateButton.setText("Generate Outfit Images");
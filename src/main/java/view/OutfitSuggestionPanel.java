@@ -5,7 +5,7 @@ import interface_adapter.outfit_suggestion.OutfitSuggestionPresenter;
 import interface_adapter.outfit_suggestion.OutfitSuggestionView;
 import use_case.outfit_suggestion.OutfitSuggestionInteractor;
 import entity.User;
-import data_access.outfit_suggestion.OutfitSuggestionDataAccessObject;
+import data_access.outfit_suggestion.PrefetchingOutfitSuggestionDataAccessObject;
 
 import javax.swing.*;
 import java.awt.*;
@@ -18,14 +18,18 @@ public class OutfitSuggestionPanel extends JPanel implements OutfitSuggestionVie
     private final JTextArea suggestionsArea = new JTextArea(15, 40);
     private final JLabel statusLabel = new JLabel(" ");
 
+    private final TaskScheduler.Slot tasks = TaskScheduler.getInstance().slot(TaskScheduler.Lane.SUGGESTION);
+
     public OutfitSuggestionPanel(User currentUser) {
         this.currentUser = currentUser;
         OutfitSuggestionPresenter presenter = new OutfitSuggestionPresenter(this);
-        OutfitSuggestionDataAccessObject dataAccess = new OutfitSuggestionDataAccessObject();
+        // Picks up what was prefetched at login
+        PrefetchingOutfitSuggestionDataAccessObject dataAccess = PrefetchingOutfitSuggestionDataAccessObject.getInstance();
         OutfitSuggestionInteractor interactor = new OutfitSuggestionInteractor(
                 currentUser,  // first parameter
                 dataAccess,      // second parameter
-                presenter        // third parameter
+                presenter,       // third parameter
+                presenter        // streams the text into the panel as it is written
         );
         this.controller = new OutfitSuggestionController(interactor);
 
@@ -85,19 +89,16 @@ public class OutfitSuggestionPanel extends JPanel implements OutfitSuggestionVie
 
     private void loadOutfitSuggestions() {
         statusLabel.setText("Loading...");
+        suggestionsArea.setText("");
 
-        new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() {
-                controller.execute(currentUser.getName(), currentUser.getLocation());
-                return null;
-            }
+        tasks.submit(() -> controller.execute(currentUser.getName(), currentUser.getLocation()), null);
+    }
 
-            @Override
-            protected void done() {
-                // Task completed
-            }
-        }.execute();
+    @Override
+    public void removeNotify() {
+        // panel is gone (logout), so the suggestion nobody will read can stop streaming
+        tasks.cancel();
+        super.removeNotify();
     }
 
 
@@ -150,8 +151,19 @@ public class OutfitSuggestionPanel extends JPanel implements OutfitSuggestionVie
         });
     }
 
+    @Override
+    public void onOutfitSuggestionDelta(String textDelta) {
+        SwingUtilities.invokeLater(() -> {
+            // show the text as it comes in; the success view replaces it with the final layout
+            statusLabel.setText("Generating suggestions...");
+            suggestionsArea.append(textDelta);
+        });
+    }
+
     @Override
     public void onOutfitSuggestionFailure(String errorMessage) {
+        // a cancelled request fails too, but nobody is waiting for that error
+        if (TaskScheduler.isCurrentTaskCancelled()) return;
         SwingUtilities.invokeLater(() -> {
             JOptionPane.showMessageDialog(this,
                     errorMessage,
@@ -19,6 +19,8 @@ public class PurposePanel extends JFrame implements PurposeView {
     private final JTextArea suggestionsArea = new JTextArea(15, 40);
     private final JLabel statusLabel = new JLabel(" ");
 
+    private final TaskScheduler.Slot tasks = TaskScheduler.getInstance().slot(TaskScheduler.Lane.SUGGESTION);
+
     public PurposePanel() {
 
         // Clean architecture wiring
@@ -106,18 +108,13 @@ public class PurposePanel extends JFrame implements PurposeView {
         statusLabel.setText("Generating accessory suggestions...");
         suggestionsArea.setText("");
 
-        new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() {
-                controller.execute(purpose);
-                return null;
-            }
-
-            @Override
-            protected void done() {
-                getAccessoriesButton.setEnabled(true);
-            }
-        }.execute();
+        tasks.submit(() -> controller.execute(purpose), () -> getAccessoriesButton.setEnabled(true));
+    }
+
+    @Override
+    public void dispose() {
+        tasks.cancel();
+        super.dispose();
     }
 
     @Override
@@ -131,6 +128,7 @@ public class PurposePanel extends JFrame implements PurposeView {
 
     @Override
     public void onPurposeAccessoryFailure(String errorMessage) {
+        if (TaskScheduler.isCurrentTaskCancelled()) return;
         SwingUtilities.invokeLater(() -> {
             JOptionPane.showMessageDialog(
                     this,
@@ -4,7 +4,8 @@ import interface_adapter.signup.SignupController;
 import interface_adapter.signup.SignupPresenter;
 import interface_adapter.signup.SignupState;
 import interface_adapter.signup.SignupViewModel;
-import data_access.user_storage.SupabaseUserRepository;
+import data_access.user_storage.UserRepository;
+import data_access.user_storage.UserRepositoryProvider;
 import use_case.signup.SignupInteractor;
 
 import javax.swing.*;
@@ -17,7 +18,7 @@ import java.beans.PropertyChangeListener;
 public class SignupPanel extends JFrame implements PropertyChangeListener {
     private final SignupController controller;
     private final SignupViewModel viewModel;
-    private final SupabaseUserRepository repository;
+    private final UserRepository repository;
 
     private final JTextField usernameField = new JTextField(20);
     private final JPasswordField passwordField = new JPasswordField(20);
@@ -25,7 +26,7 @@ public class SignupPanel extends JFrame implements PropertyChangeListener {
     private final JComboBox<String> genderBox = new JComboBox<>(new String[]{"Prefer not to say", "Male", "Female", "Other"});
 
     public SignupPanel() {
-        this.repository = new SupabaseUserRepository();
+        this.repository = UserRepositoryProvider.get();
 
         this.viewModel = new SignupViewModel();
         SignupPresenter presenter = new SignupPresenter(viewModel);
@@ -6,12 +6,14 @@ import interface_adapter.style.StyleState;
 import interface_adapter.style.StyleViewModel;
 import use_case.style.StyleInteractor;
 import data_access.user_storage.UserRepository;
+import entity.ClothingItem;
 
 import javax.swing.*;
 import java.awt.*;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -52,27 +54,10 @@ public class StylePanel extends JFrame implements PropertyChangeListener {
         mainPanel.add(headerLabel);
         mainPanel.add(Box.createVerticalStrut(15));
 
-        // add each categories
-        addCategory(mainPanel, "Bottoms", new String[]{
-            "jeans", "sweatpants", "shorts", "dress pants/chinos", "leggings", "skirts"
-        });
-
-        addCategory(mainPanel, "Tops", new String[]{
-            "T-shirts", "long sleeve shirts", "tank tops", "polo shirts", "blouses"
-        });
-
-        addCategory(mainPanel, "Outerwear", new String[]{
-            "hoodie", "sweatshirt/crewneck", "light jacket/windbreaker",
-            "denim jacket", "winter coat/puffer", "raincoat", "blazer"
-        });
-
-        addCategory(mainPanel, "Footwear", new String[]{
-            "sneakers", "casual shoes", "boots", "sandals/slippers", "dress shoes", "crocs"
-        });
-
-        addCategory(mainPanel, "Accessories", new String[]{
-            "hats/caps/beanies", "scarf", "gloves", "belt", "sunglasses", "watch"
-        });
+        // add each category of the clothing catalog
+        for (ClothingItem.Category category : ClothingItem.Category.values()) {
+            addCategory(mainPanel, category.getLabel(), ClothingItem.inCategory(category));
+        }
 
         // wrap main panel in scroll panel
         JScrollPane scrollPane = new JScrollPane(mainPanel);
@@ -94,7 +79,7 @@ public class StylePanel extends JFrame implements PropertyChangeListener {
         setLocationRelativeTo(null);
     }
 
-    private void addCategory(JPanel parent, String categoryName, String[] items) {
+    private void addCategory(JPanel parent, String categoryName, List<ClothingItem> items) {
         // category label
         JLabel categoryLabel = new JLabel(categoryName + ":");
         categoryLabel.setFont(new Font("Arial", Font.BOLD, 14));
@@ -107,10 +92,10 @@ public class StylePanel extends JFrame implements PropertyChangeListener {
         categoryPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
         categoryPanel.setBorder(BorderFactory.createEmptyBorder(0, 20, 0, 0));
 
-        for (String item : items) {
-            JCheckBox checkbox = new JCheckBox(item);
+        for (ClothingItem item : items) {
+            JCheckBox checkbox = new JCheckBox(item.getLabel());
             checkbox.setAlignmentX(Component.LEFT_ALIGNMENT);
-            checkboxes.put(item, checkbox);
+            checkboxes.put(item.getLabel(), checkbox);
             categoryPanel.add(checkbox);
         }
 
@@ -0,0 +1,224 @@
+package view;
+
+import data_access.http.CancellationScope;
+
+import javax.swing.SwingUtilities;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TaskScheduler: runs every view's use-case calls off the EDT, instead of one SwingWorker per click.
+ *
+ * Work runs in priority lanes, each with its own threads, so a gallery generating four images
+ * can never hold up a forecast refresh. Each view submits through a {@link Slot}, which keeps
+ * only its latest task: submitting again, or {@link Slot#cancel()} when the window closes,
+ * cancels the previous one. Cancelling drops it from the queue if it has not started, and
+ * otherwise cancels its OkHttp calls (see {@link CancellationScope}) and interrupts its thread.
+ * A cancelled task's completion callback never runs, and views can ask
+ * {@link #isCurrentTaskCancelled()} to skip presenting its results.
+ */
+public class TaskScheduler {
+
+    /**
+     * Lanes in priority order. Priority comes from isolation, since each lane has its own threads
+     * and queue, and from the threads' scheduling priority. A lane's thread count is sized to how
+     * much of its work can usefully run at once, not to its rank.
+     */
+    public enum Lane {
+        /** Forecast refreshes and other quick reads the user is looking at. */
+        UI(2, Thread.NORM_PRIORITY + 1),
+        /** LLM text: outfit, multi-outfit and accessory suggestions; wide for parallel single-outfit requests. */
+        SUGGESTION(4, Thread.NORM_PRIORITY),
+        /** Image generation and decoding, the slowest work. */
+        IMAGE(3, Thread.NORM_PRIORITY - 1);
+
+        final int threads;
+        final int priority;
+
+        Lane(int threads, int priority) {
+            this.threads = threads;
+            this.priority = priority;
+        }
+    }
+
+    private static final TaskScheduler INSTANCE = new TaskScheduler(SwingUtilities::invokeLater);
+    private static final ThreadLocal<Task> CURRENT = new ThreadLocal<>();
+
+    private final Executor completions;
+    private final Map<Lane, ThreadPoolExecutor> lanes = new EnumMap<>(Lane.class);
+    private final Map<Lane, LongAdder> completedCounts = new EnumMap<>(Lane.class);
+    private final Map<Lane, LongAdder> cancelledCounts = new EnumMap<>(Lane.class);
+
+    /**
+     * @param completions where completion callbacks run; the EDT for the app
+     */
+    TaskScheduler(Executor completions) {
+        this.completions = completions;
+        for (Lane lane : Lane.values()) {
+            AtomicInteger ids = new AtomicInteger();
+            String name = "task-" + lane.name().toLowerCase() + "-";
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(lane.threads, lane.threads,
+                    30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                        Thread t = new Thread(r, name + ids.incrementAndGet());
+                        t.setDaemon(true);
+                        t.setPriority(lane.priority);
+                        return t;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            lanes.put(lane, pool);
+            completedCounts.put(lane, new LongAdder());
+            cancelledCounts.put(lane, new LongAdder());
+        }
+    }
+
+    public static TaskScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /** A latest-wins submission point for one view. */
+    public Slot slot(Lane lane) {
+        return new Slot(lane);
+    }
+
+    /**
+     * True when called from a task that has been cancelled or superseded; views use it
+     * to drop results and error dialogs nobody asked for anymore.
+     */
+    public static boolean isCurrentTaskCancelled() {
+        Task task = CURRENT.get();
+        return task != null && task.cancelled;
+    }
+
+    /** Tasks waiting for a thread in this lane. */
+    public int getQueueDepth(Lane lane) {
+        return lanes.get(lane).getQueue().size();
+    }
+
+    /** Tasks running in this lane right now. */
+    public int getActiveCount(Lane lane) {
+        return lanes.get(lane).getActiveCount();
+    }
+
+    public long getCompletedCount(Lane lane) {
+        return completedCounts.get(lane).sum();
+    }
+
+    public long getCancelledCount(Lane lane) {
+        return cancelledCounts.get(lane).sum();
+    }
+
+    /** One line per lane, e.g. "UI: 0 queued, 1 active, 12 done, 3 cancelled". */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        for (Lane lane : Lane.values()) {
+            sb.append(lane).append(": ")
+                    .append(getQueueDepth(lane)).append(" queued, ")
+                    .append(getActiveCount(lane)).append(" active, ")
+                    .append(getCompletedCount(lane)).append(" done, ")
+                    .append(getCancelledCount(lane)).append(" cancelled\n");
+        }
+        return sb.toString();
+    }
+
+    public class Slot {
+        private final Lane lane;
+        // the latest task; guarded by this
+        private Task latest;
+
+        private Slot(Lane lane) {
+            this.lane = lane;
+        }
+
+        /**
+         * Runs {@code work} in this slot's lane, cancelling the slot's previous task.
+         * @param onDone runs on the EDT after {@code work} unless the task was cancelled; may be null
+         */
+        public void submit(Runnable work, Runnable onDone) {
+            Task task = new Task(lane, work, onDone);
+            Task previous;
+            synchronized (this) {
+                previous = latest;
+                latest = task;
+            }
+            if (previous != null) previous.cancel();
+            lanes.get(lane).execute(task);
+        }
+
+        /** Cancels the slot's task, e.g. when its window is closed. */
+        public void cancel() {
+            Task previous;
+            synchronized (this) {
+                previous = latest;
+                latest = null;
+            }
+            if (previous != null) previous.cancel();
+        }
+    }
+
+    private class Task implements Runnable {
+        private final Lane lane;
+        private final Runnable work;
+        private final Runnable onDone;
+        private final CancellationScope scope = new CancellationScope();
+        private volatile boolean cancelled;
+        private boolean finished;
+        // set while running; guarded by this
+        private Thread runner;
+
+        Task(Lane lane, Runnable work, Runnable onDone) {
+            this.lane = lane;
+            this.work = work;
+            this.onDone = onDone;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) return;
+                runner = Thread.currentThread();
+            }
+            CURRENT.set(this);
+            try (CancellationScope.Entered ignored = scope.enter()) {
+                work.run();
+            } catch (RuntimeException e) {
+                if (!cancelled) {
+                    System.err.println("Background task failed: " + e);
+                }
+            } finally {
+                CURRENT.remove();
+                synchronized (this) {
+                    runner = null;
+                    finished = true;
+                }
+                // An interrupt meant for this task must not hit the next one on this thread
+                Thread.interrupted();
+            }
+
+            if (cancelled) return;
+            completedCounts.get(lane).increment();
+            if (onDone != null) {
+                completions.execute(() -> {
+                    if (!cancelled) onDone.run();
+                });
+            }
+        }
+
+        void cancel() {
+            synchronized (this) {
+                if (cancelled || finished) return;
+                cancelled = true;
+                if (runner != null) runner.interrupt();
+            }
+            cancelledCounts.get(lane).increment();
+            scope.cancel();
+            // Not started yet: take it out of the queue
+            lanes.get(lane).remove(this);
+        }
+    }
+}
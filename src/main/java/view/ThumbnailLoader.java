@@ -0,0 +1,163 @@
+package view;
+
+import use_case.outfit_image_generation.ImagePayload;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ThumbnailLoader: decode generated images straight to card size, with a bounded cache.
+ *
+ * The decoder skips pixels while reading (ImageReadParam source subsampling) so a 4K image
+ * never exists at full size; the rest is scaled down in halving steps, which keeps the
+ * quality of a smooth scale at a fraction of the cost of getScaledInstance.
+ */
+public class ThumbnailLoader {
+
+    /** Roughly 40 card-size thumbnails. */
+    static final long MAX_CACHE_BYTES = 32L * 1024 * 1024;
+
+    // Keyed by content hash and width, eldest first; guarded by the class lock.
+    // Keys hold no reference to the payload, so the cache pins only thumbnail pixels.
+    private static final LinkedHashMap<Key, BufferedImage> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+    private static long cachedBytes;
+
+    private ThumbnailLoader() {
+    }
+
+    /**
+     * @return the image scaled to targetWidth (never enlarged), or null if it cannot be decoded
+     */
+    public static BufferedImage getThumbnail(ImagePayload image, int targetWidth) throws IOException {
+        Key key = new Key(image.contentHash(), targetWidth);
+        synchronized (ThumbnailLoader.class) {
+            BufferedImage cached = CACHE.get(key);
+            if (cached != null) return cached;
+        }
+
+        BufferedImage thumbnail = decodeSubsampled(image, targetWidth);
+        if (thumbnail == null) return null;
+        thumbnail = downscale(thumbnail, targetWidth);
+
+        synchronized (ThumbnailLoader.class) {
+            if (CACHE.put(key, thumbnail) == null) {
+                cachedBytes += bytesOf(thumbnail);
+            }
+            Iterator<Map.Entry<Key, BufferedImage>> it = CACHE.entrySet().iterator();
+            while (cachedBytes > MAX_CACHE_BYTES && it.hasNext()) {
+                cachedBytes -= bytesOf(it.next().getValue());
+                it.remove();
+            }
+        }
+        return thumbnail;
+    }
+
+    /** Full-resolution decode, for when the user opens a card. Not cached. */
+    public static BufferedImage getFullSize(ImagePayload image) throws IOException {
+        try (InputStream in = image.openStream()) {
+            return ImageIO.read(in);
+        }
+    }
+
+    /**
+     * Decodes every n-th pixel, with n chosen so the result stays at least twice targetWidth;
+     * the remaining factor is left to {@link #downscale} for quality.
+     */
+    static BufferedImage decodeSubsampled(ImagePayload image, int targetWidth) throws IOException {
+        try (InputStream in = image.openStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int step = Math.max(1, reader.getWidth(0) / (targetWidth * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** Halves the image with bilinear filtering until one last step reaches targetWidth. */
+    static BufferedImage downscale(BufferedImage source, int targetWidth) {
+        BufferedImage current = source;
+        int width = current.getWidth();
+        int height = current.getHeight();
+        if (width <= targetWidth) return toCompatible(current, width, height);
+
+        int targetHeight = Math.max(1, (int) Math.round((double) height * targetWidth / width));
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+            current = toCompatible(current, width, height);
+        } while (width > targetWidth);
+        return current;
+    }
+
+    private static BufferedImage toCompatible(BufferedImage source, int width, int height) {
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        if (source.getType() == type && source.getWidth() == width && source.getHeight() == height) {
+            return source;
+        }
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private static long bytesOf(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    static synchronized void clearCache() {
+        CACHE.clear();
+        cachedBytes = 0;
+    }
+
+    static synchronized int cacheSize() {
+        return CACHE.size();
+    }
+
+    /** Content hash of the encoded image plus the requested width. */
+    private static class Key {
+        private final String contentHash;
+        private final int width;
+
+        Key(String contentHash, int width) {
+            this.contentHash = contentHash;
+            this.width = width;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return contentHash.equals(other.contentHash) && width == other.width;
+        }
+
+        @Override
+        public int hashCode() {
+            return contentHash.hashCode() * 31 + width;
+        }
+    }
+}
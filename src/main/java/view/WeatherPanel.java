@@ -1,10 +1,13 @@
 package view;
 
-import data_access.weather.ForecastAPIGatewayImpl;
+import data_access.weather.MergingForecastStore;
 import data_access.weather.LocationServiceImpl;
 import entity.User;
 import interface_adapter.weather.DailyForecastController;
 import interface_adapter.weather.DailyForecastPresenter;
+import interface_adapter.weather.ExtendedForecastController;
+import interface_adapter.weather.HourlyForecastPresenter;
+import interface_adapter.weather.MultiDayForecastPresenter;
 import interface_adapter.weather.RuleBasedAdviceService;
 import interface_adapter.weather.WeatherViewModel;
 import use_case.weather.*;
@@ -12,7 +15,9 @@ import use_case.weather.*;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * WeatherApp: main window composed of top controls + forecast grid + advice panel.
@@ -28,12 +33,19 @@ public class WeatherPanel extends JPanel {
 
     private final ForecastPanel forecastPanel = new ForecastPanel();
     private final AdvicePanel advicePanel = new AdvicePanel();
+    private final ForecastTablePanel hourlyPanel =
+            new ForecastTablePanel("Time", "Temp", "Description", "Precip", "Wind");
+    private final ForecastTablePanel daysPanel =
+            new ForecastTablePanel("Day", "Low / High", "Midday", "Max precip", "Max wind");
 
     private final DailyForecastController controller;
+    private final ExtendedForecastController extendedController;
     private final WeatherViewModel viewModel;
 
     private Runnable onLogoutCallback;
 
+    private final TaskScheduler.Slot tasks = TaskScheduler.getInstance().slot(TaskScheduler.Lane.UI);
+
     public WeatherPanel(User currentUser) {
 
 //        super("Weather");
@@ -44,19 +56,28 @@ public class WeatherPanel extends JPanel {
         // Presenter
         DailyForecastPresenter presenter = new DailyForecastPresenter(viewModel);
 
-        // Gateways & services
-        ForecastAPIGateway forecastGateway = new ForecastAPIGatewayImpl();
+        // Gateways & services; the store keeps the whole 5-day series for the other tabs
+        MergingForecastStore forecastStore = MergingForecastStore.getInstance();
+        ForecastProvider forecastProvider = forecastStore;
         LocationService locationService = new LocationServiceImpl();
         AdviceService adviceService = new RuleBasedAdviceService();
 
         // Interactor (use case)
         DailyForecastInputBoundary interactor =
-                new DailyForecastInteractor(forecastGateway, locationService, adviceService, presenter);
+                new DailyForecastInteractor(forecastProvider, locationService, adviceService, presenter);
 
         // Controller
         controller = new DailyForecastController(interactor, viewModel);
 
+        // Hourly timeline and 5-day summary read the same stored forecast
+        extendedController = new ExtendedForecastController(
+                new HourlyForecastInteractor(forecastStore, new HourlyForecastPresenter(viewModel)),
+                new MultiDayForecastInteractor(forecastStore, new MultiDayForecastPresenter(viewModel)));
+
+
 
+        // Decode the bundled icons into memory while the forecast loads
+        IconLoader.getInstance().warmUp();
 
         initUI(currentUser);
     }
@@ -74,7 +95,11 @@ public class WeatherPanel extends JPanel {
         // Center: left forecast grid + right advice
         JPanel center = new JPanel(new BorderLayout());
         center.setPreferredSize(new Dimension(800, 500)); // Set preferred size (width, height)
-        center.add(forecastPanel, BorderLayout.CENTER);
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Today", forecastPanel);
+        tabs.addTab("Next 24 hours", hourlyPanel);
+        tabs.addTab("5 days", daysPanel);
+        center.add(tabs, BorderLayout.CENTER);
         //center.add(advicePanel, BorderLayout.EAST);
 
         // Bottom status
@@ -93,7 +118,10 @@ public class WeatherPanel extends JPanel {
 //            controller.searchByCity(currentUser.getLocation().trim());
 //        }));
 
-        runInBackground(() -> controller.searchByCity(currentUser.getLocation().trim()));
+        runInBackground(() -> {
+            controller.searchByCity(currentUser.getLocation().trim());
+            extendedController.load(currentUser.getLocation().trim());
+        });
 //
 //        locationBtn.addActionListener(e -> runInBackground(() -> {
 //            controller.useMyLocation();
@@ -116,20 +144,19 @@ public class WeatherPanel extends JPanel {
     private void runInBackground(Runnable task) {
         setControlsEnabled(false);
         statusLabel.setText("Loading...");
-        new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() {
-                task.run(); // call controller (which calls use case synchronously)
-                return null;
-            }
+        // A newer search supersedes this one; the slot cancels the older request
+        tasks.submit(task, () -> {
+            // Refresh forecast grid + advice + status
+            refreshFromViewModel();
+            setControlsEnabled(true);
+        });
+    }
 
-            @Override
-            protected void done() {
-                // Refresh forecast grid + advice + status
-                refreshFromViewModel();
-                setControlsEnabled(true);
-            }
-        }.execute();
+    @Override
+    public void removeNotify() {
+        // The panel left the window (logout or close): stop any forecast still loading
+        tasks.cancel();
+        super.removeNotify();
     }
 
     /** Read ViewModel and render components. */
@@ -141,12 +168,32 @@ public class WeatherPanel extends JPanel {
         // Set icons (keep separate so text renders immediately even if icon slower)
         if (slots != null) {
             for (int i = 0; i < slots.size(); i++) {
+                int row = i;
                 String code = slots.get(i).iconCode;
-                Icon icon = IconLoader.getIcon(code);
-                forecastPanel.setRowIcon(i, icon);
+                // Placeholder now, the icon when it arrives, unless the row shows another slot by then
+                IconLoader.getInstance().load(code, icon -> {
+                    List<WeatherViewModel.SlotView> current = viewModel.getTodaySlots();
+                    if (current != null && row < current.size()
+                            && Objects.equals(code, current.get(row).iconCode)) {
+                        forecastPanel.setRowIcon(row, icon);
+                    }
+                });
             }
         }
 
+        // Hourly and 5-day tabs
+        List<String[]> hourlyRows = new ArrayList<>();
+        for (WeatherViewModel.SlotView s : viewModel.getHourlySlots()) {
+            hourlyRows.add(new String[]{s.label, s.tempText, s.descText, s.precipText, s.windText});
+        }
+        hourlyPanel.render(hourlyRows, viewModel.getHourlyMessage());
+
+        List<String[]> dayRows = new ArrayList<>();
+        for (WeatherViewModel.DayView d : viewModel.getDays()) {
+            dayRows.add(new String[]{d.dateText, d.rangeText, d.descText, d.precipText, d.windText});
+        }
+        daysPanel.render(dayRows, viewModel.getDaysMessage());
+
         // Advice
         advicePanel.setAdviceText(viewModel.getAdviceText());
 
@@ -0,0 +1,85 @@
+package data_access.http;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallTimingListenerTest {
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void recordsPhasesPerHostAndReusesPooledConnection() throws Exception {
+        HttpMetrics metrics = new HttpMetrics();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .eventListenerFactory(CallTimingListener.factory(metrics))
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            try (Response response = client.newCall(new Request.Builder().url(baseUrl).build()).execute()) {
+                assertEquals("ok", response.body().string());
+            }
+        }
+
+        HttpMetrics.HostStats stats = metrics.getHostStats("127.0.0.1");
+        assertNotNull(stats);
+        assertEquals(3, stats.getCalls());
+        assertEquals(0, stats.getFailures());
+        assertEquals(3, stats.getTimeToFirstByte().getCount());
+        assertEquals(3, stats.getTotal().getCount());
+        // Later calls reuse the kept-alive connection, so only the first one connects
+        assertEquals(1, stats.getConnect().getCount());
+        // Plain HTTP: no TLS phase
+        assertEquals(0, stats.getTls().getCount());
+        assertTrue(metrics.summary().startsWith("127.0.0.1: 3 calls"));
+    }
+
+    @Test
+    void failedCallIsCounted() {
+        HttpMetrics metrics = new HttpMetrics();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .eventListenerFactory(CallTimingListener.factory(metrics))
+                .build();
+        server.stop(0);
+
+        assertThrows(Exception.class,
+                () -> client.newCall(new Request.Builder().url(baseUrl).build()).execute());
+
+        assertEquals(1, metrics.getHostStats("127.0.0.1").getFailures());
+    }
+
+    @Test
+    void providerClientsShareOnePoolAndDispatcher() {
+        assertSame(HttpClientProvider.weather().connectionPool(), HttpClientProvider.geminiText().connectionPool());
+        assertSame(HttpClientProvider.geminiImage().dispatcher(), HttpClientProvider.supabase().dispatcher());
+        assertEquals(120_000, HttpClientProvider.geminiImage().readTimeoutMillis());
+    }
+}
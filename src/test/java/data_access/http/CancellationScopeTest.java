@@ -0,0 +1,129 @@
+package data_access.http;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CancellationScopeTest {
+
+    private final CountDownLatch requestArrived = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer server;
+    private String baseUrl;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        // Answers only once released, like a slow Gemini call
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requestArrived.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        client = new OkHttpClient.Builder()
+                .addInterceptor(CancellationScope.interceptor())
+                .readTimeout(10, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void cancelAbortsBlockedCall() throws Exception {
+        CancellationScope scope = new CancellationScope();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread caller = new Thread(() -> {
+            try (CancellationScope.Entered ignored = scope.enter()) {
+                execute();
+            } catch (Throwable e) {
+                failure.set(e);
+            } finally {
+                done.countDown();
+            }
+        });
+        caller.start();
+        assertTrue(requestArrived.await(5, TimeUnit.SECONDS));
+
+        scope.cancel();
+
+        // Returns long before the server would have answered
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(failure.get() instanceof IOException);
+        assertTrue(scope.isCancelled());
+    }
+
+    @Test
+    void callAfterCancelFailsImmediately() {
+        CancellationScope scope = new CancellationScope();
+        scope.cancel();
+
+        try (CancellationScope.Entered ignored = scope.enter()) {
+            assertThrows(IOException.class, this::execute);
+        }
+        // Cancelled before it was sent
+        assertEquals(1, requestArrived.getCount());
+    }
+
+    @Test
+    void propagateCarriesScopeToOtherThread() throws Exception {
+        CancellationScope scope = new CancellationScope();
+        AtomicReference<CancellationScope> seen = new AtomicReference<>();
+
+        Runnable task;
+        try (CancellationScope.Entered ignored = scope.enter()) {
+            task = CancellationScope.propagate(() -> seen.set(CancellationScope.current()));
+        }
+        assertNull(CancellationScope.current());
+
+        Thread other = new Thread(task);
+        other.start();
+        other.join();
+
+        assertSame(scope, seen.get());
+    }
+
+    @Test
+    void enterRestoresPreviousScope() {
+        CancellationScope outer = new CancellationScope();
+        CancellationScope inner = new CancellationScope();
+
+        try (CancellationScope.Entered a = outer.enter()) {
+            try (CancellationScope.Entered b = inner.enter()) {
+                assertSame(inner, CancellationScope.current());
+            }
+            assertSame(outer, CancellationScope.current());
+        }
+        assertNull(CancellationScope.current());
+    }
+
+    private void execute() throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(baseUrl).build()).execute()) {
+            response.code();
+        }
+    }
+}
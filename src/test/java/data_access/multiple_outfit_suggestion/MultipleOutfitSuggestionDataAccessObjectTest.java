@@ -0,0 +1,163 @@
+package data_access.multiple_outfit_suggestion;
+
+import data_access.outfit_suggestion.GeminiBatcher;
+import entity.DailyForecast;
+import entity.ForecastSlot;
+import entity.User;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipleOutfitSuggestionDataAccessObjectTest {
+
+    private User user;
+    private DailyForecast forecast;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("testUser", "password", "Toronto", "female");
+        Map<String, Boolean> style = new LinkedHashMap<>();
+        style.put("jeans", true);
+        style.put("hoodie", true);
+        style.put("skirt", true);
+        user.setStyle(style);
+
+        List<ForecastSlot> slots = new ArrayList<>();
+        slots.add(new ForecastSlot("Now", 12.0, "light rain", "10d", 0.7, 4.0, 10.0));
+        forecast = new DailyForecast("Toronto", LocalDate.now(), slots);
+    }
+
+    @Test
+    void outfitsAreRequestedAtOnce() {
+        int n = 3;
+        // Every call waits until all of them have started, so this only finishes if they overlap
+        CountDownLatch allStarted = new CountDownLatch(n);
+        ScriptedTransport transport = new ScriptedTransport(prompt -> {
+            allStarted.countDown();
+            if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("requests ran one after another");
+            }
+            return "Outfit: " + anchorOf(prompt) + ", " + directionOf(prompt) + " jacket\nWhy: rain";
+        });
+        List<String> deltas = Collections.synchronizedList(new ArrayList<>());
+
+        List<String> suggestions = dao(transport).generateMultipleOutfitSuggestions(user, forecast, n, deltas::add);
+
+        assertEquals(n, suggestions.size());
+        assertEquals(n, transport.prompts.size());
+        // Each request gets a different style direction
+        for (int i = 0; i < n; i++) {
+            String direction = MultipleOutfitSuggestionDataAccessObject.DIRECTIONS[i];
+            assertEquals(1, transport.prompts.stream().filter(p -> p.contains(direction)).count());
+        }
+        for (int i = 0; i < n; i++) {
+            assertTrue(suggestions.get(i).startsWith("Outfit " + (i + 1) + ": "), suggestions.get(i));
+        }
+        // One delta per finished outfit, adding up to the final text
+        assertEquals(n, deltas.size());
+        assertEquals(String.join("\n\n", suggestions), String.join("", deltas));
+    }
+
+    @Test
+    void duplicateIsAskedAgainAvoidingUsedItems() {
+        ScriptedTransport transport = new ScriptedTransport(prompt -> prompt.contains("Do not use")
+                ? "Outfit: skirt, raincoat\nWhy: dry"
+                : "**Outfit 1:** Jeans, Hoodie and sneakers\nWhy: rain");
+
+        List<String> suggestions = dao(transport).generateMultipleOutfitSuggestions(user, forecast, 2);
+
+        assertEquals(List.of(
+                "Outfit 1: Jeans, Hoodie and sneakers\nWhy: rain",
+                "Outfit 2: skirt, raincoat\nWhy: dry"), suggestions);
+        assertEquals(3, transport.prompts.size());
+        String retry = transport.prompts.stream().filter(p -> p.contains("Do not use")).findFirst().orElseThrow();
+        assertTrue(retry.contains("hoodie, jeans, sneakers"), retry);
+    }
+
+    @Test
+    void failedOutfitIsLeftOut() {
+        ScriptedTransport transport = new ScriptedTransport(prompt -> {
+            if (prompt.contains(MultipleOutfitSuggestionDataAccessObject.DIRECTIONS[1])) {
+                throw new IllegalStateException("quota");
+            }
+            return "Outfit: " + directionOf(prompt) + " look\nWhy: fine";
+        });
+
+        List<String> suggestions = dao(transport).generateMultipleOutfitSuggestions(user, forecast, 3);
+
+        assertEquals(2, suggestions.size());
+        assertTrue(suggestions.get(1).startsWith("Outfit 2: "));
+    }
+
+    @Test
+    void sequentialModeAsksForAllOutfitsInOneAnswer() {
+        ScriptedTransport transport = new ScriptedTransport(prompt ->
+                "Outfit 1: jeans\nWhy: a\n\nOutfit 2: skirt\nWhy: b");
+        MultipleOutfitSuggestionDataAccessObject dao = new MultipleOutfitSuggestionDataAccessObject(
+                new GeminiBatcher(transport, 1, 8), false);
+
+        assertEquals(2, dao.generateMultipleOutfitSuggestions(user, forecast, 2).size());
+        assertEquals(1, transport.prompts.size());
+    }
+
+    @Test
+    void itemsAreComparedIgnoringLabelCaseAndJoiners() {
+        Set<String> a = MultipleOutfitSuggestionDataAccessObject.itemsOf("Outfit 3: Jeans, hoodie and boots\nWhy: x");
+        Set<String> b = MultipleOutfitSuggestionDataAccessObject.itemsOf("Outfit: boots + jeans with hoodie.");
+
+        assertEquals(Set.of("jeans", "hoodie", "boots"), a);
+        assertEquals(1.0, MultipleOutfitSuggestionDataAccessObject.similarity(a, b));
+    }
+
+    private static MultipleOutfitSuggestionDataAccessObject dao(ScriptedTransport transport) {
+        return new MultipleOutfitSuggestionDataAccessObject(new GeminiBatcher(transport, 1, 8));
+    }
+
+    private static String directionOf(String prompt) {
+        for (String direction : MultipleOutfitSuggestionDataAccessObject.DIRECTIONS) {
+            if (prompt.contains(direction)) return direction.split("[ ,]")[0];
+        }
+        return "plain";
+    }
+
+    private static String anchorOf(String prompt) {
+        int at = prompt.indexOf("Build this outfit around: ");
+        return at < 0 ? "none" : prompt.substring(at + 26).split("\n")[0];
+    }
+
+    // ==================== Mock/Test Classes ====================
+
+    interface Script {
+        String answer(String prompt) throws Exception;
+    }
+
+    /**
+     * Answers every prompt through a script and records what was sent.
+     */
+    private static class ScriptedTransport implements GeminiBatcher.Transport {
+        final List<String> prompts = Collections.synchronizedList(new ArrayList<>());
+        private final Script script;
+
+        ScriptedTransport(Script script) {
+            this.script = script;
+        }
+
+        @Override
+        public String generate(String prompt, JSONObject responseSchema) throws Exception {
+            prompts.add(prompt);
+            return script.answer(prompt);
+        }
+    }
+}
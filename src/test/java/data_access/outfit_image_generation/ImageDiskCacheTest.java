@@ -0,0 +1,105 @@
+package data_access.outfit_image_generation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageDiskCacheTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void keyIgnoresWhitespaceAndCase() {
+        assertEquals(ImageDiskCache.keyFor("a  red\nCoat "), ImageDiskCache.keyFor("A red\ncoat"));
+        assertEquals(ImageDiskCache.keyFor("red  coat"), ImageDiskCache.keyFor("Red Coat"));
+        assertNotEquals(ImageDiskCache.keyFor("red coat"), ImageDiskCache.keyFor("blue coat"));
+        assertEquals(64, ImageDiskCache.keyFor("x").length());
+    }
+
+    @Test
+    void storedImageIsReadBackInShardedDirectory() {
+        ImageDiskCache cache = new ImageDiskCache(root, 1024);
+        String key = ImageDiskCache.keyFor("red coat");
+        cache.put(key, new byte[]{1, 2, 3});
+
+        assertArrayEquals(new byte[]{1, 2, 3}, toArray(cache.get(key)));
+        assertTrue(Files.isRegularFile(root.resolve(key.substring(0, 2)).resolve(key + ".png")));
+        assertNull(cache.get(ImageDiskCache.keyFor("blue coat")));
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedPastSizeCap() {
+        ImageDiskCache cache = new ImageDiskCache(root, 10);
+        String a = ImageDiskCache.keyFor("a");
+        String b = ImageDiskCache.keyFor("b");
+        String c = ImageDiskCache.keyFor("c");
+        cache.put(a, new byte[4]);
+        cache.put(b, new byte[4]);
+        cache.get(a);
+        cache.put(c, new byte[4]);
+
+        assertNotNull(cache.get(a));
+        assertNull(cache.get(b));
+        assertNotNull(cache.get(c));
+        assertEquals(8, cache.getTotalBytes());
+    }
+
+    @Test
+    void indexSurvivesRestart() {
+        ImageDiskCache cache = new ImageDiskCache(root, 10);
+        String a = ImageDiskCache.keyFor("a");
+        String b = ImageDiskCache.keyFor("b");
+        cache.put(a, new byte[4]);
+        cache.put(b, new byte[4]);
+        cache.get(a);
+        cache.flush();
+
+        ImageDiskCache reopened = new ImageDiskCache(root, 10);
+        assertEquals(2, reopened.size());
+        // a was used last before the restart, so b goes first
+        reopened.put(ImageDiskCache.keyFor("c"), new byte[4]);
+        assertNotNull(reopened.get(a));
+        assertNull(reopened.get(b));
+    }
+
+    @Test
+    void hitRecencyIsPersistedWithoutFlush() {
+        ImageDiskCache cache = new ImageDiskCache(root, 10);
+        String a = ImageDiskCache.keyFor("a");
+        String b = ImageDiskCache.keyFor("b");
+        cache.put(a, new byte[4]);
+        cache.put(b, new byte[4]);
+        for (int i = 0; i < ImageDiskCache.FLUSH_EVERY_HITS; i++) {
+            cache.get(a);
+        }
+
+        // No flush(): a crash or kill right after the hits
+        ImageDiskCache reopened = new ImageDiskCache(root, 10);
+        reopened.put(ImageDiskCache.keyFor("c"), new byte[4]);
+        assertNotNull(reopened.get(a));
+        assertNull(reopened.get(b));
+    }
+
+    @Test
+    void fileDeletedBehindTheIndexIsAMiss() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(root, 1024);
+        String key = ImageDiskCache.keyFor("red coat");
+        cache.put(key, new byte[]{1});
+        Files.delete(root.resolve(key.substring(0, 2)).resolve(key + ".png"));
+
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,62 @@
+package data_access.outfit_image_generation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InlineImageExtractorTest {
+
+    @Test
+    void decodesInlineDataAfterTextPart() throws IOException {
+        byte[] image = new byte[200_000];
+        new Random(207).nextBytes(image);
+        String json = "{\n  \"candidates\": [{\"content\": {\"parts\": ["
+                + "{\"text\": \"Here is \\\"data\\\": the outfit\"},"
+                + "{\"inlineData\": {\"mimeType\": \"image/png\", \"data\" : \""
+                + Base64.getEncoder().encodeToString(image) + "\"}}"
+                + "]}, \"finishReason\": \"STOP\"}],\n  \"usageMetadata\": {\"totalTokenCount\": 1290}\n}";
+
+        ByteBuffer decoded = InlineImageExtractor.extract(stream(json));
+
+        assertNotNull(decoded);
+        byte[] bytes = new byte[decoded.remaining()];
+        decoded.get(bytes);
+        assertArrayEquals(image, bytes);
+    }
+
+    @Test
+    void handlesEscapedSlashes() throws IOException {
+        String json = "{\"inlineData\":{\"data\":\"" + Base64.getEncoder().encodeToString(new byte[]{-1, -2, -3})
+                .replace("/", "\\/") + "\"}}";
+
+        ByteBuffer decoded = InlineImageExtractor.extract(stream(json));
+
+        assertEquals(3, decoded.remaining());
+        assertEquals((byte) -1, decoded.get(0));
+    }
+
+    @Test
+    void textOnlyResponseHasNoImage() throws IOException {
+        String json = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"data\"}]}}]}";
+
+        assertNull(InlineImageExtractor.extract(stream(json)));
+    }
+
+    @Test
+    void invalidBase64IsAnError() {
+        String json = "{\"inlineData\":{\"data\":\"not*base64\"}}";
+
+        assertThrows(IOException.class, () -> InlineImageExtractor.extract(stream(json)));
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
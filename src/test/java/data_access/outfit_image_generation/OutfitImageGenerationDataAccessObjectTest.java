@@ -0,0 +1,117 @@
+package data_access.outfit_image_generation;
+
+import entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import use_case.outfit_image_generation.ImagePayload;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutfitImageGenerationDataAccessObjectTest {
+
+    private final User user = new User("alice", "pw", "Toronto", "female");
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    void resultsKeepOutfitOrderAndRespectInFlightLimit() {
+        FakeGeminiDao dao = new FakeGeminiDao(user, 2, cacheDir);
+        List<Integer> reported = Collections.synchronizedList(new ArrayList<>());
+
+        List<ImagePayload> images = dao.generateImages(
+                Arrays.asList("slow outfit", "fast outfit", "  ", "medium outfit"),
+                (index, image) -> reported.add(index));
+
+        assertEquals(Arrays.asList("img:slow outfit", "img:fast outfit", "img:medium outfit"), texts(images));
+        assertTrue(dao.maxConcurrent.get() <= 2);
+        assertTrue(dao.maxConcurrent.get() >= 2, "requests should overlap");
+        // Indices refer to positions in the input, and the fast one is reported first
+        assertEquals(3, reported.size());
+        assertTrue(reported.containsAll(Arrays.asList(0, 1, 3)));
+        assertEquals(1, reported.get(0));
+    }
+
+    @Test
+    void emptyAnswerIsRetriedOnceThenDropped() {
+        FakeGeminiDao dao = new FakeGeminiDao(user, 3, cacheDir);
+        List<ImagePayload> images = dao.generateImages(Arrays.asList("empty outfit", "fast outfit"));
+
+        assertEquals(Collections.singletonList("img:fast outfit"), texts(images));
+        assertEquals(3, dao.calls.get());
+    }
+
+    @Test
+    void failingListenerDoesNotLoseImages() {
+        FakeGeminiDao dao = new FakeGeminiDao(user, 3, cacheDir);
+        List<ImagePayload> images = dao.generateImages(Arrays.asList("fast outfit", "medium outfit"),
+                (index, image) -> { throw new IllegalStateException("listener bug"); });
+
+        assertEquals(2, images.size());
+    }
+
+    @Test
+    void samePromptIsServedFromDiskCache() {
+        FakeGeminiDao first = new FakeGeminiDao(user, 3, cacheDir);
+        List<ImagePayload> generated = first.generateImages(Arrays.asList("fast outfit"));
+
+        // A fresh DAO over the same directory, as after a restart; spacing and case differ
+        FakeGeminiDao second = new FakeGeminiDao(user, 3, cacheDir);
+        List<ImagePayload> cached = second.generateImages(Arrays.asList("FAST   outfit"));
+
+        assertEquals(texts(generated), texts(cached));
+        assertEquals(0, second.calls.get());
+    }
+
+    private static List<String> texts(List<ImagePayload> images) {
+        List<String> texts = new ArrayList<>();
+        for (ImagePayload image : images) {
+            try {
+                texts.add(new String(image.toByteArray(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+        return texts;
+    }
+
+    // ========== Fakes ==========
+
+    private static class FakeGeminiDao extends OutfitImageGenerationDataAccessObject {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        FakeGeminiDao(User user, int maxInFlight, Path cacheDir) {
+            super(user, maxInFlight, 60_000, new ImageDiskCache(cacheDir, 1024 * 1024));
+        }
+
+        @Override
+        ByteBuffer callGemini(String prompt) {
+            calls.incrementAndGet();
+            int now = inFlight.incrementAndGet();
+            maxConcurrent.accumulateAndGet(now, Math::max);
+            try {
+                String outfit = prompt.substring(prompt.indexOf("outfit prompt: ") + 15, prompt.indexOf(". Be sure"));
+                Thread.sleep(outfit.startsWith("slow") ? 300 : outfit.startsWith("medium") ? 150 : 20);
+                return ByteBuffer.wrap(outfit.startsWith("empty") ? new byte[0]
+                        : ("img:" + outfit).getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
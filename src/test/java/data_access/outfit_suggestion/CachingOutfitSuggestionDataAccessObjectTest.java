@@ -0,0 +1,203 @@
+package data_access.outfit_suggestion;
+
+import entity.DailyForecast;
+import entity.ForecastSlot;
+import entity.User;
+import org.junit.jupiter.api.Test;
+import use_case.outfit_suggestion.OutfitSuggestionDataAccessInterface;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingOutfitSuggestionDataAccessObjectTest {
+
+    @Test
+    void similarRequestsFromDifferentUsersShareOneCall() {
+        CountingDAO delegate = new CountingDAO();
+        CachingOutfitSuggestionDataAccessObject dao = new CachingOutfitSuggestionDataAccessObject(delegate);
+
+        List<String> first = dao.generateOutfitSuggestions(
+                user("alice", "Female", "jeans", "hoodie"), forecast("Toronto", 4.1, "10d", 5.0, 0.7));
+        // Same bands: 5.9°C, night rain icon, breezy, likely rain; style map in another order
+        List<String> second = dao.generateOutfitSuggestions(
+                user("bob", "female", "hoodie", "jeans"), forecast("Ottawa", 5.9, "09n", 7.9, 0.65));
+
+        assertEquals(first, second);
+        assertEquals(1, delegate.calls);
+        assertEquals(1, dao.getHits());
+    }
+
+    @Test
+    void sharedAnswerNamesNeitherUsersCity() {
+        List<String> prompts = new ArrayList<>();
+        // Answers with the prompt itself, so the test sees everything the model was told
+        GeminiBatcher batcher = new GeminiBatcher((prompt, schema) -> {
+            prompts.add(prompt);
+            return prompt;
+        }, 0, 1);
+        CachingOutfitSuggestionDataAccessObject dao =
+                new CachingOutfitSuggestionDataAccessObject(new OutfitSuggestionDataAccessObject(batcher));
+        User toronto = user("alice", "Female", "jeans", "hoodie");
+        User vancouver = new User("bob", "pw", "Vancouver", "Female");
+        vancouver.setStyle(toronto.getStyle());
+
+        List<String> first = dao.generateOutfitSuggestions(toronto, forecast("Toronto", 8.3, "10d", 5.0, 0.7));
+        List<String> second = dao.generateOutfitSuggestions(vancouver, forecast("Vancouver", 9.1, "09n", 4.2, 0.8));
+
+        assertEquals(first, second);
+        assertEquals(1, prompts.size());
+        String answer = String.join("\n", second);
+        assertFalse(answer.contains("Toronto"));
+        assertFalse(answer.contains("Vancouver"));
+        assertFalse(answer.contains("8.3"));
+        assertTrue(answer.contains("between 8 and 10°C"));
+    }
+
+    @Test
+    void differentBandsMiss() {
+        CountingDAO delegate = new CountingDAO();
+        CachingOutfitSuggestionDataAccessObject dao = new CachingOutfitSuggestionDataAccessObject(delegate);
+        User user = user("alice", "female", "jeans");
+
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 4.1, "10d", 5.0, 0.7));
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 6.0, "10d", 5.0, 0.7));
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 4.1, "13d", 5.0, 0.7));
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 4.1, "10d", 9.0, 0.7));
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 4.1, "10d", 5.0, 0.1));
+        dao.generateOutfitSuggestions(user("alice", "male", "jeans"), forecast("Toronto", 4.1, "10d", 5.0, 0.7));
+        dao.generateOutfitSuggestions(user("alice", "female", "jeans", "boots"), forecast("Toronto", 4.1, "10d", 5.0, 0.7));
+
+        assertEquals(7, delegate.calls);
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        CountingDAO delegate = new CountingDAO();
+        MutableClock clock = new MutableClock(0);
+        CachingOutfitSuggestionDataAccessObject dao =
+                new CachingOutfitSuggestionDataAccessObject(delegate, clock, Duration.ofMinutes(10), 8);
+        User user = user("alice", "female", "jeans");
+
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 4, "01d", 1.0, 0.0));
+        clock.millis = Duration.ofMinutes(9).toMillis();
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 4, "01d", 1.0, 0.0));
+        assertEquals(1, delegate.calls);
+
+        clock.millis = Duration.ofMinutes(10).toMillis();
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 4, "01d", 1.0, 0.0));
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        CountingDAO delegate = new CountingDAO();
+        CachingOutfitSuggestionDataAccessObject dao =
+                new CachingOutfitSuggestionDataAccessObject(delegate, Clock.systemUTC(), Duration.ofHours(1), 2);
+        User user = user("alice", "female", "jeans");
+
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 0, "01d", 1.0, 0.0));
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 10, "01d", 1.0, 0.0));
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 0, "01d", 1.0, 0.0));
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 20, "01d", 1.0, 0.0));
+        assertEquals(3, delegate.calls);
+
+        // 10°C was least recently used and is gone; 0°C survived
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 0, "01d", 1.0, 0.0));
+        assertEquals(3, delegate.calls);
+        dao.generateOutfitSuggestions(user, forecast("Toronto", 10, "01d", 1.0, 0.0));
+        assertEquals(4, delegate.calls);
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        CountingDAO delegate = new CountingDAO();
+        delegate.fail = true;
+        CachingOutfitSuggestionDataAccessObject dao = new CachingOutfitSuggestionDataAccessObject(delegate);
+        User user = user("alice", "female", "jeans");
+
+        assertNull(dao.generateOutfitSuggestions(user, forecast("Toronto", 4, "01d", 1.0, 0.0)));
+        assertNull(dao.generateOutfitSuggestions(user, forecast("Toronto", 4, "01d", 1.0, 0.0)));
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    void fingerprintBands() {
+        assertEquals(4, SuggestionFingerprint.temperatureBucket(5.9));
+        assertEquals(-2, SuggestionFingerprint.temperatureBucket(-0.5));
+        assertEquals("clouds", SuggestionFingerprint.conditionClass("04n"));
+        assertEquals("other", SuggestionFingerprint.conditionClass(null));
+        assertEquals(0, SuggestionFingerprint.windBand(Double.NaN));
+        assertEquals(3, SuggestionFingerprint.windBand(20.0));
+        assertEquals(1, SuggestionFingerprint.precipitationBand(0.2));
+    }
+
+    private static User user(String name, String gender, String... owned) {
+        User user = new User(name, "pw", "Toronto", gender);
+        Map<String, Boolean> style = new LinkedHashMap<>();
+        style.put("sandals", false);
+        for (String item : owned) style.put(item, true);
+        user.setStyle(style);
+        return user;
+    }
+
+    private static DailyForecast forecast(String city, double temp, String icon, double wind, double pop) {
+        ForecastSlot slot = new ForecastSlot("Now", temp, "weather", icon, pop, wind, temp);
+        return new DailyForecast(city, LocalDate.of(2025, 1, 1), List.of(slot));
+    }
+
+    // ========== Fakes ==========
+
+    private static class CountingDAO implements OutfitSuggestionDataAccessInterface {
+        int calls;
+        boolean fail;
+
+        @Override
+        public DailyForecast getWeatherForecast(String location) {
+            return null;
+        }
+
+        @Override
+        public List<String> generateOutfitSuggestions(User user, DailyForecast forecast) {
+            calls++;
+            return fail ? null : List.of("Outfit " + calls);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package data_access.outfit_suggestion;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiBatcherTest {
+
+    @Test
+    void requestsWithSameInstructionShareOneCall() throws Exception {
+        EchoTransport transport = new EchoTransport();
+        GeminiBatcher batcher = new GeminiBatcher(transport, 60_000, 3);
+
+        CompletableFuture<String> a = batcher.submit("Style them.", "user A");
+        CompletableFuture<String> b = batcher.submit("Style them.", "user B");
+        CompletableFuture<String> c = batcher.submit("Style them.", "user C");
+
+        assertEquals("outfit for user A", a.get(5, TimeUnit.SECONDS));
+        assertEquals("outfit for user B", b.get(5, TimeUnit.SECONDS));
+        assertEquals("outfit for user C", c.get(5, TimeUnit.SECONDS));
+        assertEquals(1, transport.prompts.size());
+        assertTrue(transport.structured.get(0));
+        // The instruction is sent once for the whole batch
+        assertEquals(transport.prompts.get(0).indexOf("Style them."),
+                transport.prompts.get(0).lastIndexOf("Style them."));
+    }
+
+    @Test
+    void windowFlushesPartialBatch() throws Exception {
+        EchoTransport transport = new EchoTransport();
+        GeminiBatcher batcher = new GeminiBatcher(transport, 20, 8);
+
+        CompletableFuture<String> a = batcher.submit("Style them.", "user A");
+        CompletableFuture<String> b = batcher.submit("Style them.", "user B");
+
+        assertEquals("outfit for user A", a.get(5, TimeUnit.SECONDS));
+        assertEquals("outfit for user B", b.get(5, TimeUnit.SECONDS));
+        assertEquals(1, transport.prompts.size());
+    }
+
+    @Test
+    void singleRequestIsSentAsPlainPrompt() throws Exception {
+        EchoTransport transport = new EchoTransport();
+        GeminiBatcher batcher = new GeminiBatcher(transport, 20, 8);
+
+        assertEquals("plain answer", batcher.submit("Style them.", "user A").get(5, TimeUnit.SECONDS));
+        assertEquals("Style them.\n\nuser A", transport.prompts.get(0));
+        assertFalse(transport.structured.get(0));
+    }
+
+    @Test
+    void differentInstructionsAreNotMixed() throws Exception {
+        EchoTransport transport = new EchoTransport();
+        GeminiBatcher batcher = new GeminiBatcher(transport, 20, 8);
+
+        CompletableFuture<String> one = batcher.submit("Give 1 outfit.", "user A");
+        CompletableFuture<String> three = batcher.submit("Give 3 outfits.", "user B");
+
+        assertEquals("plain answer", one.get(5, TimeUnit.SECONDS));
+        assertEquals("plain answer", three.get(5, TimeUnit.SECONDS));
+        assertEquals(2, transport.prompts.size());
+    }
+
+    @Test
+    void missingAnswerIsRetriedAlone() throws Exception {
+        EchoTransport transport = new EchoTransport();
+        transport.dropId = 1;
+        GeminiBatcher batcher = new GeminiBatcher(transport, 60_000, 2);
+
+        CompletableFuture<String> a = batcher.submit("Style them.", "user A");
+        CompletableFuture<String> b = batcher.submit("Style them.", "user B");
+
+        assertEquals("outfit for user A", a.get(5, TimeUnit.SECONDS));
+        assertEquals("plain answer", b.get(5, TimeUnit.SECONDS));
+        assertEquals(2, transport.prompts.size());
+        assertEquals("Style them.\n\nuser B", transport.prompts.get(1));
+    }
+
+    @Test
+    void failedBatchIsRetriedAlone() throws Exception {
+        List<String> prompts = Collections.synchronizedList(new ArrayList<>());
+        GeminiBatcher batcher = new GeminiBatcher((prompt, schema) -> {
+            prompts.add(prompt);
+            if (schema != null) throw new Exception("Gemini API failed: timeout");
+            return "alone: " + prompt.substring(prompt.lastIndexOf('\n') + 1);
+        }, 60_000, 2);
+
+        CompletableFuture<String> a = batcher.submit("Style them.", "user A");
+        CompletableFuture<String> b = batcher.submit("Style them.", "user B");
+
+        assertEquals("alone: user A", a.get(5, TimeUnit.SECONDS));
+        assertEquals("alone: user B", b.get(5, TimeUnit.SECONDS));
+        // One batch, then each request on its own
+        assertEquals(3, prompts.size());
+    }
+
+    @Test
+    void requestFailingAloneAfterBatchFailureReportsItsError() {
+        GeminiBatcher batcher = new GeminiBatcher((prompt, schema) -> {
+            throw new Exception(schema != null ? "batch failed" : "Gemini API failed: 429");
+        }, 60_000, 2);
+
+        CompletableFuture<String> a = batcher.submit("Style them.", "user A");
+        CompletableFuture<String> b = batcher.submit("Style them.", "user B");
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> a.get(5, TimeUnit.SECONDS));
+        assertEquals("Gemini API failed: 429", e.getCause().getMessage());
+        assertThrows(ExecutionException.class, () -> b.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void parseAnswersIgnoresJunk() {
+        String[] answers = GeminiBatcher.parseAnswers(
+                "[{\"id\":1,\"answer\":\"b\"},{\"id\":7,\"answer\":\"x\"},{\"id\":0,\"answer\":\" \"},5]", 2);
+        assertNull(answers[0]);
+        assertEquals("b", answers[1]);
+
+        assertArrayEquals(new String[2], GeminiBatcher.parseAnswers("Sorry, I can't do that.", 2));
+    }
+
+    // ========== Fakes ==========
+
+    /** Answers batched prompts with "outfit for <input>" per request, plain prompts with "plain answer". */
+    private static class EchoTransport implements GeminiBatcher.Transport {
+        private static final Pattern REQUEST = Pattern.compile("=== Request (\\d+) ===\n(.*)\n");
+
+        final List<String> prompts = Collections.synchronizedList(new ArrayList<>());
+        final List<Boolean> structured = Collections.synchronizedList(new ArrayList<>());
+        int dropId = -1;
+
+        @Override
+        public String generate(String prompt, JSONObject responseSchema) {
+            prompts.add(prompt);
+            structured.add(responseSchema != null);
+            if (responseSchema == null) return "plain answer";
+
+            JSONArray answers = new JSONArray();
+            Matcher m = REQUEST.matcher(prompt);
+            while (m.find()) {
+                int id = Integer.parseInt(m.group(1));
+                if (id == dropId) continue;
+                answers.put(new JSONObject().put("id", id).put("answer", "outfit for " + m.group(2)));
+            }
+            return answers.toString();
+        }
+    }
+}
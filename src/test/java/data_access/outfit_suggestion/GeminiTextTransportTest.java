@@ -0,0 +1,86 @@
+package data_access.outfit_suggestion;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiTextTransportTest {
+
+    private static String event(String text) {
+        return "data: {\"candidates\": [{\"content\": {\"parts\": [{\"text\": \"" + text + "\"}],"
+                + "\"role\": \"model\"}}]}\r\n\r\n";
+    }
+
+    @Test
+    void streamDeliversEachChunkBeforeTheResponseEnds() throws Exception {
+        CountDownLatch firstSeen = new CountDownLatch(1);
+        List<String> paths = new ArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            paths.add(exchange.getRequestURI().toString());
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(event("Outfit:\\n- Blue ").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                // Hold the rest back until the client has shown the first piece
+                firstSeen.await(5, TimeUnit.SECONDS);
+                out.write(event("jeans").getBytes(StandardCharsets.UTF_8));
+                out.write("data: {\"usageMetadata\": {\"totalTokenCount\": 12}}\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort()
+                    + "/v1/models/gemini-2.5-flash-lite:generateContent";
+            GeminiTextTransport transport = new GeminiTextTransport(new OkHttpClient(), url);
+            List<String> deltas = new ArrayList<>();
+
+            String full = transport.stream("prompt", delta -> {
+                deltas.add(delta);
+                firstSeen.countDown();
+            });
+
+            assertEquals(List.of("Outfit:\n- Blue ", "jeans"), deltas);
+            assertEquals("Outfit:\n- Blue jeans", full);
+            assertTrue(paths.get(0).startsWith("/v1/models/gemini-2.5-flash-lite:streamGenerateContent?alt=sse&key="));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void multiLineEventsAreJoined() throws IOException {
+        Buffer source = new Buffer().writeUtf8(
+                "data: {\"candidates\": [{\"content\":\n"
+                + "data: {\"parts\": [{\"text\": \"Hi\"}]}}]}\n\n"
+                + ": keep-alive comment\n\n"
+                + event("!"));
+        List<String> deltas = new ArrayList<>();
+
+        assertEquals("Hi!", GeminiTextTransport.readEvents(source, deltas::add));
+        assertEquals(List.of("Hi", "!"), deltas);
+    }
+
+    @Test
+    void malformedEventIsAnError() {
+        Buffer source = new Buffer().writeUtf8("data: {\"candidates\": [\n\n");
+
+        assertThrows(IOException.class, () -> GeminiTextTransport.readEvents(source, delta -> { }));
+    }
+}
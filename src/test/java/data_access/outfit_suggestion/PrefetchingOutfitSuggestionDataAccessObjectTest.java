@@ -0,0 +1,163 @@
+package data_access.outfit_suggestion;
+
+import entity.DailyForecast;
+import entity.ForecastSlot;
+import entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import use_case.outfit_suggestion.OutfitSuggestionDataAccessInterface;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefetchingOutfitSuggestionDataAccessObjectTest {
+
+    private ExecutorService executor;
+    private CountingDAO delegate;
+    private PrefetchingOutfitSuggestionDataAccessObject dao;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        delegate = new CountingDAO();
+        dao = new PrefetchingOutfitSuggestionDataAccessObject(delegate, executor, true);
+        alice = user("alice", "Toronto", "jeans");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void firstRequestUsesPrefetchedResults() {
+        dao.prefetch(alice);
+
+        DailyForecast forecast = dao.getWeatherForecast("toronto ");
+        List<String> deltas = new ArrayList<>();
+        List<String> suggestions = dao.generateOutfitSuggestions(alice, forecast, deltas::add);
+
+        assertEquals(List.of("outfit 1"), suggestions);
+        assertEquals(List.of("outfit 1"), deltas);
+        assertEquals(1, delegate.forecastCalls.get());
+        assertEquals(1, delegate.suggestionCalls.get());
+    }
+
+    @Test
+    void requestWaitsForPrefetchStillRunning() throws Exception {
+        delegate.release = new CountDownLatch(1);
+        dao.prefetch(alice);
+
+        // Let the prefetch finish a little after the click
+        executor.submit(() -> {
+            TimeUnit.MILLISECONDS.sleep(50);
+            delegate.release.countDown();
+            return null;
+        });
+        DailyForecast forecast = dao.getWeatherForecast("Toronto");
+
+        assertEquals(List.of("outfit 1"), dao.generateOutfitSuggestions(alice, forecast));
+        assertEquals(1, delegate.forecastCalls.get());
+        assertEquals(1, delegate.suggestionCalls.get());
+    }
+
+    @Test
+    void prefetchedResultsAreUsedOnce() {
+        dao.prefetch(alice);
+
+        dao.generateOutfitSuggestions(alice, dao.getWeatherForecast("Toronto"));
+        List<String> again = dao.generateOutfitSuggestions(alice, dao.getWeatherForecast("Toronto"));
+
+        assertEquals(List.of("outfit 2"), again);
+        assertEquals(2, delegate.forecastCalls.get());
+    }
+
+    @Test
+    void otherLocationOrChangedWardrobeGoesToDelegate() throws Exception {
+        dao.prefetch(alice);
+        awaitPrefetch();
+
+        assertEquals("Ottawa", dao.getWeatherForecast("Ottawa").getCity());
+        DailyForecast forecast = dao.getWeatherForecast("Toronto");
+        // Ottawa went to the delegate; Toronto was the prefetched one
+        assertEquals(2, delegate.forecastCalls.get());
+
+        alice.setStyle(Map.of("boots", true));
+        assertEquals(List.of("outfit 2"), dao.generateOutfitSuggestions(alice, forecast));
+    }
+
+    @Test
+    void clearDropsPrefetch() throws Exception {
+        dao.prefetch(alice);
+        awaitPrefetch();
+
+        dao.clear();
+        DailyForecast forecast = dao.getWeatherForecast("Toronto");
+
+        assertEquals(List.of("outfit 2"), dao.generateOutfitSuggestions(alice, forecast));
+        assertEquals(2, delegate.forecastCalls.get());
+    }
+
+    /** Waits for the background prefetch to finish so it cannot race the assertions. */
+    private void awaitPrefetch() throws InterruptedException {
+        for (int i = 0; i < 100 && delegate.suggestionCalls.get() == 0; i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private static User user(String name, String location, String... items) {
+        User user = new User(name, "password", location, "female");
+        Map<String, Boolean> style = new LinkedHashMap<>();
+        for (String item : items) style.put(item, true);
+        user.setStyle(style);
+        return user;
+    }
+
+    // ==================== Mock/Test Classes ====================
+
+    /**
+     * Returns a fresh forecast and a numbered suggestion per call, optionally holding both until released.
+     */
+    private static class CountingDAO implements OutfitSuggestionDataAccessInterface {
+        final AtomicInteger forecastCalls = new AtomicInteger();
+        final AtomicInteger suggestionCalls = new AtomicInteger();
+        volatile CountDownLatch release;
+
+        @Override
+        public DailyForecast getWeatherForecast(String location) {
+            forecastCalls.incrementAndGet();
+            awaitRelease();
+            List<ForecastSlot> slots = new ArrayList<>();
+            slots.add(new ForecastSlot("Now", 8.0, "clear sky", "01d", 0.0, 2.0, 7.0));
+            return new DailyForecast(location, LocalDate.now(), slots);
+        }
+
+        @Override
+        public List<String> generateOutfitSuggestions(User user, DailyForecast forecast) {
+            awaitRelease();
+            return List.of("outfit " + suggestionCalls.incrementAndGet());
+        }
+
+        private void awaitRelease() {
+            CountDownLatch latch = release;
+            if (latch == null) return;
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package data_access.user_storage;
+
+import entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingUserRepositoryTest {
+
+    @Test
+    void testFoundUserIsServedFromCache() {
+        CountingRepository delegate = new CountingRepository();
+        delegate.users.put("alice", new User("alice", "pw", "Toronto", "Female"));
+        CachingUserRepository repository = new CachingUserRepository(delegate);
+
+        assertEquals("Toronto", repository.findByUsername("alice").getLocation());
+        assertEquals("Toronto", repository.findByUsername("alice").getLocation());
+        assertTrue(repository.exists("alice"));
+
+        assertEquals(1, delegate.finds);
+        assertEquals(0, delegate.existsCalls);
+        assertEquals(2, repository.getHits());
+    }
+
+    @Test
+    void testMissingUserIsNegativelyCachedForShorterTtl() {
+        CountingRepository delegate = new CountingRepository();
+        MutableClock clock = new MutableClock(0);
+        CachingUserRepository repository = new CachingUserRepository(
+                delegate, clock, Duration.ofMinutes(5), Duration.ofSeconds(30), 16);
+
+        assertFalse(repository.exists("bob"));
+        assertNull(repository.findByUsername("bob"));
+        assertFalse(repository.exists("bob"));
+        assertEquals(1, delegate.existsCalls);
+        assertEquals(0, delegate.finds);
+
+        // Someone else signed up meanwhile
+        delegate.users.put("bob", new User("bob", "pw", "Ottawa", "Male"));
+        clock.millis = Duration.ofSeconds(30).toMillis();
+        assertNotNull(repository.findByUsername("bob"));
+        assertEquals(1, delegate.finds);
+    }
+
+    @Test
+    void testFailedLookupIsNotCached() {
+        CountingRepository delegate = new CountingRepository();
+        delegate.users.put("alice", new User("alice", "pw", "Toronto", "Female"));
+        CachingUserRepository repository = new CachingUserRepository(delegate);
+
+        delegate.offline = true;
+        assertThrows(UncheckedIOException.class, () -> repository.findByUsername("alice"));
+        assertThrows(UncheckedIOException.class, () -> repository.exists("alice"));
+
+        // Back online: the blip left no "missing" entry behind
+        delegate.offline = false;
+        assertTrue(repository.exists("alice"));
+        assertEquals("Toronto", repository.findByUsername("alice").getLocation());
+        assertEquals(2, delegate.existsCalls);
+        assertEquals(2, delegate.finds);
+    }
+
+    @Test
+    void testFoundUserExpiresAfterTtl() {
+        CountingRepository delegate = new CountingRepository();
+        delegate.users.put("alice", new User("alice", "pw", "Toronto", "Female"));
+        MutableClock clock = new MutableClock(0);
+        CachingUserRepository repository = new CachingUserRepository(
+                delegate, clock, Duration.ofMinutes(5), Duration.ofSeconds(30), 16);
+
+        repository.findByUsername("alice");
+        clock.millis = Duration.ofMinutes(4).toMillis();
+        repository.findByUsername("alice");
+        assertEquals(1, delegate.finds);
+
+        clock.millis = Duration.ofMinutes(5).toMillis();
+        repository.findByUsername("alice");
+        assertEquals(2, delegate.finds);
+    }
+
+    @Test
+    void testSaveInvalidatesNegativeEntry() {
+        CountingRepository delegate = new CountingRepository();
+        CachingUserRepository repository = new CachingUserRepository(delegate);
+
+        assertFalse(repository.exists("carol"));
+        repository.save(new User("carol", "pw", "Montreal", "Female"));
+
+        assertTrue(repository.exists("carol"));
+        assertEquals("Montreal", repository.findByUsername("carol").getLocation());
+        assertEquals(2, delegate.existsCalls);
+    }
+
+    @Test
+    void testSaveInvalidatesCachedUser() {
+        CountingRepository delegate = new CountingRepository();
+        delegate.users.put("alice", new User("alice", "pw", "Toronto", "Female"));
+        CachingUserRepository repository = new CachingUserRepository(delegate);
+
+        repository.findByUsername("alice");
+        repository.save(new User("alice", "pw", "Ottawa", "Female"));
+
+        assertEquals("Ottawa", repository.findByUsername("alice").getLocation());
+        assertEquals(2, delegate.finds);
+    }
+
+    @Test
+    void testExistsDoesNotStandInForTheRow() {
+        CountingRepository delegate = new CountingRepository();
+        delegate.users.put("alice", new User("alice", "pw", "Toronto", "Female"));
+        CachingUserRepository repository = new CachingUserRepository(delegate);
+
+        assertTrue(repository.exists("alice"));
+        assertEquals("Toronto", repository.findByUsername("alice").getLocation());
+        assertEquals(1, delegate.finds);
+    }
+
+    @Test
+    void testCachedUserCannotBeChangedByCallers() {
+        CountingRepository delegate = new CountingRepository();
+        User stored = new User("alice", "pw", "Toronto", "Female");
+        Map<String, Boolean> style = new HashMap<>();
+        style.put("Jeans", true);
+        stored.setStyle(style);
+        delegate.users.put("alice", stored);
+        CachingUserRepository repository = new CachingUserRepository(delegate);
+
+        repository.findByUsername("alice");
+        repository.findByUsername("alice").setStyle((Map<String, Boolean>) null);
+
+        assertNotNull(repository.findByUsername("alice").getStyle());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsDropped() {
+        CountingRepository delegate = new CountingRepository();
+        for (String name : new String[]{"a", "b", "c"}) {
+            delegate.users.put(name, new User(name, "pw", "Toronto", "Female"));
+        }
+        CachingUserRepository repository = new CachingUserRepository(
+                delegate, Clock.systemUTC(), Duration.ofMinutes(5), Duration.ofSeconds(30), 2);
+
+        repository.findByUsername("a");
+        repository.findByUsername("b");
+        repository.findByUsername("a");
+        repository.findByUsername("c");
+        assertEquals(3, delegate.finds);
+
+        // "b" was least recently used and is gone; "a" survived
+        repository.findByUsername("a");
+        assertEquals(3, delegate.finds);
+        repository.findByUsername("b");
+        assertEquals(4, delegate.finds);
+    }
+
+    // ==================== Mock/Test Classes ====================
+
+    private static class CountingRepository implements UserRepository {
+        final Map<String, User> users = new HashMap<>();
+        int finds;
+        int existsCalls;
+        boolean offline;
+
+        @Override
+        public void save(User user) {
+            users.put(user.getName(), user);
+        }
+
+        @Override
+        public User findByUsername(String username) {
+            finds++;
+            if (offline) throw new UncheckedIOException(new IOException("offline"));
+            return users.get(username);
+        }
+
+        @Override
+        public boolean exists(String username) {
+            existsCalls++;
+            if (offline) throw new UncheckedIOException(new IOException("offline"));
+            return users.containsKey(username);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
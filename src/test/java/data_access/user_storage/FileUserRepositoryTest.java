@@ -0,0 +1,304 @@
+package data_access.user_storage;
+
+import entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileUserRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private FileUserRepository repository;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (repository != null) repository.close();
+    }
+
+    @Test
+    void testSaveFindAndExists() throws IOException {
+        repository = new FileUserRepository(dir);
+        repository.save(user("alice", "Toronto"));
+
+        assertTrue(repository.exists("alice"));
+        assertFalse(repository.exists("bob"));
+        assertNull(repository.findByUsername("bob"));
+
+        User found = repository.findByUsername("alice");
+        assertEquals("pw", found.getPassword());
+        assertEquals("Toronto", found.getLocation());
+        assertEquals("Female", found.getGender());
+        assertEquals(Boolean.TRUE, found.getStyle().get("Jeans"));
+        assertEquals(Boolean.FALSE, found.getStyle().get("Shorts"));
+    }
+
+    @Test
+    void testFoundUserIsACopy() throws IOException {
+        repository = new FileUserRepository(dir);
+        repository.save(user("alice", "Toronto"));
+
+        repository.findByUsername("alice").setStyle((Map<String, Boolean>) null);
+
+        assertNotNull(repository.findByUsername("alice").getStyle());
+    }
+
+    @Test
+    void testReopenReplaysLog() throws IOException {
+        repository = new FileUserRepository(dir);
+        repository.save(user("alice", "Toronto"));
+        repository.save(user("alice", "Ottawa"));
+        User noStyle = new User("bob", "pw", null, "Male");
+        repository.save(noStyle);
+
+        // Simulate a crash: copy the log as written, without the final snapshot of close()
+        Path crashed = crashCopy();
+        repository.close();
+        FileUserRepository reopened = new FileUserRepository(crashed);
+        try {
+            assertEquals(2, reopened.size());
+            assertEquals("Ottawa", reopened.findByUsername("alice").getLocation());
+            assertNull(reopened.findByUsername("bob").getLocation());
+            assertNull(reopened.findByUsername("bob").getStyle());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void testTornTailRecordIsDropped() throws IOException {
+        repository = new FileUserRepository(dir);
+        repository.save(user("alice", "Toronto"));
+        Path crashed = crashCopy();
+        repository.close();
+        Path log = crashed.resolve(FileUserRepository.LOG_FILE);
+        long goodSize = Files.size(log);
+
+        // Half of a record, as left by a crash in the middle of a write
+        byte[] record = FileUserRepository.encode(FileUserRepository.Stored.of(user("bob", "Ottawa")));
+        Files.write(log, Arrays.copyOf(record, record.length / 2), StandardOpenOption.APPEND);
+
+        FileUserRepository reopened = new FileUserRepository(crashed);
+        try {
+            assertTrue(reopened.exists("alice"));
+            assertFalse(reopened.exists("bob"));
+            assertEquals(goodSize, Files.size(log));
+
+            reopened.save(user("carol", "Montreal"));
+        } finally {
+            reopened.close();
+        }
+
+        repository = new FileUserRepository(crashed);
+        assertTrue(repository.exists("carol"));
+    }
+
+    @Test
+    void testCompactionWritesSnapshotAndTruncatesLog() throws Exception {
+        repository = new FileUserRepository(dir, 3, null);
+        for (int i = 0; i < 3; i++) {
+            repository.save(user("user" + i, "Toronto"));
+        }
+
+        // Compaction runs on the writer thread after the third save has returned
+        Path log = dir.resolve(FileUserRepository.LOG_FILE);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (Files.size(log) > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.exists(dir.resolve(FileUserRepository.SNAPSHOT_FILE)));
+        assertEquals(0, Files.size(log));
+
+        repository.save(user("user0", "Ottawa"));
+        repository.close();
+
+        repository = new FileUserRepository(dir, 3, null);
+        assertEquals(3, repository.size());
+        assertEquals("Ottawa", repository.findByUsername("user0").getLocation());
+    }
+
+    @Test
+    void testFailedWriteIsCutFromLog() throws Exception {
+        repository = new FileUserRepository(dir);
+        repository.save(user("alice", "Toronto"));
+        repository.beforeForce = () -> {
+            throw new IOException("disk full");
+        };
+
+        assertThrows(UncheckedIOException.class, () -> repository.save(user("bob", "Ottawa")));
+
+        repository.beforeForce = null;
+        repository.save(user("carol", "Montreal"));
+        Path crashed = crashCopy();
+        repository.close();
+
+        // Carol was reported durable, so replay must reach her record; bob's bytes are gone
+        repository = new FileUserRepository(crashed);
+        assertTrue(repository.exists("alice"));
+        assertFalse(repository.exists("bob"));
+        assertTrue(repository.exists("carol"));
+    }
+
+    @Test
+    void testSavesQueuedDuringFsyncShareOne() throws Exception {
+        repository = new FileUserRepository(dir);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        repository.beforeForce = () -> {
+            firstWritten.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        int waiting = 10;
+        ExecutorService pool = Executors.newFixedThreadPool(waiting + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            futures.add(pool.submit(() -> repository.save(user("first", "Toronto"))));
+            assertTrue(firstWritten.await(5, TimeUnit.SECONDS));
+
+            // These queue up behind the stalled fsync
+            for (int i = 0; i < waiting; i++) {
+                int id = i;
+                futures.add(pool.submit(() -> repository.save(user("u" + id, "Toronto"))));
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (repository.getQueuedWrites() < waiting && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(waiting, repository.getQueuedWrites());
+
+            repository.beforeForce = null;
+            release.countDown();
+            for (Future<?> f : futures) f.get(5, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(waiting + 1, repository.size());
+        assertEquals(2, repository.getFsyncCount());
+    }
+
+    @Test
+    void testSecondStoreOnSameDirectoryIsRefused() throws IOException {
+        repository = new FileUserRepository(dir);
+
+        assertThrows(IOException.class, () -> new FileUserRepository(dir));
+
+        repository.close();
+        repository = new FileUserRepository(dir);
+    }
+
+    @Test
+    void testConcurrentSavesAreAllStored() throws Exception {
+        repository = new FileUserRepository(dir);
+        int threads = 8;
+        int perThread = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    repository.save(user("t" + id + "-" + i, "Toronto"));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertEquals(threads * perThread, repository.size());
+
+        repository.close();
+        repository = new FileUserRepository(dir);
+        assertEquals(threads * perThread, repository.size());
+    }
+
+    @Test
+    void testSavesAreReplicated() throws Exception {
+        RecordingRepository replica = new RecordingRepository();
+        repository = new FileUserRepository(dir, 100, replica);
+        repository.save(user("alice", "Toronto"));
+
+        assertTrue(replica.saved.await(5, TimeUnit.SECONDS));
+        assertEquals("Toronto", replica.last.getLocation());
+    }
+
+    @Test
+    void testFailingReplicaDoesNotFailSave() throws IOException {
+        repository = new FileUserRepository(dir, 100, new InMemoryUserRepository() {
+            @Override
+            public void save(User user) {
+                throw new IllegalStateException("offline");
+            }
+        });
+
+        repository.save(user("alice", "Toronto"));
+
+        assertTrue(repository.exists("alice"));
+    }
+
+    @Test
+    void testSaveAfterCloseFails() throws IOException {
+        repository = new FileUserRepository(dir);
+        repository.close();
+
+        assertThrows(IllegalStateException.class, () -> repository.save(user("alice", "Toronto")));
+    }
+
+    /** Copies the live store's files to a new directory, as a crash would leave them. */
+    private Path crashCopy() throws IOException {
+        Path copy = Files.createDirectory(dir.resolve("crashed"));
+        for (String file : new String[]{FileUserRepository.LOG_FILE, FileUserRepository.SNAPSHOT_FILE}) {
+            if (Files.exists(dir.resolve(file))) Files.copy(dir.resolve(file), copy.resolve(file));
+        }
+        return copy;
+    }
+
+    private static User user(String name, String location) {
+        User user = new User(name, "pw", location, "Female");
+        Map<String, Boolean> style = new LinkedHashMap<>();
+        style.put("Jeans", true);
+        style.put("Shorts", false);
+        user.setStyle(style);
+        return user;
+    }
+
+    // ==================== Mock/Test Classes ====================
+
+    private static class RecordingRepository extends InMemoryUserRepository {
+        final CountDownLatch saved = new CountDownLatch(1);
+        volatile User last;
+
+        @Override
+        public void save(User user) {
+            last = user;
+            saved.countDown();
+        }
+    }
+}
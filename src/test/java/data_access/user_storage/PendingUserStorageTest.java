@@ -0,0 +1,86 @@
+package data_access.user_storage;
+
+import entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PendingUserStorageTest {
+
+    @Test
+    void testStoreGetAndRemove() {
+        PendingUserStorage storage = new PendingUserStorage(Clock.systemUTC(), Duration.ofMinutes(30), 10);
+        storage.storePendingUser(new User("alice", "pw", "Toronto", "Female"));
+
+        assertTrue(storage.hasPendingUser("alice"));
+        assertEquals("Toronto", storage.getPendingUser("alice").getLocation());
+
+        storage.removePendingUser("alice");
+        assertFalse(storage.hasPendingUser("alice"));
+    }
+
+    @Test
+    void testAbandonedSignupExpires() {
+        MutableClock clock = new MutableClock(0);
+        PendingUserStorage storage = new PendingUserStorage(clock, Duration.ofMinutes(30), 10);
+        storage.storePendingUser(new User("alice", "pw", "Toronto", "Female"));
+
+        clock.millis = Duration.ofMinutes(29).toMillis();
+        assertTrue(storage.hasPendingUser("alice"));
+
+        clock.millis = Duration.ofMinutes(30).toMillis();
+        assertNull(storage.getPendingUser("alice"));
+        assertEquals(0, storage.size());
+    }
+
+    @Test
+    void testOldestSignupIsDroppedPastTheBound() {
+        PendingUserStorage storage = new PendingUserStorage(Clock.systemUTC(), Duration.ofMinutes(30), 2);
+        storage.storePendingUser(new User("a", "pw", "Toronto", "Female"));
+        storage.storePendingUser(new User("b", "pw", "Toronto", "Female"));
+        // Signing up again moves "a" behind "b"
+        storage.storePendingUser(new User("a", "pw2", "Toronto", "Female"));
+        storage.storePendingUser(new User("c", "pw", "Toronto", "Female"));
+
+        assertEquals(2, storage.size());
+        assertFalse(storage.hasPendingUser("b"));
+        assertEquals("pw2", storage.getPendingUser("a").getPassword());
+        assertTrue(storage.hasPendingUser("c"));
+    }
+
+    // ==================== Mock/Test Classes ====================
+
+    private static class MutableClock extends Clock {
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package data_access.user_storage;
+
+import entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRegistryTest {
+
+    @Test
+    void testEachLoginGetsItsOwnSession() {
+        SessionRegistry registry = new SessionRegistry();
+        String alice = registry.open(new User("alice", "pw", "Toronto", "Female"));
+        String bob = registry.open(new User("bob", "pw", "Ottawa", "Male"));
+
+        assertNotEquals(alice, bob);
+        assertEquals("alice", registry.getCurrentUser(alice).getName());
+        assertEquals("bob", registry.getCurrentUser(bob).getName());
+        assertNull(registry.getCurrentUser("not-a-token"));
+        assertNull(registry.getCurrentUser(null));
+    }
+
+    @Test
+    void testCloseEndsSession() {
+        SessionRegistry registry = new SessionRegistry();
+        String token = registry.open(new User("alice", "pw", "Toronto", "Female"));
+
+        registry.close(token);
+
+        assertNull(registry.getCurrentUser(token));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void testIdleSessionExpiresButActiveOneStays() {
+        MutableClock clock = new MutableClock(0);
+        SessionRegistry registry = new SessionRegistry(clock, Duration.ofMinutes(30));
+        String active = registry.open(new User("alice", "pw", "Toronto", "Female"));
+        String idle = registry.open(new User("bob", "pw", "Ottawa", "Male"));
+
+        clock.millis = Duration.ofMinutes(20).toMillis();
+        assertNotNull(registry.getCurrentUser(active));
+
+        clock.millis = Duration.ofMinutes(40).toMillis();
+        assertNotNull(registry.getCurrentUser(active));
+        assertNull(registry.getCurrentUser(idle));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void testSweepDropsIdleSessions() {
+        MutableClock clock = new MutableClock(0);
+        SessionRegistry registry = new SessionRegistry(clock, Duration.ofMinutes(30));
+        for (int i = 0; i < 10; i++) {
+            registry.open(new User("user" + i, "pw", "Toronto", "Female"));
+        }
+
+        clock.millis = Duration.ofMinutes(30).toMillis();
+        registry.sweep();
+
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void testUpdateReplacesUser() {
+        SessionRegistry registry = new SessionRegistry();
+        String token = registry.open(new User("alice", "pw", "Toronto", "Female"));
+
+        assertTrue(registry.update(token, new User("alice", "pw", "Ottawa", "Female")));
+        assertFalse(registry.update("not-a-token", new User("bob", "pw", "Ottawa", "Male")));
+
+        assertEquals("Ottawa", registry.getCurrentUser(token).getLocation());
+    }
+
+    @Test
+    void testConcurrentLoginsGetDistinctSessions() throws Exception {
+        SessionRegistry registry = new SessionRegistry();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<String>> tokens = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            User user = new User("user" + i, "pw", "Toronto", "Female");
+            tokens.add(pool.submit(() -> {
+                String token = registry.open(user);
+                assertEquals(user.getName(), registry.getCurrentUser(token).getName());
+                return token;
+            }));
+        }
+        Set<String> distinct = new HashSet<>();
+        for (Future<String> f : tokens) distinct.add(f.get(10, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        assertEquals(400, distinct.size());
+        assertEquals(400, registry.size());
+    }
+
+    // ==================== Mock/Test Classes ====================
+
+    private static class MutableClock extends Clock {
+        volatile long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
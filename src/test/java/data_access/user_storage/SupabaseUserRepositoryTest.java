@@ -110,5 +110,12 @@ class SupabaseUserRepositoryTest {
         assertEquals("Female", retrievedUser.getGender());
     }
 
+    @Test
+    void parseCountFromContentRangeTest() {
+        // exists() reads the total from the Content-Range header of a HEAD count query
+        assertEquals(1, SupabaseUserRepository.parseCount("0-0/1"));
+        assertEquals(0, SupabaseUserRepository.parseCount("*/0"));
+        assertEquals(0, SupabaseUserRepository.parseCount("0-0/*"));
+        assertEquals(0, SupabaseUserRepository.parseCount(null));
+    }
 }
-
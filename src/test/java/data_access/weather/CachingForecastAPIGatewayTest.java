@@ -0,0 +1,137 @@
+package data_access.weather;
+
+import org.junit.jupiter.api.Test;
+import use_case.weather.ForecastAPIGateway;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingForecastAPIGatewayTest {
+
+    // 2025-01-01T10:00:00Z, one hour into the 09:00 model run
+    private static final long START = Instant.parse("2025-01-01T10:00:00Z").toEpochMilli();
+
+    @Test
+    void sameCityIsFetchedOnceUntilNextModelRun() throws Exception {
+        CountingGateway delegate = new CountingGateway();
+        MutableClock clock = new MutableClock(START);
+        List<Runnable> refreshes = new ArrayList<>();
+        CachingForecastAPIGateway gateway = new CachingForecastAPIGateway(delegate, clock, refreshes::add);
+
+        assertEquals("json-1", gateway.request3hForecastJson("Toronto"));
+        assertEquals("json-1", gateway.request3hForecastJson("  toronto "));
+        clock.millis = Instant.parse("2025-01-01T11:59:59Z").toEpochMilli();
+        assertEquals("json-1", gateway.request3hForecastJson("TORONTO"));
+
+        assertEquals(1, delegate.calls);
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void expiredEntryIsServedStaleWhileOneRefreshRuns() throws Exception {
+        CountingGateway delegate = new CountingGateway();
+        MutableClock clock = new MutableClock(START);
+        List<Runnable> refreshes = new ArrayList<>();
+        CachingForecastAPIGateway gateway = new CachingForecastAPIGateway(delegate, clock, refreshes::add);
+
+        gateway.request3hForecastJson("Toronto");
+        clock.millis = Instant.parse("2025-01-01T12:30:00Z").toEpochMilli();
+
+        // Both callers get the stale copy, but only one refresh is queued
+        assertEquals("json-1", gateway.request3hForecastJson("Toronto"));
+        assertEquals("json-1", gateway.request3hForecastJson("Toronto"));
+        assertEquals(1, refreshes.size());
+        assertEquals(1, delegate.calls);
+
+        refreshes.get(0).run();
+        assertEquals("json-2", gateway.request3hForecastJson("Toronto"));
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    void entryPastStaleWindowBlocksOnFreshFetch() throws Exception {
+        CountingGateway delegate = new CountingGateway();
+        MutableClock clock = new MutableClock(START);
+        List<Runnable> refreshes = new ArrayList<>();
+        CachingForecastAPIGateway gateway = new CachingForecastAPIGateway(delegate, clock, refreshes::add);
+
+        gateway.request3hForecastJson("Toronto");
+        clock.millis = Instant.parse("2025-01-01T16:00:00Z").toEpochMilli();
+
+        assertEquals("json-2", gateway.request3hForecastJson("Toronto"));
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void failedBackgroundRefreshKeepsStaleCopy() throws Exception {
+        CountingGateway delegate = new CountingGateway();
+        MutableClock clock = new MutableClock(START);
+        List<Runnable> refreshes = new ArrayList<>();
+        CachingForecastAPIGateway gateway = new CachingForecastAPIGateway(delegate, clock, refreshes::add);
+
+        gateway.request3hForecastJson("Toronto");
+        clock.millis = Instant.parse("2025-01-01T12:30:00Z").toEpochMilli();
+        delegate.fail = true;
+
+        gateway.request3hForecastJson("Toronto");
+        refreshes.get(0).run();
+
+        assertEquals("json-1", gateway.request3hForecastJson("Toronto"));
+        // The failed refresh released its flag, so a later request can retry
+        assertEquals(2, refreshes.size());
+    }
+
+    @Test
+    void nextModelRefreshAlignsToThreeHourBoundary() {
+        long next = CachingForecastAPIGateway.nextModelRefresh(START);
+        assertEquals(Instant.parse("2025-01-01T12:00:00Z").toEpochMilli(), next);
+    }
+
+    // ========== Fakes ==========
+
+    private static class CountingGateway implements ForecastAPIGateway {
+        int calls;
+        boolean fail;
+
+        @Override
+        public String request3hForecastJson(String cityName) throws Exception {
+            calls++;
+            if (fail) throw new Exception("HTTP 503");
+            return "json-" + calls;
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
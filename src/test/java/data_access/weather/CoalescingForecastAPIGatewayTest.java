@@ -0,0 +1,209 @@
+package data_access.weather;
+
+import com.sun.net.httpserver.HttpServer;
+import data_access.http.CancellationScope;
+import data_access.http.HttpClientProvider;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+import use_case.weather.ForecastAPIGateway;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingForecastAPIGatewayTest {
+
+    @Test
+    void concurrentCallersForSameCityShareOneRequest() throws Exception {
+        BlockingGateway delegate = new BlockingGateway();
+        CoalescingForecastAPIGateway gateway = new CoalescingForecastAPIGateway(delegate);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> leader = pool.submit(() -> gateway.request3hForecastJson("Toronto"));
+            assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+
+            Future<String> a = pool.submit(() -> gateway.request3hForecastJson("toronto"));
+            Future<String> b = pool.submit(() -> gateway.request3hForecastJson(" TORONTO "));
+            waitForCoalesced(gateway, 2);
+
+            delegate.release.countDown();
+            assertEquals("json-1", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("json-1", a.get(5, TimeUnit.SECONDS));
+            assertEquals("json-1", b.get(5, TimeUnit.SECONDS));
+
+            assertEquals(1, delegate.calls.get());
+            assertEquals(1, gateway.getIssuedCalls());
+            assertEquals(2, gateway.getCoalescedCalls());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void finishedRequestIsNotReused() throws Exception {
+        BlockingGateway delegate = new BlockingGateway();
+        delegate.release.countDown();
+        CoalescingForecastAPIGateway gateway = new CoalescingForecastAPIGateway(delegate);
+
+        assertEquals("json-1", gateway.request3hForecastJson("Toronto"));
+        assertEquals("json-2", gateway.request3hForecastJson("Toronto"));
+        assertEquals(0, gateway.getCoalescedCalls());
+    }
+
+    @Test
+    void waiterTimesOutWithoutAffectingLeader() throws Exception {
+        BlockingGateway delegate = new BlockingGateway();
+        CoalescingForecastAPIGateway gateway = new CoalescingForecastAPIGateway(delegate, 50);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = pool.submit(() -> gateway.request3hForecastJson("Toronto"));
+            assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TimeoutException.class, () -> gateway.request3hForecastJson("Toronto"));
+
+            delegate.release.countDown();
+            assertEquals("json-1", leader.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancelFailsEveryWaiter() throws Exception {
+        BlockingGateway delegate = new BlockingGateway();
+        CoalescingForecastAPIGateway gateway = new CoalescingForecastAPIGateway(delegate);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = pool.submit(() -> gateway.request3hForecastJson("Toronto"));
+            assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+            Future<String> waiter = pool.submit(() -> gateway.request3hForecastJson("Toronto"));
+            waitForCoalesced(gateway, 1);
+
+            assertTrue(gateway.cancel("Toronto"));
+            ExecutionException e = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof CancellationException);
+
+            delegate.release.countDown();
+            e = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof CancellationException);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancellingLeaderScopeDoesNotFailWaiter() throws Exception {
+        CountDownLatch requestArrived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            requestArrived.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+            }
+            byte[] body = "{\"list\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+        OkHttpClient client = HttpClientProvider.weather();
+        CoalescingForecastAPIGateway gateway = new CoalescingForecastAPIGateway(cityName -> {
+            try (Response response = client.newCall(new Request.Builder().url(url).build()).execute()) {
+                return response.body().string();
+            }
+        });
+
+        CancellationScope leaderScope = new CancellationScope();
+        CancellationScope waiterScope = new CancellationScope();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = pool.submit(() -> {
+                try (CancellationScope.Entered ignored = leaderScope.enter()) {
+                    return gateway.request3hForecastJson("Toronto");
+                }
+            });
+            assertTrue(requestArrived.await(5, TimeUnit.SECONDS));
+            Future<String> waiter = pool.submit(() -> {
+                try (CancellationScope.Entered ignored = waiterScope.enter()) {
+                    return gateway.request3hForecastJson("Toronto");
+                }
+            });
+            waitForCoalesced(gateway, 1);
+
+            leaderScope.cancel();
+            release.countDown();
+
+            assertEquals("{\"list\":[]}", waiter.get(5, TimeUnit.SECONDS));
+            assertEquals(1, requests.get());
+            assertFalse(waiterScope.isCancelled());
+        } finally {
+            pool.shutdownNow();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void waiterRetriesLookupCancelledFromUnderIt() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CoalescingForecastAPIGateway gateway = new CoalescingForecastAPIGateway(cityName -> {
+            if (calls.incrementAndGet() == 1) throw new IOException("Canceled");
+            return "json-" + calls.get();
+        });
+
+        assertEquals("json-2", gateway.request3hForecastJson("Toronto"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void delegateErrorIsPropagated() {
+        CoalescingForecastAPIGateway gateway = new CoalescingForecastAPIGateway(cityName -> {
+            throw new Exception("HTTP 404: city not found");
+        });
+
+        Exception e = assertThrows(Exception.class, () -> gateway.request3hForecastJson("Nowhere"));
+        assertEquals("HTTP 404: city not found", e.getMessage());
+    }
+
+    private static void waitForCoalesced(CoalescingForecastAPIGateway gateway, long expected)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (gateway.getCoalescedCalls() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, gateway.getCoalescedCalls());
+    }
+
+    // ========== Fakes ==========
+
+    private static class BlockingGateway implements ForecastAPIGateway {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String request3hForecastJson(String cityName) throws Exception {
+            int n = calls.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "json-" + n;
+        }
+    }
+}
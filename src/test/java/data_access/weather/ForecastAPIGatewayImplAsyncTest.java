@@ -0,0 +1,70 @@
+package data_access.weather;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the gateway against a local server, so no API key or network is needed.
+ */
+class ForecastAPIGatewayImplAsyncTest {
+
+    private HttpServer server;
+    private ForecastAPIGatewayImpl gateway;
+    private final AtomicReference<String> lastQuery = new AtomicReference<>();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/forecast", exchange -> {
+            lastQuery.set(exchange.getRequestURI().getRawQuery());
+            boolean found = exchange.getRequestURI().getQuery().contains("q=Toronto");
+            byte[] body = (found ? "{\"list\":[]}" : "{\"cod\":\"404\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(found ? 200 : 404, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write(body);
+            }
+        });
+        server.start();
+        HttpUrl base = HttpUrl.get("http://127.0.0.1:" + server.getAddress().getPort() + "/forecast");
+        gateway = new ForecastAPIGatewayImpl(new OkHttpClient(), base);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void asyncRequestReturnsDecompressedBody() throws Exception {
+        String json = gateway.request3hForecastJsonAsync("Toronto").get(5, TimeUnit.SECONDS);
+        assertEquals("{\"list\":[]}", json);
+    }
+
+    @Test
+    void asyncHttpErrorCompletesExceptionally() {
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> gateway.request3hForecastJsonAsync("Nowhere").get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause().getMessage().startsWith("HTTP 404"));
+    }
+
+    @Test
+    void cityNameIsUrlEncoded() throws Exception {
+        assertThrows(Exception.class, () -> gateway.request3hForecastJson("São Paulo & co"));
+        assertTrue(lastQuery.get().contains("q=S%C3%A3o%20Paulo%20%26%20co"), lastQuery.get());
+    }
+}
@@ -0,0 +1,167 @@
+package data_access.weather;
+
+import entity.ForecastSeries;
+import entity.ForecastSlot;
+import org.junit.jupiter.api.Test;
+import use_case.weather.ForecastProvider;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MergingForecastStoreTest {
+
+    // 2025-01-01T00:00Z
+    private static final long DAY0 = 1735689600L;
+    private static final long SLOT = 3 * 3600L;
+
+    private ForecastSeries current;
+    private int fetches;
+    private final ForecastProvider provider = city -> {
+        fetches++;
+        return current;
+    };
+
+    @Test
+    void dayQueriesCoverTheWholeSeries() throws Exception {
+        current = series(0, 40, 0, 0);
+        MergingForecastStore store = new MergingForecastStore(provider);
+
+        List<LocalDate> days = store.getDays("Toronto");
+        assertEquals(5, days.size());
+        assertEquals(LocalDate.of(2025, 1, 1), days.get(0));
+
+        List<ForecastSlot> day2 = store.getDay("Toronto", LocalDate.of(2025, 1, 2));
+        assertEquals(8, day2.size());
+        assertEquals("00:00", day2.get(0).getLabel());
+        assertEquals("21:00", day2.get(7).getLabel());
+        assertEquals(9.0, day2.get(0).getTemperature());
+
+        assertTrue(store.getDay("Toronto", LocalDate.of(2025, 2, 1)).isEmpty());
+    }
+
+    @Test
+    void rangeQueryIsHalfOpen() throws Exception {
+        current = series(0, 40, 0, 0);
+        MergingForecastStore store = new MergingForecastStore(provider);
+
+        List<ForecastSlot> range = store.getRange("Toronto", DAY0 + SLOT, DAY0 + 4 * SLOT);
+
+        assertEquals(3, range.size());
+        assertEquals("03:00", range.get(0).getLabel());
+        assertEquals("09:00", range.get(2).getLabel());
+    }
+
+    @Test
+    void labelsAndDaysUseCityTime() throws Exception {
+        // UTC+5:30: the 18:00Z slot is already 23:30 local, the 21:00Z one the next day
+        current = series(6, 2, 0, 19_800);
+        MergingForecastStore store = new MergingForecastStore(provider);
+
+        assertEquals(2, store.getDays("Delhi").size());
+        assertEquals("23:30", store.getDay("Delhi", LocalDate.of(2025, 1, 1)).get(0).getLabel());
+    }
+
+    @Test
+    void refreshKeepsTodaysEarlierSlots() throws Exception {
+        current = series(0, 40, 0, 0);
+        MergingForecastStore store = new MergingForecastStore(provider);
+        store.getDays("Toronto");
+
+        // Three hours later the API no longer returns 00:00 and 03:00 of today
+        current = series(2, 38, 0, 0);
+        List<ForecastSlot> today = store.getDay("Toronto", LocalDate.of(2025, 1, 1));
+
+        assertEquals(8, today.size());
+        assertEquals("00:00", today.get(0).getLabel());
+        assertEquals(40, store.getSeries("Toronto").size());
+    }
+
+    @Test
+    void keptSlotsDoNotSpillIntoPreviousDay() throws Exception {
+        current = series(4, 10, 0, 0);
+        MergingForecastStore store = new MergingForecastStore(provider);
+        store.getDays("Toronto");
+
+        // Refresh starts on the next day: yesterday's slots are dropped
+        current = series(8, 10, 0, 0);
+
+        assertEquals(LocalDate.of(2025, 1, 2), store.getDays("Toronto").get(0));
+        assertEquals(10, store.getSeries("Toronto").size());
+    }
+
+    @Test
+    void tailOnlyChangeReusesThePrefix() {
+        MergingForecastStore.Entry first = MergingForecastStore.merge(null, series(0, 40, 0, 0));
+
+        // Same data, except the last four slots warmed up by one degree
+        MergingForecastStore.Entry second = MergingForecastStore.merge(first, series(0, 40, 36, 0));
+
+        assertEquals(36, second.firstChanged);
+        assertArrayEquals(first.days, second.days);
+        assertArrayEquals(first.dayStarts, second.dayStarts);
+        assertEquals(25.5, second.series.getTemperature(39));
+    }
+
+    @Test
+    void unchangedRefreshKeepsTheStoredSeries() {
+        MergingForecastStore.Entry first = MergingForecastStore.merge(null, series(0, 40, 0, 0));
+
+        MergingForecastStore.Entry second = MergingForecastStore.merge(first, series(0, 40, 0, 0));
+
+        assertSame(first.series, second.series);
+        assertEquals(40, second.firstChanged);
+    }
+
+    @Test
+    void sameProviderSeriesIsNotMergedAgain() throws Exception {
+        current = series(0, 40, 0, 0);
+        MergingForecastStore store = new MergingForecastStore(provider);
+
+        ForecastSeries a = store.getSeries("Toronto");
+        ForecastSeries b = store.getSeries("toronto ");
+
+        assertSame(a, b);
+        assertEquals(2, fetches);
+    }
+
+    @Test
+    void upcomingForecastStartsAtTheLatestResponse() throws Exception {
+        current = series(0, 40, 0, 0);
+        MergingForecastStore store = new MergingForecastStore(provider);
+        store.getDays("Toronto");
+        current = series(2, 38, 0, 0);
+
+        // The kept 00:00 slot must not be reported as "Now"
+        assertEquals(current.getTemperature(0),
+                store.getUpcomingForecast("Toronto", 1).getSlots().get(0).getTemperature());
+    }
+
+    /**
+     * count 3-hour slots starting at slot index first after DAY0. The temperature of slot i is
+     * i / 2.0 + 5 (so day-aligned values stay stable across refreshes), plus one degree from
+     * warmFrom on when warmFrom > 0.
+     */
+    private static ForecastSeries series(int first, int count, int warmFrom, int offsetSeconds) {
+        long[] epochSeconds = new long[count];
+        double[] temperature = new double[count];
+        double[] feelsLike = new double[count];
+        double[] pop = new double[count];
+        double[] wind = new double[count];
+        String[] description = new String[count];
+        String[] icon = new String[count];
+        for (int k = 0; k < count; k++) {
+            int i = first + k;
+            epochSeconds[k] = DAY0 + i * SLOT;
+            temperature[k] = i / 2.0 + 5 + (warmFrom > 0 && k >= warmFrom ? 1 : 0);
+            feelsLike[k] = Double.NaN;
+            pop[k] = 0.1;
+            wind[k] = 2;
+            description[k] = "clear sky";
+            icon[k] = "01d";
+        }
+        return new ForecastSeries("Toronto", offsetSeconds, epochSeconds, temperature, feelsLike,
+                pop, wind, description, icon);
+    }
+}
@@ -0,0 +1,70 @@
+package data_access.weather;
+
+import entity.DailyForecast;
+import entity.ForecastSeries;
+import org.junit.jupiter.api.Test;
+import use_case.weather.ForecastAPIGateway;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedForecastProviderTest {
+
+    private static final String JSON = "{\"list\":["
+            + "{\"dt\":1735722000,\"main\":{\"temp\":4.5,\"feels_like\":1.2},"
+            + "\"weather\":[{\"description\":\"light rain\",\"icon\":\"10d\"}],\"pop\":0.6,\"wind\":{\"speed\":5.1}},"
+            + "{\"dt\":1735732800,\"main\":{\"temp\":3.0},"
+            + "\"weather\":[{\"description\":\"overcast clouds\",\"icon\":\"04n\"}]}"
+            + "],\"city\":{\"name\":\"Toronto\",\"timezone\":-18000}}";
+
+    @Test
+    void sameCachedResponseIsDecodedOnce() throws Exception {
+        SwitchableGateway gateway = new SwitchableGateway(JSON);
+        SharedForecastProvider provider = new SharedForecastProvider(gateway);
+
+        ForecastSeries first = provider.getForecast("Toronto");
+        ForecastSeries second = provider.getForecast("  toronto");
+
+        assertSame(first, second);
+        assertEquals(2, first.size());
+    }
+
+    @Test
+    void newResponseIsDecodedAgain() throws Exception {
+        SwitchableGateway gateway = new SwitchableGateway(JSON);
+        SharedForecastProvider provider = new SharedForecastProvider(gateway);
+
+        ForecastSeries first = provider.getForecast("Toronto");
+        // Equal text, but a new fetch: the cache moved on to another response
+        gateway.json = new String(JSON);
+        ForecastSeries second = provider.getForecast("Toronto");
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void upcomingForecastLabelsTheNextSlots() throws Exception {
+        SharedForecastProvider provider = new SharedForecastProvider(new SwitchableGateway(JSON));
+
+        DailyForecast forecast = provider.getUpcomingForecast("Toronto", 4);
+
+        assertEquals("Toronto", forecast.getCity());
+        assertEquals(2, forecast.getSlots().size());
+        assertEquals("Now", forecast.getSlots().get(0).getLabel());
+        assertEquals("In 3 hours", forecast.getSlots().get(1).getLabel());
+        assertEquals(0.6, forecast.getSlots().get(0).getPrecipProbability());
+        assertFalse(forecast.getSlots().get(1).hasWindSpeed());
+    }
+
+    private static class SwitchableGateway implements ForecastAPIGateway {
+        String json;
+
+        SwitchableGateway(String json) {
+            this.json = json;
+        }
+
+        @Override
+        public String request3hForecastJson(String cityName) {
+            return json;
+        }
+    }
+}
@@ -28,23 +28,24 @@ class ForecastSlotTest {
     }
 
     @Test
-    void allowsNullForOptionalFields() {
+    void usesNaNForAbsentOptionalFields() {
         ForecastSlot slot = new ForecastSlot(
                 "Night",
                 5.0,
                 "cloudy",
                 "02d",
-                null,
-                null,
-                null
+                Double.NaN,
+                Double.NaN,
+                Double.NaN
         );
 
         assertEquals("Night", slot.getLabel());
         assertEquals(5.0, slot.getTemperature(), 0.0001);
         assertEquals("cloudy", slot.getDescription());
         assertEquals("02d", slot.getIconCode());
-        assertNull(slot.getPrecipProbability());
-        assertNull(slot.getWindSpeed());
-        assertNull(slot.getFeelsLike());
+        assertTrue(Double.isNaN(slot.getPrecipProbability()));
+        assertFalse(slot.hasPrecipProbability());
+        assertFalse(slot.hasWindSpeed());
+        assertFalse(slot.hasFeelsLike());
     }
 }
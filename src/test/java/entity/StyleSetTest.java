@@ -0,0 +1,70 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StyleSetTest {
+
+    @Test
+    void labelsAndColumnsReadTheSameItems() {
+        Map<String, Boolean> fromPanel = new HashMap<>();
+        fromPanel.put("T-shirts", true);
+        fromPanel.put("dress pants/chinos", true);
+        fromPanel.put("boots", false);
+        Map<String, Boolean> fromSupabase = new HashMap<>();
+        fromSupabase.put("tshirts", true);
+        fromSupabase.put("dress_pants_chinos", true);
+        fromSupabase.put("casual", true);
+
+        StyleSet a = StyleSet.fromMap(fromPanel);
+        StyleSet b = StyleSet.fromMap(fromSupabase);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(List.of(ClothingItem.DRESS_PANTS_CHINOS, ClothingItem.T_SHIRTS), a.items());
+    }
+
+    @Test
+    void isImmutable() {
+        StyleSet jeans = StyleSet.of(ClothingItem.JEANS);
+        StyleSet both = jeans.with(ClothingItem.WATCH);
+
+        assertEquals(1, jeans.size());
+        assertEquals(2, both.size());
+        assertTrue(both.contains(ClothingItem.WATCH));
+        assertEquals(jeans, both.without(ClothingItem.WATCH));
+        assertSame(StyleSet.EMPTY, jeans.without(ClothingItem.JEANS));
+    }
+
+    @Test
+    void mapAndBitsRoundTrip() {
+        StyleSet style = StyleSet.of(ClothingItem.HOODIE, ClothingItem.SNEAKERS, ClothingItem.WATCH);
+
+        Map<String, Boolean> map = style.toMap();
+        assertEquals(ClothingItem.values().length, map.size());
+        assertTrue(map.get("hoodie"));
+        assertFalse(map.get("jeans"));
+        assertEquals(style, StyleSet.fromMap(map));
+        assertEquals(style, StyleSet.fromBits(style.toBits()));
+        assertThrows(UnsupportedOperationException.class, () -> map.put("jeans", true));
+    }
+
+    @Test
+    void userKeepsMapAndSetInSync() {
+        User user = new User("Bob", "pw", "Vancouver", "M");
+        assertTrue(user.getStyleSet().isEmpty());
+
+        user.setStyle(StyleSet.of(ClothingItem.SCARF));
+        assertTrue(user.getStyle().get("scarf"));
+
+        Map<String, Boolean> style = new HashMap<>();
+        style.put("gloves", true);
+        user.setStyle(style);
+        assertEquals(StyleSet.of(ClothingItem.GLOVES), user.getStyleSet());
+    }
+}
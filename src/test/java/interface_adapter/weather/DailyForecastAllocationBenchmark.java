@@ -0,0 +1,76 @@
+package interface_adapter.weather;
+
+import entity.ForecastSeries;
+import use_case.weather.DailyForecastInputData;
+import use_case.weather.DailyForecastInteractor;
+import use_case.weather.ForecastProvider;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocation benchmark for the interactor-to-presenter path of the weather panel:
+ * one refresh from an already decoded 40-slot forecast to the formatted SlotViews.
+ * Reports bytes allocated per refresh (like JMH's gc.alloc.rate.norm) and time per refresh.
+ *
+ * Not part of the test run; after {@code mvn test-compile}, start it from the IDE or with
+ * {@code java -cp target/classes:target/test-classes:<org.json jar>
+ * interface_adapter.weather.DailyForecastAllocationBenchmark}.
+ */
+public class DailyForecastAllocationBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int MEASURED = 1_000_000;
+
+    public static void main(String[] args) {
+        ForecastSeries series = fortySlots();
+        WeatherViewModel viewModel = new WeatherViewModel();
+        DailyForecastInteractor interactor = new DailyForecastInteractor(
+                (ForecastProvider) city -> series, () -> "Toronto", new RuleBasedAdviceService(),
+                new DailyForecastPresenter(viewModel));
+        DailyForecastInputData input = new DailyForecastInputData("Toronto");
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            interactor.getDailyForecast(input);
+        }
+
+        long bytesBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED; i++) {
+            interactor.getDailyForecast(input);
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(thread) - bytesBefore;
+
+        if (!viewModel.isSuccess()) {
+            throw new IllegalStateException("Benchmark forecast was not presented: " + viewModel.getStatusMessage());
+        }
+        System.out.printf("refresh: %.1f ns/op, %.1f B/op%n", (double) nanos / MEASURED, (double) bytes / MEASURED);
+    }
+
+    /** Five days of 3-hour slots starting at local midnight, so every target hour is present today. */
+    private static ForecastSeries fortySlots() {
+        int n = 40;
+        long[] epochSeconds = new long[n];
+        double[] temperature = new double[n];
+        double[] feelsLike = new double[n];
+        double[] pop = new double[n];
+        double[] wind = new double[n];
+        String[] description = new String[n];
+        String[] icon = new String[n];
+        long midnight = (System.currentTimeMillis() / 1000 / 86_400) * 86_400;
+        for (int i = 0; i < n; i++) {
+            epochSeconds[i] = midnight + i * 3 * 3_600L;
+            temperature[i] = 2.5 + (i % 8);
+            feelsLike[i] = i % 3 == 0 ? Double.NaN : temperature[i] - 3.1;
+            pop[i] = (i % 5) / 5.0;
+            wind[i] = 1.5 + (i % 4) * 2.25;
+            description[i] = i % 2 == 0 ? "light rain" : "broken clouds";
+            icon[i] = i % 2 == 0 ? "10d" : "04d";
+        }
+        return new ForecastSeries("Toronto", 0, epochSeconds, temperature, feelsLike, pop, wind, description, icon);
+    }
+}
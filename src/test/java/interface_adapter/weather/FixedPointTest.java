@@ -0,0 +1,64 @@
+package interface_adapter.weather;
+
+import org.junit.jupiter.api.Test;
+import use_case.weather.DailyForecastOutputData;
+import use_case.weather.SlotDTO;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointTest {
+
+    @Test
+    void matchesStringFormat() {
+        double[] values = {0, -0.0, 0.05, 0.15, 0.25, 2.5, -0.04, -3.25, 9.96, 21.449999, 99.5, 1e6 + 0.05};
+        for (double v : values) {
+            for (int decimals = 0; decimals <= 2; decimals++) {
+                assertFormatted(v, decimals);
+            }
+        }
+    }
+
+    @Test
+    void matchesStringFormatOnRandomReadings() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            // Temperatures, wind speeds and probabilities as OWM reports them
+            double v = Math.round((random.nextDouble() * 120 - 50) * 100) / 100.0;
+            assertFormatted(v, 1);
+            assertFormatted(random.nextDouble() * 100, 0);
+        }
+    }
+
+    @Test
+    void presenterFormatsWithoutLosingAbsentReadings() {
+        WeatherViewModel viewModel = new WeatherViewModel();
+        new DailyForecastPresenter(viewModel).presentDailyForecast(new DailyForecastOutputData(
+                "Toronto",
+                List.of(
+                        new SlotDTO("Morning", -3.25, "light snow", "13d", 0.42, 5.66, -8.1),
+                        new SlotDTO("Evening", 10, "clear sky", "01n", Double.NaN, Double.NaN, Double.NaN)),
+                "", true, "OK"));
+
+        WeatherViewModel.SlotView morning = viewModel.getTodaySlots().get(0);
+        assertEquals("-3.3℃", morning.tempText);
+        assertEquals("42%", morning.precipText);
+        assertEquals("5.7 m/s", morning.windText);
+        assertEquals("light snow (feels like -8.1℃)", morning.descText);
+
+        WeatherViewModel.SlotView evening = viewModel.getTodaySlots().get(1);
+        assertEquals("10.0℃", evening.tempText);
+        assertEquals("", evening.precipText);
+        assertEquals("", evening.windText);
+        assertEquals("clear sky", evening.descText);
+    }
+
+    private static void assertFormatted(double value, int decimals) {
+        String expected = String.format(Locale.ROOT, "%." + decimals + "f", value);
+        assertEquals(expected, FixedPoint.append(new StringBuilder(), value, decimals).toString(),
+                "for " + value + " with " + decimals + " decimals");
+    }
+}
@@ -0,0 +1,311 @@
+package server;
+
+import data_access.user_storage.InMemoryUserRepository;
+import entity.DailyForecast;
+import entity.ForecastSeries;
+import entity.ForecastSlot;
+import entity.User;
+import interface_adapter.weather.RuleBasedAdviceService;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import use_case.multiple_outfit_suggestion.MultipleOutfitSuggestionDataAccessInterface;
+import use_case.outfit_image_generation.ImagePayload;
+import use_case.outfit_suggestion.OutfitSuggestionDataAccessInterface;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherWearServerTest {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final OkHttpClient client = new OkHttpClient.Builder()
+            .readTimeout(10, TimeUnit.SECONDS)
+            .build();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private WeatherWearServer server;
+    private volatile boolean blockAccessories;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = newServer(8, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    private WeatherWearServer newServer(int threads, int queue) throws IOException {
+        InMemoryUserRepository users = new InMemoryUserRepository();
+        users.save(new User("alice", "pw", "Toronto", "Female"));
+
+        WeatherWearServer started = WeatherWearServer.builder()
+                .port(0)
+                .workers(threads, queue)
+                .users(users)
+                .forecasts(city -> series(city), new RuleBasedAdviceService())
+                .outfits(new FakeOutfits())
+                .multipleOutfits(new FakeMultipleOutfits())
+                .accessories(purpose -> {
+                    if (blockAccessories) {
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return "Umbrella for " + purpose;
+                })
+                .images(user -> outfits -> {
+                    List<ImagePayload> images = new ArrayList<>();
+                    for (String outfit : outfits) {
+                        images.add(ImagePayload.ofBytes(outfit.getBytes(StandardCharsets.UTF_8)));
+                    }
+                    return images;
+                })
+                .build();
+        started.start();
+        return started;
+    }
+
+    @Test
+    void testHealth() throws IOException {
+        Reply reply = get("/api/health", null);
+
+        assertEquals(200, reply.status);
+        assertEquals("ok", reply.json.getString("status"));
+    }
+
+    @Test
+    void testLoginReturnsTokenAndWrongPasswordIs401() throws IOException {
+        assertNotNull(login());
+
+        Reply wrong = post("/api/login", "{\"username\":\"alice\",\"password\":\"nope\"}", null);
+        assertEquals(401, wrong.status);
+        assertEquals("Invalid username or password", wrong.json.getString("error"));
+    }
+
+    @Test
+    void testOutfitRequiresLogin() throws IOException {
+        assertEquals(401, post("/api/outfit", "{}", null).status);
+        assertEquals(401, post("/api/outfit", "{}", "not-a-token").status);
+    }
+
+    @Test
+    void testOutfitUsesTheSessionUser() throws IOException {
+        String token = login();
+
+        Reply reply = post("/api/outfit", "", token);
+
+        assertEquals(200, reply.status);
+        assertEquals("alice", reply.json.getString("username"));
+        assertEquals("Toronto", reply.json.getString("city"));
+        assertEquals("Outfit for alice in Toronto", reply.json.getString("suggestions"));
+    }
+
+    @Test
+    void testMultipleOutfitsAndCountBounds() throws IOException {
+        String token = login();
+
+        Reply reply = post("/api/outfits", "{\"location\":\"Ottawa\",\"count\":2}", token);
+        assertEquals(200, reply.status);
+        assertEquals(2, reply.json.getJSONArray("outfits").length());
+        assertEquals("Ottawa", reply.json.getString("city"));
+
+        assertEquals(400, post("/api/outfits", "{\"count\":99}", token).status);
+    }
+
+    @Test
+    void testForecastByCityWithoutLogin() throws IOException {
+        Reply reply = get("/api/forecast?city=Saint%20John", null);
+
+        assertEquals(200, reply.status);
+        assertEquals("Saint John", reply.json.getString("city"));
+        assertEquals(4, reply.json.getJSONArray("slots").length());
+        assertFalse(reply.json.getJSONArray("slots").getJSONObject(0).has("feelsLike"));
+
+        assertEquals(400, get("/api/forecast", null).status);
+    }
+
+    @Test
+    void testForecastDefaultsToUserCity() throws IOException {
+        Reply reply = get("/api/forecast", login());
+
+        assertEquals(200, reply.status);
+        assertEquals("Toronto", reply.json.getString("city"));
+    }
+
+    @Test
+    void testAccessoriesAndImages() throws IOException {
+        String token = login();
+
+        Reply accessories = post("/api/accessories", "{\"purpose\":\"hiking\"}", token);
+        assertEquals(200, accessories.status);
+        assertEquals("Umbrella for hiking", accessories.json.getString("accessories"));
+        assertEquals(422, post("/api/accessories", "{\"purpose\":\" \"}", token).status);
+
+        Reply images = post("/api/images", "{\"outfits\":[\"jeans\",\"coat\"]}", token);
+        assertEquals(200, images.status);
+        byte[] second = Base64.getDecoder().decode(images.json.getJSONArray("images").getString(1));
+        assertEquals("coat", new String(second, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testBadRequests() throws IOException {
+        assertEquals(405, get("/api/login", null).status);
+        assertEquals(400, post("/api/login", "not json", null).status);
+    }
+
+    @Test
+    void testLogoutEndsSession() throws IOException {
+        String token = login();
+
+        assertEquals(200, post("/api/logout", "", token).status);
+        assertEquals(401, post("/api/outfit", "", token).status);
+    }
+
+    @Test
+    void testBusyServerAnswers503() throws Exception {
+        server.stop(0);
+        server = newServer(1, 1);
+        String token = login();
+        blockAccessories = true;
+
+        // One request holds the only worker, one waits in the queue, the third is turned away
+        okhttp3.Callback ignore = new okhttp3.Callback() {
+            @Override
+            public void onFailure(okhttp3.Call call, IOException e) {
+            }
+
+            @Override
+            public void onResponse(okhttp3.Call call, Response response) {
+                response.close();
+            }
+        };
+        for (int i = 0; i < 2; i++) {
+            client.newCall(request("/api/accessories", "{\"purpose\":\"x\"}", token)).enqueue(ignore);
+            Thread.sleep(200);
+        }
+
+        Reply busy = post("/api/accessories", "{\"purpose\":\"x\"}", token);
+        assertEquals(503, busy.status);
+
+        release.countDown();
+    }
+
+    // ==================== Helpers ====================
+
+    private String login() throws IOException {
+        Reply reply = post("/api/login", "{\"username\":\"alice\",\"password\":\"pw\"}", null);
+        assertEquals(200, reply.status);
+        return reply.json.getString("token");
+    }
+
+    private Reply get(String path, String token) throws IOException {
+        Request.Builder builder = new Request.Builder().url("http://localhost:" + server.getPort() + path);
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+        return execute(builder.get().build());
+    }
+
+    private Reply post(String path, String body, String token) throws IOException {
+        return execute(request(path, body, token));
+    }
+
+    private Request request(String path, String body, String token) {
+        Request.Builder builder = new Request.Builder()
+                .url("http://localhost:" + server.getPort() + path)
+                .post(RequestBody.create(body, JSON));
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+        return builder.build();
+    }
+
+    private Reply execute(Request request) throws IOException {
+        try (Response response = client.newCall(request).execute()) {
+            return new Reply(response.code(), new JSONObject(response.body().string()));
+        }
+    }
+
+    /** Five days of 3-hour slots from local midnight, so every target hour of today is present. */
+    private static ForecastSeries series(String city) {
+        int n = 40;
+        long[] epochSeconds = new long[n];
+        double[] temperature = new double[n];
+        double[] feelsLike = new double[n];
+        double[] pop = new double[n];
+        double[] wind = new double[n];
+        String[] description = new String[n];
+        String[] icon = new String[n];
+        long midnight = (System.currentTimeMillis() / 1000 / 86_400) * 86_400;
+        for (int i = 0; i < n; i++) {
+            epochSeconds[i] = midnight + i * 3 * 3_600L;
+            temperature[i] = 5;
+            feelsLike[i] = Double.NaN;
+            pop[i] = 0.2;
+            wind[i] = 3;
+            description[i] = "clear sky";
+            icon[i] = "01d";
+        }
+        return new ForecastSeries(city, 0, epochSeconds, temperature, feelsLike, pop, wind, description, icon);
+    }
+
+    private static DailyForecast forecast(String location) {
+        List<ForecastSlot> slots = new ArrayList<>();
+        slots.add(new ForecastSlot("Now", 5, "clear sky", "01d", 0.1, 2, Double.NaN));
+        return new DailyForecast(location, LocalDate.now(), slots);
+    }
+
+    // ==================== Mock/Test Classes ====================
+
+    private static class Reply {
+        final int status;
+        final JSONObject json;
+
+        Reply(int status, JSONObject json) {
+            this.status = status;
+            this.json = json;
+        }
+    }
+
+    private static class FakeOutfits implements OutfitSuggestionDataAccessInterface {
+        @Override
+        public DailyForecast getWeatherForecast(String location) {
+            return forecast(location);
+        }
+
+        @Override
+        public List<String> generateOutfitSuggestions(User user, DailyForecast forecast) {
+            return List.of("Outfit for " + user.getName() + " in " + forecast.getCity());
+        }
+    }
+
+    private static class FakeMultipleOutfits implements MultipleOutfitSuggestionDataAccessInterface {
+        @Override
+        public DailyForecast getWeatherForecast(String location) {
+            return forecast(location);
+        }
+
+        @Override
+        public List<String> generateMultipleOutfitSuggestions(User user, DailyForecast forecast, int n) {
+            List<String> outfits = new ArrayList<>();
+            for (int i = 1; i <= n; i++) outfits.add("Outfit " + i);
+            return outfits;
+        }
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import data_access.user_storage.InMemoryUserRepository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class LoginInteractorTest {
@@ -89,5 +92,31 @@ class LoginInteractorTest {
         LoginInteractor interactor = new LoginInteractor(outputBoundary, userRepository);
         interactor.login(inputData);
     }
+
+    @Test
+    void failureRepositoryUnreachableTest() {
+        LoginInputData inputData = new LoginInputData("testuser", "testpassword");
+
+        // Repository that cannot be reached
+        InMemoryUserRepository offline = new InMemoryUserRepository() {
+            @Override
+            public User findByUsername(String username) {
+                throw new UncheckedIOException(new IOException("offline"));
+            }
+        };
+
+        // Presenter to verify the failure is not reported as a bad password
+        LoginOutputBoundary outputBoundary = new LoginOutputBoundary() {
+            @Override
+            public void present(LoginOutputData output) {
+                assertFalse(output.isSuccess());
+                assertEquals("Could not reach the user database. Please try again.", output.getMessage());
+                assertNull(output.getUser());
+            }
+        };
+
+        LoginInteractor interactor = new LoginInteractor(outputBoundary, offline);
+        interactor.login(inputData);
+    }
 }
 
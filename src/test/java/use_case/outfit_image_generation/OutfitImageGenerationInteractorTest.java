@@ -1,6 +1,7 @@
 package use_case.outfit_image_generation;
 
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,7 +39,7 @@ class OutfitImageGenerationInteractorTest {
     @Test
     void testSuccess() {
         FakeDAO dao = new FakeDAO();
-        dao.fakeImage = "BASE64IMAGE";
+        dao.fakeImage = ImagePayload.ofBytes(new byte[]{1, 2, 3});
         FakePresenter presenter = new FakePresenter();
 
         OutfitImageGenerationInteractor interactor =
@@ -48,8 +49,23 @@ class OutfitImageGenerationInteractorTest {
 
         assertFalse(presenter.failureCalled);
         assertTrue(presenter.successCalled);
-        assertEquals(1, presenter.outputData.getBase64Images().size());
-        assertEquals("BASE64IMAGE", presenter.outputData.getBase64Images().get(0));
+        assertEquals(1, presenter.outputData.getImages().size());
+        assertSame(dao.fakeImage, presenter.outputData.getImages().get(0));
+    }
+
+    @Test
+    void testImagesArePushedBeforeSuccess() {
+        StreamingFakeDAO dao = new StreamingFakeDAO();
+        FakePresenter presenter = new FakePresenter();
+
+        OutfitImageGenerationInteractor interactor =
+                new OutfitImageGenerationInteractor(dao, presenter);
+
+        interactor.generateImages(List.of("Outfit 1", "Outfit 2"));
+
+        // Arrival order, not outfit order, and all before the success view
+        assertEquals(List.of("1:2", "0:1", "success"), presenter.events);
+        assertEquals(List.of(dao.image1, dao.image2), presenter.outputData.getImages());
     }
 
 
@@ -57,15 +73,34 @@ class OutfitImageGenerationInteractorTest {
     static class FakeDAO implements OutfitImageGenerationDataAccessInterface {
 
         boolean returnEmpty = false;
-        String fakeImage = "";
+        ImagePayload fakeImage = ImagePayload.ofBytes(new byte[0]);
 
         @Override
-        public List<String> generateImages(List<String> outfits) {
+        public List<ImagePayload> generateImages(List<String> outfits) {
             if (returnEmpty) return List.of();
             return List.of(fakeImage);
         }
     }
 
+    // ===== Fake DAO that finishes the second outfit first =====
+    static class StreamingFakeDAO implements OutfitImageGenerationDataAccessInterface {
+
+        final ImagePayload image1 = ImagePayload.ofBytes(new byte[]{1});
+        final ImagePayload image2 = ImagePayload.ofBytes(new byte[]{2, 2});
+
+        @Override
+        public List<ImagePayload> generateImages(List<String> outfits) {
+            return List.of(image1, image2);
+        }
+
+        @Override
+        public List<ImagePayload> generateImages(List<String> outfits, OutfitImageListener listener) {
+            listener.onImageReady(1, image2);
+            listener.onImageReady(0, image1);
+            return generateImages(outfits);
+        }
+    }
+
     // ===== Fake Presenter =====
     static class FakePresenter implements OutfitImageGenerationOutputBoundary {
 
@@ -73,9 +108,20 @@ class OutfitImageGenerationInteractorTest {
         boolean failureCalled = false;
         String message = "";
         OutfitImageGenerationOutputData outputData;
+        List<String> events = new ArrayList<>();
+
+        @Override
+        public void prepareImageReadyView(int outfitIndex, ImagePayload image) {
+            try {
+                events.add(outfitIndex + ":" + image.size());
+            } catch (java.io.IOException e) {
+                throw new AssertionError(e);
+            }
+        }
 
         @Override
         public void prepareSuccessView(OutfitImageGenerationOutputData data) {
+            events.add("success");
             successCalled = true;
             outputData = data;
         }
@@ -235,6 +235,28 @@ class OutfitSuggestionInteractorTest {
                 "The current user should be passed to data access");
     }
 
+    /**
+     * Test that text deltas reach the stream presenter before the success view.
+     */
+    @Test
+    void testStreamingDeltasArriveBeforeSuccess() {
+        // Arrange
+        List<String> deltas = new ArrayList<>();
+        OutfitSuggestionInteractor streaming = new OutfitSuggestionInteractor(
+                testUser, dataAccess, presenter, delta -> {
+                    assertFalse(presenter.wasSuccessViewCalled(), "Deltas must come before the success view");
+                    deltas.add(delta);
+                });
+
+        // Act
+        streaming.execute(new OutfitSuggestionInputData("testUser", "Toronto"));
+
+        // Assert: the fake DAO has no real streaming, so the default sends the whole text once
+        assertTrue(presenter.wasSuccessViewCalled());
+        assertEquals(1, deltas.size());
+        assertEquals(presenter.getOutputData().getOutfitSuggestions(), deltas.get(0));
+    }
+
     // ==================== Mock/Test Classes ====================
 
     /**
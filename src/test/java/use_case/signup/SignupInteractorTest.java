@@ -6,6 +6,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import data_access.user_storage.InMemoryUserRepository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SignupInteractorTest {
@@ -108,5 +111,31 @@ class SignupInteractorTest {
         SignupInteractor interactor = new SignupInteractor(userRepository, outputBoundary);
         interactor.register(inputData);
     }
-}
 
+    @Test
+    void failureRepositoryUnreachableTest() {
+        // Input data whose name cannot be checked
+        SignupInputData inputData = new SignupInputData("unchecked", "password123", "Toronto", "Male");
+
+        // Repository that cannot be reached
+        InMemoryUserRepository offline = new InMemoryUserRepository() {
+            @Override
+            public boolean exists(String username) {
+                throw new UncheckedIOException(new IOException("offline"));
+            }
+        };
+
+        // Presenter to verify the name is not treated as free
+        SignupOutputBoundary outputBoundary = new SignupOutputBoundary() {
+            @Override
+            public void present(SignupOutputData output) {
+                assertFalse(output.isSuccess());
+                assertEquals("Could not reach the user database. Please try again.", output.getMessage());
+                assertFalse(PendingUserStorage.getInstance().hasPendingUser("unchecked"));
+            }
+        };
+
+        SignupInteractor interactor = new SignupInteractor(offline, outputBoundary);
+        interactor.register(inputData);
+    }
+}
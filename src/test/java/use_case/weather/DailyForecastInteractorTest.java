@@ -65,6 +65,49 @@ class DailyForecastInteractorTest {
         assertEquals("TEST_ADVICE", out.getAdvice());
     }
 
+    @Test
+    void picksFourTargetHoursFromOwmOrderedPayload() {
+        // Real OWM responses put "city" after "list"; entries here are UTC 06..21h
+        StringBuilder list = new StringBuilder();
+        for (int h = 6; h <= 21; h += 3) {
+            if (list.length() > 0) list.append(',');
+            list.append("{\"dt\":").append(1735689600L + h * 3600L)
+                    .append(",\"main\":{\"temp\":").append(h).append('}')
+                    .append(",\"weather\":[{\"description\":\"d").append(h)
+                    .append("\",\"icon\":\"01d\"}]}");
+        }
+        String json = "{\"list\":[" + list + "],\"city\":{\"name\":\"X\",\"timezone\":0}}";
+
+        CapturingOutputBoundary outputBoundary = new CapturingOutputBoundary();
+        DailyForecastInteractor interactor = new DailyForecastInteractor(
+                (ForecastAPIGateway) cityName -> json, new FakeLocationService(), new FakeAdviceService(), outputBoundary);
+
+        interactor.getDailyForecast(new DailyForecastInputData("Toronto"));
+
+        List<SlotDTO> slots = outputBoundary.capturedOutput.getSlots();
+        assertEquals(4, slots.size());
+        assertEquals(9.0, slots.get(0).getTemperature(), 0.0001);   // Morning -> 09h
+        assertEquals(15.0, slots.get(1).getTemperature(), 0.0001);  // Afternoon -> 15h
+        assertEquals(18.0, slots.get(2).getTemperature(), 0.0001);  // Evening -> 18h
+        assertEquals(21.0, slots.get(3).getTemperature(), 0.0001);  // Overnight -> 21h
+        // Optional readings absent from the payload stay NaN
+        assertTrue(Double.isNaN(slots.get(0).getPrecipProbability()));
+        assertTrue(Double.isNaN(slots.get(0).getWindSpeed()));
+        assertTrue(Double.isNaN(slots.get(0).getFeelsLike()));
+    }
+
+    @Test
+    void malformedJsonReportsFailure() {
+        CapturingOutputBoundary outputBoundary = new CapturingOutputBoundary();
+        DailyForecastInteractor interactor = new DailyForecastInteractor(
+                (ForecastAPIGateway) cityName -> "{\"list\":[", new FakeLocationService(), new FakeAdviceService(), outputBoundary);
+
+        interactor.getDailyForecast(new DailyForecastInputData("Toronto"));
+
+        assertFalse(outputBoundary.capturedOutput.isSuccess());
+        assertTrue(outputBoundary.capturedOutput.getSlots().isEmpty());
+    }
+
     // ========== Fake dependencies used only in this test ==========
 
     /**
@@ -0,0 +1,121 @@
+package use_case.weather;
+
+import entity.ForecastSeries;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForecastJsonDecoderTest {
+
+    private final ForecastJsonDecoder decoder = new ForecastJsonDecoder();
+
+    @Test
+    void decodesRealOwmLayoutWithCityAfterList() {
+        String json = "{\"cod\":\"200\",\"message\":0,\"cnt\":2,\"list\":["
+                + "{\"dt\":1735714800,\"main\":{\"temp\":-3.25,\"feels_like\":-8.1,\"temp_min\":-4,"
+                + "\"pressure\":1021,\"humidity\":80,\"temp_kf\":0.55},"
+                + "\"weather\":[{\"id\":600,\"main\":\"Snow\",\"description\":\"light snow\",\"icon\":\"13d\"},"
+                + "{\"id\":701,\"main\":\"Mist\",\"description\":\"mist\",\"icon\":\"50d\"}],"
+                + "\"clouds\":{\"all\":100},\"wind\":{\"speed\":5.66,\"deg\":250,\"gust\":11.2},"
+                + "\"visibility\":10000,\"pop\":0.42,\"snow\":{\"3h\":0.31},\"sys\":{\"pod\":\"d\"},"
+                + "\"dt_txt\":\"2025-01-01 07:00:00\"},"
+                + "{\"dt\":1735725600,\"main\":{\"temp\":1e1},"
+                + "\"weather\":[{\"description\":\"light snow\",\"icon\":\"13n\"}],"
+                + "\"pop\":null,\"sys\":{\"pod\":\"n\"}}"
+                + "],\"city\":{\"id\":6167865,\"name\":\"Toronto\",\"coord\":{\"lat\":43.7,\"lon\":-79.4},"
+                + "\"country\":\"CA\",\"timezone\":-18000,\"sunrise\":1735735200}}";
+
+        ForecastSeries series = decoder.decode(json);
+
+        assertEquals("Toronto", series.getCity());
+        assertEquals(-18000, series.getTimezoneOffsetSeconds());
+        assertEquals(2, series.size());
+
+        assertEquals(1735714800L, series.getEpochSeconds(0));
+        assertEquals(-3.25, series.getTemperature(0));
+        assertEquals(-8.1, series.getFeelsLike(0));
+        assertEquals(0.42, series.getPrecipProbability(0));
+        assertEquals(5.66, series.getWindSpeed(0));
+        // Only weather[0] is used
+        assertEquals("light snow", series.getDescription(0));
+        assertEquals("13d", series.getIconCode(0));
+        // 07:00 UTC is 02:00 in Toronto
+        assertEquals(2, series.getLocalHour(0));
+
+        assertEquals(10.0, series.getTemperature(1));
+        assertTrue(Double.isNaN(series.getFeelsLike(1)));
+        assertTrue(Double.isNaN(series.getPrecipProbability(1)));
+        assertTrue(Double.isNaN(series.getWindSpeed(1)));
+        // Repeated strings are shared within a document
+        assertSame(series.getDescription(0), series.getDescription(1));
+    }
+
+    @Test
+    void decodesEscapedStrings() {
+        String json = "{\"list\":[{\"dt\":1,\"main\":{\"temp\":0},"
+                + "\"weather\":[{\"description\":\"caf\\u00e9 \\\"fog\\\"\",\"icon\":\"50\\/d\"}]}],"
+                + "\"city\":{\"name\":\"Montr\\u00e9al\",\"timezone\":0}}";
+
+        ForecastSeries series = decoder.decode(json);
+
+        assertEquals("Montréal", series.getCity());
+        assertEquals("café \"fog\"", series.getDescription(0));
+        assertEquals("50/d", series.getIconCode(0));
+    }
+
+    @Test
+    void matchesOrgJsonOnGeneratedPayload() {
+        Random random = new Random(207);
+        JSONArray list = new JSONArray();
+        for (int i = 0; i < 40; i++) {
+            list.put(new JSONObject()
+                    .put("dt", 1735700000L + i * 10800L)
+                    .put("main", new JSONObject()
+                            .put("temp", Math.round((random.nextDouble() * 60 - 30) * 100) / 100.0)
+                            .put("feels_like", Math.round((random.nextDouble() * 60 - 30) * 100) / 100.0)
+                            .put("humidity", random.nextInt(100)))
+                    .put("weather", new JSONArray().put(new JSONObject()
+                            .put("id", 800)
+                            .put("description", random.nextBoolean() ? "clear sky" : "overcast clouds")
+                            .put("icon", random.nextBoolean() ? "01d" : "04n")))
+                    .put("wind", new JSONObject().put("speed", random.nextDouble() * 20))
+                    .put("pop", Math.round(random.nextDouble() * 100) / 100.0));
+        }
+        String json = new JSONObject()
+                .put("cod", "200")
+                .put("list", list)
+                .put("city", new JSONObject().put("name", "Toronto").put("timezone", -18000))
+                .toString();
+
+        ForecastSeries series = decoder.decode(json);
+
+        assertEquals(40, series.size());
+        for (int i = 0; i < 40; i++) {
+            JSONObject item = list.getJSONObject(i);
+            assertEquals(item.getLong("dt"), series.getEpochSeconds(i));
+            assertEquals(item.getJSONObject("main").getDouble("temp"), series.getTemperature(i));
+            assertEquals(item.getJSONObject("main").getDouble("feels_like"), series.getFeelsLike(i));
+            assertEquals(item.getJSONObject("wind").getDouble("speed"), series.getWindSpeed(i));
+            assertEquals(item.getDouble("pop"), series.getPrecipProbability(i));
+            assertEquals(item.getJSONArray("weather").getJSONObject(0).getString("icon"), series.getIconCode(i));
+        }
+    }
+
+    @Test
+    void missingListOrCityIsAnError() {
+        assertThrows(IllegalStateException.class,
+                () -> decoder.decode("{\"city\":{\"name\":\"X\",\"timezone\":0}}"));
+        assertThrows(IllegalStateException.class,
+                () -> decoder.decode("{\"list\":[]}"));
+    }
+
+    @Test
+    void malformedJsonIsAnError() {
+        assertThrows(IllegalStateException.class,
+                () -> decoder.decode("{\"list\":[{\"dt\":1,\"main\":{\"temp\":1}"));
+    }
+}
@@ -0,0 +1,111 @@
+package use_case.weather;
+
+import entity.ForecastSeries;
+import entity.ForecastSlot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HourlyForecastInteractorTest {
+
+    private static final long NOON = 1735732800L; // 2025-01-01T12:00Z
+
+    @Test
+    void asksTheStoreForTheCurrentSlotOnwards() {
+        FakeStore store = new FakeStore();
+        CapturingPresenter presenter = new CapturingPresenter();
+        Clock clock = Clock.fixed(Instant.ofEpochSecond(NOON + 3600), ZoneOffset.UTC);
+
+        new HourlyForecastInteractor(store, presenter, clock)
+                .getHourlyForecast(new HourlyForecastInputData(" Toronto ", 24));
+
+        // 13:00 is inside the 12:00 slot, so the range must still include it
+        assertEquals(NOON + 3600 - 3 * 3600 + 1, store.from);
+        assertEquals(NOON + 3600 + 24 * 3600, store.to);
+        assertEquals("Toronto", store.city);
+
+        assertTrue(presenter.output.isSuccess());
+        assertEquals(2, presenter.output.getSlots().size());
+        assertEquals("12:00", presenter.output.getSlots().get(0).getLabel());
+    }
+
+    @Test
+    void hoursAreCappedToTheForecastLength() {
+        FakeStore store = new FakeStore();
+        Clock clock = Clock.fixed(Instant.ofEpochSecond(NOON), ZoneOffset.UTC);
+
+        new HourlyForecastInteractor(store, new CapturingPresenter(), clock)
+                .getHourlyForecast(new HourlyForecastInputData("Toronto", 10_000));
+
+        assertEquals(NOON + HourlyForecastInteractor.MAX_HOURS * 3600L, store.to);
+    }
+
+    @Test
+    void emptyCityAndStoreErrorsAreReported() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        FakeStore store = new FakeStore();
+        HourlyForecastInteractor interactor = new HourlyForecastInteractor(store, presenter);
+
+        interactor.getHourlyForecast(new HourlyForecastInputData("  ", 24));
+        assertFalse(presenter.output.isSuccess());
+        assertNull(store.city);
+
+        store.fail = true;
+        interactor.getHourlyForecast(new HourlyForecastInputData("Toronto", 24));
+        assertFalse(presenter.output.isSuccess());
+        assertTrue(presenter.output.getSlots().isEmpty());
+    }
+
+    // ==================== Mock/Test Classes ====================
+
+    private static class FakeStore implements ForecastStore {
+        String city;
+        long from;
+        long to;
+        boolean fail;
+
+        @Override
+        public ForecastSeries getSeries(String cityName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<LocalDate> getDays(String cityName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ForecastSlot> getDay(String cityName, LocalDate day) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ForecastSlot> getRange(String cityName, long fromEpochSeconds, long toEpochSeconds)
+                throws Exception {
+            if (fail) throw new Exception("network down");
+            city = cityName;
+            from = fromEpochSeconds;
+            to = toEpochSeconds;
+            List<ForecastSlot> slots = new ArrayList<>();
+            slots.add(new ForecastSlot("12:00", 5, "clear sky", "01d", 0.1, 2, Double.NaN));
+            slots.add(new ForecastSlot("15:00", 6, "clear sky", "01d", 0.1, 2, Double.NaN));
+            return slots;
+        }
+    }
+
+    private static class CapturingPresenter implements HourlyForecastOutputBoundary {
+        HourlyForecastOutputData output;
+
+        @Override
+        public void presentHourlyForecast(HourlyForecastOutputData outputData) {
+            output = outputData;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package use_case.weather;
+
+import entity.ForecastSeries;
+import entity.ForecastSlot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiDayForecastInteractorTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void summarizesEachDayUpToTheLimit() {
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new MultiDayForecastInteractor(new FakeStore(), presenter)
+                .getMultiDayForecast(new MultiDayForecastInputData("Toronto", 2));
+
+        assertTrue(presenter.output.isSuccess());
+        List<DaySummaryDTO> days = presenter.output.getDays();
+        assertEquals(2, days.size());
+        assertEquals(FIRST, days.get(0).getDate());
+        assertEquals(FIRST.plusDays(1), days.get(1).getDate());
+    }
+
+    @Test
+    void summaryTakesRangeMaximaAndMiddayConditions() {
+        List<ForecastSlot> slots = new ArrayList<>();
+        slots.add(new ForecastSlot("06:00", 2, "fog", "50d", Double.NaN, 1, Double.NaN));
+        slots.add(new ForecastSlot("12:00", 9, "light rain", "10d", 0.6, Double.NaN, Double.NaN));
+        slots.add(new ForecastSlot("18:00", 4, "clear sky", "01n", 0.2, 5, Double.NaN));
+
+        DaySummaryDTO day = MultiDayForecastInteractor.summarize(FIRST, slots);
+
+        assertEquals(2, day.getMinTemperature());
+        assertEquals(9, day.getMaxTemperature());
+        assertEquals("light rain", day.getDescription());
+        assertEquals("10d", day.getIconCode());
+        // Missing readings are skipped, not propagated as NaN
+        assertEquals(0.6, day.getMaxPrecipProbability());
+        assertEquals(5, day.getMaxWindSpeed());
+        assertEquals(3, day.getSlotCount());
+    }
+
+    @Test
+    void storeErrorIsReported() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        FakeStore store = new FakeStore();
+        store.fail = true;
+
+        new MultiDayForecastInteractor(store, presenter)
+                .getMultiDayForecast(new MultiDayForecastInputData("Toronto", 5));
+
+        assertFalse(presenter.output.isSuccess());
+        assertTrue(presenter.output.getDays().isEmpty());
+    }
+
+    // ==================== Mock/Test Classes ====================
+
+    /** Three days of three slots each. */
+    private static class FakeStore implements ForecastStore {
+        boolean fail;
+
+        @Override
+        public ForecastSeries getSeries(String cityName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<LocalDate> getDays(String cityName) throws Exception {
+            if (fail) throw new Exception("network down");
+            return List.of(FIRST, FIRST.plusDays(1), FIRST.plusDays(2));
+        }
+
+        @Override
+        public List<ForecastSlot> getDay(String cityName, LocalDate day) {
+            List<ForecastSlot> slots = new ArrayList<>();
+            for (int h = 9; h <= 15; h += 3) {
+                slots.add(new ForecastSlot(h + ":00", h, "clear sky", "01d", 0.1, 2, Double.NaN));
+            }
+            return slots;
+        }
+
+        @Override
+        public List<ForecastSlot> getRange(String cityName, long fromEpochSeconds, long toEpochSeconds) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class CapturingPresenter implements MultiDayForecastOutputBoundary {
+        MultiDayForecastOutputData output;
+
+        @Override
+        public void presentMultiDayForecast(MultiDayForecastOutputData outputData) {
+            output = outputData;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IconLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final List<Runnable> pending = new ArrayList<>();
+    // Background work waits here until the test runs it, standing in for the download thread
+    private final Executor background = pending::add;
+
+    @Test
+    void showsPlaceholderThenDownloadedIcon() {
+        IconLoader loader = new IconLoader(dir, null, this::png, background, Runnable::run);
+        List<Icon> shown = new ArrayList<>();
+
+        loader.load("10d", shown::add);
+        assertEquals(1, shown.size());
+        assertSame(loader.getPlaceholder(), shown.get(0));
+
+        runPending();
+
+        assertEquals(2, shown.size());
+        assertEquals(16, shown.get(1).getIconWidth());
+        assertTrue(Files.exists(dir.resolve("10d.png")));
+    }
+
+    @Test
+    void secondLoadIsServedFromMemory() {
+        IconLoader loader = new IconLoader(dir, null, this::png, background, Runnable::run);
+        loader.load("01d", icon -> { });
+        runPending();
+
+        List<Icon> shown = new ArrayList<>();
+        loader.load("01d", shown::add);
+
+        assertEquals(1, shown.size());
+        assertNotSame(loader.getPlaceholder(), shown.get(0));
+        assertTrue(pending.isEmpty());
+    }
+
+    @Test
+    void diskCacheSurvivesRestart() {
+        IconLoader first = new IconLoader(dir, null, this::png, background, Runnable::run);
+        first.load("04n", icon -> { });
+        runPending();
+        assertEquals(1, fetches.get());
+
+        IconLoader restarted = new IconLoader(dir, null, code -> {
+            throw new IOException("offline");
+        }, background, Runnable::run);
+        List<Icon> shown = new ArrayList<>();
+        restarted.load("04n", shown::add);
+        runPending();
+
+        assertEquals(2, shown.size());
+        assertEquals(16, shown.get(1).getIconWidth());
+    }
+
+    @Test
+    void concurrentRequestsShareOneDownload() {
+        IconLoader loader = new IconLoader(dir, null, this::png, background, Runnable::run);
+        List<Icon> shown = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            loader.load("02d", shown::add);
+        }
+        runPending();
+
+        assertEquals(1, fetches.get());
+        // Four placeholders, then four icons
+        assertEquals(8, shown.size());
+    }
+
+    @Test
+    void failedDownloadKeepsPlaceholderAndIsNotRetriedAtOnce() {
+        IconLoader loader = new IconLoader(dir, null, code -> {
+            fetches.incrementAndGet();
+            throw new IOException("offline");
+        }, background, Runnable::run);
+        List<Icon> shown = new ArrayList<>();
+
+        loader.load("11d", shown::add);
+        runPending();
+        loader.load("11d", shown::add);
+        runPending();
+
+        assertEquals(1, fetches.get());
+        assertEquals(2, shown.size());
+        assertSame(loader.getPlaceholder(), shown.get(1));
+        assertFalse(Files.exists(dir.resolve("11d.png")));
+    }
+
+    @Test
+    void unknownCodesAreRejectedWithoutFetching() {
+        IconLoader loader = new IconLoader(dir, null, this::png, background, Runnable::run);
+        List<Icon> shown = new ArrayList<>();
+
+        loader.load("../../etc/passwd", shown::add);
+        loader.load(null, shown::add);
+
+        assertEquals(2, shown.size());
+        assertNull(shown.get(0));
+        assertTrue(pending.isEmpty());
+    }
+
+    @Test
+    void warmUpLoadsEveryKnownCodeWithoutBundle() {
+        IconLoader loader = new IconLoader(dir, null, this::png, background, Runnable::run);
+
+        loader.warmUp();
+        runPending();
+
+        assertEquals(IconLoader.KNOWN_CODES.size(), fetches.get());
+        assertEquals(18, IconLoader.KNOWN_CODES.size());
+    }
+
+    @Test
+    void everyKnownCodeIsBundled() {
+        IconLoader loader = new IconLoader(dir, IconLoader.BUNDLED_DIR, code -> {
+            fetches.incrementAndGet();
+            throw new IOException("offline");
+        }, background, Runnable::run);
+        List<Icon> shown = new ArrayList<>();
+
+        for (String code : IconLoader.KNOWN_CODES) {
+            loader.load(code, shown::add);
+        }
+        runPending();
+
+        assertEquals(0, fetches.get());
+        // A placeholder per code, then the bundled icons
+        int codes = IconLoader.KNOWN_CODES.size();
+        assertEquals(2 * codes, shown.size());
+        for (Icon icon : shown.subList(codes, 2 * codes)) {
+            assertNotSame(loader.getPlaceholder(), icon);
+            assertEquals(IconLoader.SIZE, icon.getIconWidth());
+            assertEquals(IconLoader.SIZE, icon.getIconHeight());
+        }
+        assertFalse(Files.exists(dir.resolve("01d.png")));
+    }
+
+    // ==================== Helpers ====================
+
+    private void runPending() {
+        while (!pending.isEmpty()) {
+            pending.remove(0).run();
+        }
+    }
+
+    private byte[] png(String code) throws IOException {
+        fetches.incrementAndGet();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,122 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSchedulerTest {
+
+    // Completions run on the worker thread instead of the EDT
+    private final TaskScheduler scheduler = new TaskScheduler(Runnable::run);
+
+    @Test
+    void runsWorkThenCompletion() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicBoolean worked = new AtomicBoolean();
+
+        scheduler.slot(TaskScheduler.Lane.UI).submit(() -> worked.set(true), done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(worked.get());
+        assertEquals(1, scheduler.getCompletedCount(TaskScheduler.Lane.UI));
+    }
+
+    @Test
+    void newSubmissionCancelsRunningTask() throws InterruptedException {
+        TaskScheduler.Slot slot = scheduler.slot(TaskScheduler.Lane.SUGGESTION);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicBoolean sawCancelled = new AtomicBoolean();
+        AtomicBoolean firstDone = new AtomicBoolean();
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        slot.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                sawCancelled.set(TaskScheduler.isCurrentTaskCancelled());
+                interrupted.countDown();
+            }
+        }, () -> firstDone.set(true));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        slot.submit(() -> { }, secondDone::countDown);
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(secondDone.await(5, TimeUnit.SECONDS));
+        assertTrue(sawCancelled.get());
+        assertFalse(firstDone.get());
+        assertEquals(1, scheduler.getCancelledCount(TaskScheduler.Lane.SUGGESTION));
+        assertEquals(1, scheduler.getCompletedCount(TaskScheduler.Lane.SUGGESTION));
+    }
+
+    @Test
+    void cancelledQueuedTaskNeverRuns() throws InterruptedException {
+        // Fill the image lane's threads so the next task has to queue
+        int threads = TaskScheduler.Lane.IMAGE.threads;
+        CountDownLatch busy = new CountDownLatch(threads);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < threads; i++) {
+            scheduler.slot(TaskScheduler.Lane.IMAGE).submit(() -> {
+                busy.countDown();
+                awaitQuietly(release);
+            }, null);
+        }
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+
+        AtomicInteger runs = new AtomicInteger();
+        TaskScheduler.Slot queued = scheduler.slot(TaskScheduler.Lane.IMAGE);
+        queued.submit(runs::incrementAndGet, runs::incrementAndGet);
+        assertEquals(1, scheduler.getQueueDepth(TaskScheduler.Lane.IMAGE));
+
+        queued.cancel();
+        assertEquals(0, scheduler.getQueueDepth(TaskScheduler.Lane.IMAGE));
+
+        release.countDown();
+        CountDownLatch after = new CountDownLatch(1);
+        scheduler.slot(TaskScheduler.Lane.IMAGE).submit(() -> { }, after::countDown);
+        assertTrue(after.await(5, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void lanesDoNotBlockEachOther() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < TaskScheduler.Lane.IMAGE.threads; i++) {
+            scheduler.slot(TaskScheduler.Lane.IMAGE).submit(() -> awaitQuietly(release), null);
+        }
+
+        CountDownLatch forecast = new CountDownLatch(1);
+        scheduler.slot(TaskScheduler.Lane.UI).submit(() -> { }, forecast::countDown);
+
+        assertTrue(forecast.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    void cancelAfterFinishIsNotCounted() throws InterruptedException {
+        TaskScheduler.Slot slot = scheduler.slot(TaskScheduler.Lane.UI);
+        CountDownLatch done = new CountDownLatch(1);
+        slot.submit(() -> { }, done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        slot.cancel();
+
+        assertEquals(0, scheduler.getCancelledCount(TaskScheduler.Lane.UI));
+        assertTrue(scheduler.summary().contains("UI: 0 queued"));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package view;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import use_case.outfit_image_generation.ImagePayload;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThumbnailLoaderTest {
+
+    @AfterEach
+    void clearCache() {
+        ThumbnailLoader.clearCache();
+    }
+
+    @Test
+    void thumbnailKeepsAspectRatioAndColours() throws IOException {
+        ImagePayload image = png(2000, 1500);
+
+        BufferedImage thumbnail = ThumbnailLoader.getThumbnail(image, 360);
+
+        assertEquals(360, thumbnail.getWidth());
+        assertEquals(270, thumbnail.getHeight());
+        // Left half red, right half blue
+        assertEquals(Color.RED.getRGB(), thumbnail.getRGB(40, 135));
+        assertEquals(Color.BLUE.getRGB(), thumbnail.getRGB(320, 135));
+    }
+
+    @Test
+    void decodeSubsamplesLargeImages() throws IOException {
+        BufferedImage decoded = ThumbnailLoader.decodeSubsampled(png(2000, 1500), 360);
+
+        // Every second pixel: still at least twice the target, never the full 2000
+        assertEquals(1000, decoded.getWidth());
+        assertEquals(750, decoded.getHeight());
+    }
+
+    @Test
+    void smallImagesAreNotEnlarged() throws IOException {
+        BufferedImage thumbnail = ThumbnailLoader.getThumbnail(png(200, 100), 360);
+
+        assertEquals(200, thumbnail.getWidth());
+        assertEquals(100, thumbnail.getHeight());
+    }
+
+    @Test
+    void repeatedRequestsAreServedFromCache() throws IOException {
+        ImagePayload image = png(800, 800);
+
+        BufferedImage first = ThumbnailLoader.getThumbnail(image, 360);
+        assertSame(first, ThumbnailLoader.getThumbnail(image, 360));
+        assertEquals(1, ThumbnailLoader.cacheSize());
+    }
+
+    @Test
+    void samePixelsInNewPayloadHitCache() throws IOException {
+        ImagePayload image = png(800, 800);
+        ImagePayload copy = ImagePayload.ofBytes(image.toByteArray());
+
+        BufferedImage first = ThumbnailLoader.getThumbnail(image, 360);
+        assertSame(first, ThumbnailLoader.getThumbnail(copy, 360));
+        assertNotSame(first, ThumbnailLoader.getThumbnail(copy, 180));
+        assertEquals(2, ThumbnailLoader.cacheSize());
+    }
+
+    @Test
+    void undecodableBytesGiveNull() throws IOException {
+        assertNull(ThumbnailLoader.getThumbnail(ImagePayload.ofBytes(new byte[]{1, 2, 3}), 360));
+    }
+
+    private static ImagePayload png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, width / 2, height);
+        g.setColor(Color.BLUE);
+        g.fillRect(width / 2, 0, width - width / 2, height);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return ImagePayload.ofBytes(out.toByteArray());
+    }
+}